@@ -0,0 +1,79 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.builtin;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+/**
+ * Hand-written equivalent of the {@link AppointmentMapper} implementation as generated before the
+ * {@link DatatypeFactory} was kept in a static field of the mapper, i.e. obtaining a new factory for each conversion.
+ *
+ * @author agent
+ */
+public class PerCallLookupAppointmentMapper implements AppointmentMapper {
+
+    @Override
+    public AppointmentDto appointmentToDto(Appointment appointment) {
+        if ( appointment == null ) {
+            return null;
+        }
+
+        AppointmentDto appointmentDto = new AppointmentDto();
+
+        appointmentDto.setStart( dateToXmlGregorianCalendar( appointment.getStart() ) );
+        appointmentDto.setEnd( calendarToXmlGregorianCalendar( appointment.getEnd() ) );
+
+        return appointmentDto;
+    }
+
+    private XMLGregorianCalendar dateToXmlGregorianCalendar(Date date) {
+        if ( date == null ) {
+            return null;
+        }
+
+        try {
+            GregorianCalendar c = new GregorianCalendar();
+            c.setTime( date );
+            return DatatypeFactory.newInstance().newXMLGregorianCalendar( c );
+        }
+        catch ( DatatypeConfigurationException ex ) {
+            throw new RuntimeException( ex );
+        }
+    }
+
+    private XMLGregorianCalendar calendarToXmlGregorianCalendar(Calendar cal) {
+        if ( cal == null ) {
+            return null;
+        }
+
+        try {
+            GregorianCalendar gcal = new GregorianCalendar();
+            gcal.setTimeInMillis( cal.getTimeInMillis() );
+            return DatatypeFactory.newInstance().newXMLGregorianCalendar( gcal );
+        }
+        catch ( DatatypeConfigurationException ex ) {
+            throw new RuntimeException( ex );
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.builtin;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the conversion of {@link Date} and {@link Calendar} properties into {@code XMLGregorianCalendar} using the
+ * mapper-wide {@code DatatypeFactory} of the generated mapper with obtaining a new factory for each conversion.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class XmlGregorianCalendarBenchmark {
+
+    private final AppointmentMapper generatedMapper = AppointmentMapper.INSTANCE;
+    private final AppointmentMapper perCallLookupMapper = new PerCallLookupAppointmentMapper();
+
+    private Appointment appointment;
+
+    @Setup
+    public void createAppointment() {
+        appointment = new Appointment();
+        appointment.setStart( new Date() );
+        appointment.setEnd( Calendar.getInstance() );
+    }
+
+    @Benchmark
+    public AppointmentDto generatedMapper() {
+        return generatedMapper.appointmentToDto( appointment );
+    }
+
+    @Benchmark
+    public AppointmentDto perCallDatatypeFactoryLookup() {
+        return perCallLookupMapper.appointmentToDto( appointment );
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.collection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares iterable and map mapping methods taking over the elements as they are, copying them in bulk (as generated)
+ * with adding them one by one.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BulkCopyBenchmark {
+
+    private final ItemCopyMapper generatedMapper = ItemCopyMapper.INSTANCE;
+    private final ItemCopyMapper elementWiseMapper = new ElementWiseItemCopyMapper();
+
+    @Param("10000")
+    private int size;
+
+    private List<Item> list;
+    private Item[] array;
+    private Map<String, Item> map;
+
+    @Setup
+    public void createItems() {
+        list = new ArrayList<Item>( size );
+        map = new HashMap<String, Item>();
+
+        for ( int i = 0; i < size; i++ ) {
+            Item item = new Item();
+            item.setName( "item-" + i );
+            item.setQuantity( i );
+
+            list.add( item );
+            map.put( item.getName(), item );
+        }
+
+        array = list.toArray( new Item[size] );
+    }
+
+    @Benchmark
+    public List<Item> listBulkCopy() {
+        return generatedMapper.copyList( list );
+    }
+
+    @Benchmark
+    public List<Item> listElementWise() {
+        return elementWiseMapper.copyList( list );
+    }
+
+    @Benchmark
+    public Item[] listToArrayBulkCopy() {
+        return generatedMapper.listToArray( list );
+    }
+
+    @Benchmark
+    public Item[] listToArrayElementWise() {
+        return elementWiseMapper.listToArray( list );
+    }
+
+    @Benchmark
+    public Item[] arrayBulkCopy() {
+        return generatedMapper.copyArray( array );
+    }
+
+    @Benchmark
+    public Item[] arrayElementWise() {
+        return elementWiseMapper.copyArray( array );
+    }
+
+    @Benchmark
+    public Map<String, Item> mapBulkCopy() {
+        return generatedMapper.copyMap( map );
+    }
+
+    @Benchmark
+    public Map<String, Item> mapElementWise() {
+        return elementWiseMapper.copyMap( map );
+    }
+}
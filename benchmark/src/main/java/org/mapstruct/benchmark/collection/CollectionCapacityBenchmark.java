@@ -0,0 +1,112 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.collection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares iterable and map mapping methods creating their result with an initial capacity derived from the source
+ * size (as generated) with creating it with the default capacity. Run with {@code -prof gc} to compare the allocation
+ * rates ({@code gc.alloc.rate.norm}).
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CollectionCapacityBenchmark {
+
+    private final ItemMapper generatedMapper = ItemMapper.INSTANCE;
+    private final ItemMapper defaultCapacityMapper = new DefaultCapacityItemMapper();
+
+    @Param("10000")
+    private int size;
+
+    private List<Item> list;
+    private Set<Item> set;
+    private Map<String, Item> map;
+
+    @Setup
+    public void createItems() {
+        list = new ArrayList<Item>( size );
+        set = new HashSet<Item>();
+        map = new HashMap<String, Item>();
+
+        for ( int i = 0; i < size; i++ ) {
+            Item item = new Item();
+            item.setName( "item-" + i );
+            item.setQuantity( i );
+
+            list.add( item );
+            set.add( item );
+            map.put( item.getName(), item );
+        }
+    }
+
+    @Benchmark
+    public List<ItemDto> listWithInitialCapacity() {
+        return generatedMapper.itemsToDtos( list );
+    }
+
+    @Benchmark
+    public List<ItemDto> listWithDefaultCapacity() {
+        return defaultCapacityMapper.itemsToDtos( list );
+    }
+
+    @Benchmark
+    public Set<ItemDto> setWithInitialCapacity() {
+        return generatedMapper.itemsToDtoSet( set );
+    }
+
+    @Benchmark
+    public Set<ItemDto> setWithDefaultCapacity() {
+        return defaultCapacityMapper.itemsToDtoSet( set );
+    }
+
+    @Benchmark
+    public Map<String, ItemDto> mapWithInitialCapacity() {
+        return generatedMapper.itemMapToDtoMap( map );
+    }
+
+    @Benchmark
+    public Map<String, ItemDto> mapWithDefaultCapacity() {
+        return defaultCapacityMapper.itemMapToDtoMap( map );
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.collection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hand-written equivalent of the {@link ItemMapper} implementation as generated before the results of iterable and
+ * map mapping methods were created with an initial capacity, i.e. growing them while adding the elements.
+ *
+ * @author agent
+ */
+public class DefaultCapacityItemMapper implements ItemMapper {
+
+    @Override
+    public ItemDto itemToDto(Item item) {
+        return ItemMapper.INSTANCE.itemToDto( item );
+    }
+
+    @Override
+    public List<ItemDto> itemsToDtos(List<Item> items) {
+        if ( items == null ) {
+            return null;
+        }
+
+        List<ItemDto> list = new ArrayList<ItemDto>();
+        for ( Item item : items ) {
+            list.add( itemToDto( item ) );
+        }
+
+        return list;
+    }
+
+    @Override
+    public Set<ItemDto> itemsToDtoSet(Set<Item> items) {
+        if ( items == null ) {
+            return null;
+        }
+
+        Set<ItemDto> set = new HashSet<ItemDto>();
+        for ( Item item : items ) {
+            set.add( itemToDto( item ) );
+        }
+
+        return set;
+    }
+
+    @Override
+    public Map<String, ItemDto> itemMapToDtoMap(Map<String, Item> items) {
+        if ( items == null ) {
+            return null;
+        }
+
+        Map<String, ItemDto> map = new HashMap<String, ItemDto>();
+
+        for ( java.util.Map.Entry<String, Item> entry : items.entrySet() ) {
+            String key = entry.getKey();
+            ItemDto value = itemToDto( entry.getValue() );
+            map.put( key, value );
+        }
+
+        return map;
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.collection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hand-written equivalent of the {@link ItemCopyMapper} implementation as generated before elements taken over as they
+ * are were copied in bulk, i.e. adding them one by one.
+ *
+ * @author agent
+ */
+public class ElementWiseItemCopyMapper implements ItemCopyMapper {
+
+    @Override
+    public List<Item> copyList(List<Item> items) {
+        if ( items == null ) {
+            return null;
+        }
+
+        List<Item> list = new ArrayList<Item>( items.size() );
+
+        for ( Item item : items ) {
+            list.add( item );
+        }
+
+        return list;
+    }
+
+    @Override
+    public Item[] listToArray(List<Item> items) {
+        if ( items == null ) {
+            return null;
+        }
+
+        Item[] itemTmp = new Item[items.size()];
+        int i = 0;
+        for ( Item item : items ) {
+            itemTmp[i] = item;
+            i++;
+        }
+
+        return itemTmp;
+    }
+
+    @Override
+    public Item[] copyArray(Item[] items) {
+        if ( items == null ) {
+            return null;
+        }
+
+        Item[] itemTmp = new Item[items.length];
+        int i = 0;
+        for ( Item item : items ) {
+            itemTmp[i] = item;
+            i++;
+        }
+
+        return itemTmp;
+    }
+
+    @Override
+    public Map<String, Item> copyMap(Map<String, Item> items) {
+        if ( items == null ) {
+            return null;
+        }
+
+        Map<String, Item> map = new HashMap<String, Item>( Math.max( (int) ( items.size() / .75f ) + 1, 16 ) );
+
+        for ( java.util.Map.Entry<String, Item> entry : items.entrySet() ) {
+            String key = entry.getKey();
+            Item value = entry.getValue();
+            map.put( key, value );
+        }
+
+        return map;
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.collection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares mapping methods returning sets of enum elements and maps with enum keys, creating {@code EnumSet} and
+ * {@code EnumMap} instances (as generated with {@code mapstruct.enumSetsAndMaps} enabled) with creating
+ * {@code HashSet} and {@code HashMap} instances. Run with {@code -prof gc} for comparing the allocated memory.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EnumCollectionBenchmark {
+
+    private final StatusMapper generatedMapper = StatusMapper.INSTANCE;
+    private final StatusMapper hashMapper = new HashStatusMapper();
+
+    @Param("100")
+    private int size;
+
+    private List<Status> statuses;
+    private Map<String, Long> counts;
+
+    @Setup
+    public void createStatuses() {
+        Status[] values = Status.values();
+        statuses = new ArrayList<Status>( size );
+        counts = new HashMap<String, Long>();
+
+        for ( int i = 0; i < size; i++ ) {
+            statuses.add( values[i % values.length] );
+        }
+
+        for ( Status status : values ) {
+            counts.put( status.name(), (long) status.ordinal() );
+        }
+    }
+
+    @Benchmark
+    public Set<Status> setEnumSet() {
+        return generatedMapper.toStatusSet( statuses );
+    }
+
+    @Benchmark
+    public Set<Status> setHashSet() {
+        return hashMapper.toStatusSet( statuses );
+    }
+
+    @Benchmark
+    public Map<Status, Long> mapEnumMap() {
+        return generatedMapper.toStatusMap( counts );
+    }
+
+    @Benchmark
+    public Map<Status, Long> mapHashMap() {
+        return hashMapper.toStatusMap( counts );
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.collection;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hand-written equivalent of the {@link StatusMapper} implementation as generated without
+ * {@code mapstruct.enumSetsAndMaps}, i.e. creating sets of enum elements and maps with enum keys as {@code HashSet}
+ * and {@code HashMap}, respectively.
+ *
+ * @author agent
+ */
+public class HashStatusMapper implements StatusMapper {
+
+    @Override
+    public Set<Status> toStatusSet(List<Status> statuses) {
+        if ( statuses == null ) {
+            return null;
+        }
+
+        Set<Status> set = new HashSet<Status>( statuses );
+
+        return set;
+    }
+
+    @Override
+    public Map<Status, Long> toStatusMap(Map<String, Long> counts) {
+        if ( counts == null ) {
+            return null;
+        }
+
+        Map<Status, Long> map = new HashMap<Status, Long>( Math.max( (int) ( counts.size() / .75f ) + 1, 16 ) );
+
+        for ( java.util.Map.Entry<String, Long> entry : counts.entrySet() ) {
+            Status key = Enum.valueOf( Status.class, entry.getKey() );
+            Long value = entry.getValue();
+            map.put( key, value );
+        }
+
+        return map;
+    }
+}
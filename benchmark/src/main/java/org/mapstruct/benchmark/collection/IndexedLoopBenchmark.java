@@ -0,0 +1,82 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares iterable mapping methods iterating over the source list with an iterator (as generated by default) with
+ * iterating by index (as generated with {@code mapstruct.indexedLoops=true}). Run with {@code -prof gc} to compare the
+ * allocation rates ({@code gc.alloc.rate.norm}), which include the iterator unless it is removed by escape analysis.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IndexedLoopBenchmark {
+
+    private final ItemMapper generatedMapper = ItemMapper.INSTANCE;
+    private final ItemMapper indexedLoopMapper = new IndexedLoopItemMapper();
+
+    @Param({ "10", "1000" })
+    private int size;
+
+    private List<Item> list;
+
+    @Setup
+    public void createItems() {
+        list = new ArrayList<Item>( size );
+
+        for ( int i = 0; i < size; i++ ) {
+            Item item = new Item();
+            item.setName( "item-" + i );
+            item.setQuantity( i );
+
+            list.add( item );
+        }
+    }
+
+    @Benchmark
+    public List<ItemDto> iteratorLoop() {
+        return generatedMapper.itemsToDtos( list );
+    }
+
+    @Benchmark
+    public List<ItemDto> indexedLoop() {
+        return indexedLoopMapper.itemsToDtos( list );
+    }
+}
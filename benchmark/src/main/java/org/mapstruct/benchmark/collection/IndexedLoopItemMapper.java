@@ -0,0 +1,72 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Hand-written equivalent of the {@link ItemMapper} implementation as generated with the processor option
+ * {@code mapstruct.indexedLoops=true}, i.e. iterating over source lists by index.
+ *
+ * @author agent
+ */
+public class IndexedLoopItemMapper implements ItemMapper {
+
+    @Override
+    public ItemDto itemToDto(Item item) {
+        return ItemMapper.INSTANCE.itemToDto( item );
+    }
+
+    @Override
+    public List<ItemDto> itemsToDtos(List<Item> items) {
+        if ( items == null ) {
+            return null;
+        }
+
+        List<ItemDto> list = new ArrayList<ItemDto>( items.size() );
+
+        if ( items instanceof RandomAccess ) {
+            for ( int i = 0; i < items.size(); i++ ) {
+                Item item = items.get( i );
+                list.add( itemToDto( item ) );
+            }
+        }
+        else {
+            for ( Item item : items ) {
+                list.add( itemToDto( item ) );
+            }
+        }
+
+        return list;
+    }
+
+    @Override
+    public Set<ItemDto> itemsToDtoSet(Set<Item> items) {
+        return ItemMapper.INSTANCE.itemsToDtoSet( items );
+    }
+
+    @Override
+    public Map<String, ItemDto> itemMapToDtoMap(Map<String, Item> items) {
+        return ItemMapper.INSTANCE.itemMapToDtoMap( items );
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.collection;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares mapping an array of primitives to an array of another primitive type using a single index for source and
+ * result array (as generated) with iterating over the source array while counting the result index separately.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PrimitiveArrayBenchmark {
+
+    private final SampleMapper generatedMapper = SampleMapper.INSTANCE;
+    private final SampleMapper twoCounterMapper = new TwoCounterSampleMapper();
+
+    @Param("10000")
+    private int size;
+
+    private int[] samples;
+    private long[] target;
+
+    @Setup
+    public void createSamples() {
+        samples = new int[size];
+        target = new long[size];
+
+        for ( int i = 0; i < size; i++ ) {
+            samples[i] = i;
+        }
+    }
+
+    @Benchmark
+    public long[] newArraySingleIndex() {
+        return generatedMapper.widen( samples );
+    }
+
+    @Benchmark
+    public long[] newArrayTwoCounters() {
+        return twoCounterMapper.widen( samples );
+    }
+
+    @Benchmark
+    public long[] existingArraySingleIndex() {
+        generatedMapper.widen( samples, target );
+        return target;
+    }
+
+    @Benchmark
+    public long[] existingArrayTwoCounters() {
+        twoCounterMapper.widen( samples, target );
+        return target;
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.collection;
+
+/**
+ * Hand-written equivalent of the {@link SampleMapper} implementation as generated before arrays were mapped to arrays
+ * using a single index, i.e. iterating over the source array while counting the result index separately.
+ *
+ * @author agent
+ */
+public class TwoCounterSampleMapper implements SampleMapper {
+
+    @Override
+    public long[] widen(int[] samples) {
+        if ( samples == null ) {
+            return null;
+        }
+
+        long[] longTmp = new long[samples.length];
+        int i = 0;
+        for ( int sample : samples ) {
+            longTmp[i] = sample;
+            i++;
+        }
+
+        return longTmp;
+    }
+
+    @Override
+    public void widen(int[] samples, long[] target) {
+        if ( samples == null ) {
+            return;
+        }
+
+        int i = 0;
+        for ( int sample : samples ) {
+            if ( ( i >= target.length ) || ( i >= samples.length ) ) {
+                break;
+            }
+            target[i] = sample;
+            i++;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.date;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+
+/**
+ * Hand-written equivalent of the {@link EventMapper} implementation as generated with the processor option
+ * {@code mapstruct.cacheDateFormats} enabled, i.e. using one thread-local {@link SimpleDateFormat} per pattern.
+ *
+ * @author agent
+ */
+public class CachedDateFormatEventMapper implements EventMapper {
+
+    private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT_YYYY_MM_DD_HH_MM =
+        new ThreadLocal<SimpleDateFormat>() {
+            @Override
+            protected SimpleDateFormat initialValue() {
+                return new SimpleDateFormat( "yyyy-MM-dd HH:mm" );
+            }
+        };
+
+    @Override
+    public EventDto eventToDto(Event event) {
+        if ( event == null ) {
+            return null;
+        }
+
+        EventDto eventDto = new EventDto();
+
+        if ( event.getStart() != null ) {
+            eventDto.setStart( DATE_FORMAT_YYYY_MM_DD_HH_MM.get().format( event.getStart() ) );
+        }
+        if ( event.getEnd() != null ) {
+            eventDto.setEnd( DATE_FORMAT_YYYY_MM_DD_HH_MM.get().format( event.getEnd() ) );
+        }
+
+        return eventDto;
+    }
+
+    @Override
+    public Event dtoToEvent(EventDto eventDto) {
+        if ( eventDto == null ) {
+            return null;
+        }
+
+        Event event = new Event();
+
+        if ( eventDto.getStart() != null ) {
+            try {
+                event.setStart( DATE_FORMAT_YYYY_MM_DD_HH_MM.get().parse( eventDto.getStart() ) );
+            }
+            catch ( ParseException e ) {
+                throw new RuntimeException( e );
+            }
+        }
+        if ( eventDto.getEnd() != null ) {
+            try {
+                event.setEnd( DATE_FORMAT_YYYY_MM_DD_HH_MM.get().parse( eventDto.getEnd() ) );
+            }
+            catch ( ParseException e ) {
+                throw new RuntimeException( e );
+            }
+        }
+
+        return event;
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.date;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the conversions between {@link Date} and {@link String} creating a new {@code SimpleDateFormat} for each
+ * conversion (the default) with using the thread-local date formats generated with the processor option
+ * {@code mapstruct.cacheDateFormats}.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DateFormatBenchmark {
+
+    private final EventMapper generatedMapper = EventMapper.INSTANCE;
+    private final EventMapper cachedDateFormatMapper = new CachedDateFormatEventMapper();
+
+    private Event event;
+    private EventDto eventDto;
+
+    @Setup
+    public void createEvent() {
+        event = new Event();
+        event.setStart( new Date() );
+        event.setEnd( new Date() );
+
+        eventDto = generatedMapper.eventToDto( event );
+    }
+
+    @Benchmark
+    public EventDto formatWithNewDateFormat() {
+        return generatedMapper.eventToDto( event );
+    }
+
+    @Benchmark
+    public EventDto formatWithCachedDateFormat() {
+        return cachedDateFormatMapper.eventToDto( event );
+    }
+
+    @Benchmark
+    public Event parseWithNewDateFormat() {
+        return generatedMapper.dtoToEvent( eventDto );
+    }
+
+    @Benchmark
+    public Event parseWithCachedDateFormat() {
+        return cachedDateFormatMapper.dtoToEvent( eventDto );
+    }
+}
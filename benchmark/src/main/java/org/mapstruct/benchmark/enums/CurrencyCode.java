@@ -0,0 +1,47 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.enums;
+
+public enum CurrencyCode {
+    AAA, AAB, AAC, AAD, AAE, AAF, AAG, AAH, AAI, AAJ, AAK, AAL, AAM, AAN, AAO, AAP,
+    AAQ, AAR, AAS, AAT, AAU, AAV, AAW, AAX, AAY, AAZ, ABA, ABB, ABC, ABD, ABE, ABF,
+    ABG, ABH, ABI, ABJ, ABK, ABL, ABM, ABN, ABO, ABP, ABQ, ABR, ABS, ABT, ABU, ABV,
+    ABW, ABX, ABY, ABZ, ACA, ACB, ACC, ACD, ACE, ACF, ACG, ACH, ACI, ACJ, ACK, ACL,
+    ACM, ACN, ACO, ACP, ACQ, ACR, ACS, ACT, ACU, ACV, ACW, ACX, ACY, ACZ, ADA, ADB,
+    ADC, ADD, ADE, ADF, ADG, ADH, ADI, ADJ, ADK, ADL, ADM, ADN, ADO, ADP, ADQ, ADR,
+    ADS, ADT, ADU, ADV, ADW, ADX, ADY, ADZ, AEA, AEB, AEC, AED, AEE, AEF, AEG, AEH,
+    AEI, AEJ, AEK, AEL, AEM, AEN, AEO, AEP, AEQ, AER, AES, AET, AEU, AEV, AEW, AEX,
+    AEY, AEZ, AFA, AFB, AFC, AFD, AFE, AFF, AFG, AFH, AFI, AFJ, AFK, AFL, AFM, AFN,
+    AFO, AFP, AFQ, AFR, AFS, AFT, AFU, AFV, AFW, AFX, AFY, AFZ, AGA, AGB, AGC, AGD,
+    AGE, AGF, AGG, AGH, AGI, AGJ, AGK, AGL, AGM, AGN, AGO, AGP, AGQ, AGR, AGS, AGT,
+    AGU, AGV, AGW, AGX, AGY, AGZ, AHA, AHB, AHC, AHD, AHE, AHF, AHG, AHH, AHI, AHJ,
+    AHK, AHL, AHM, AHN, AHO, AHP, AHQ, AHR, AHS, AHT, AHU, AHV, AHW, AHX, AHY, AHZ,
+    AIA, AIB, AIC, AID, AIE, AIF, AIG, AIH, AII, AIJ, AIK, AIL, AIM, AIN, AIO, AIP,
+    AIQ, AIR, AIS, AIT, AIU, AIV, AIW, AIX, AIY, AIZ, AJA, AJB, AJC, AJD, AJE, AJF,
+    AJG, AJH, AJI, AJJ, AJK, AJL, AJM, AJN, AJO, AJP, AJQ, AJR, AJS, AJT, AJU, AJV,
+    AJW, AJX, AJY, AJZ, AKA, AKB, AKC, AKD, AKE, AKF, AKG, AKH, AKI, AKJ, AKK, AKL,
+    AKM, AKN, AKO, AKP, AKQ, AKR, AKS, AKT, AKU, AKV, AKW, AKX, AKY, AKZ, ALA, ALB,
+    ALC, ALD, ALE, ALF, ALG, ALH, ALI, ALJ, ALK, ALL, ALM, ALN, ALO, ALP, ALQ, ALR,
+    ALS, ALT, ALU, ALV, ALW, ALX, ALY, ALZ, AMA, AMB, AMC, AMD, AME, AMF, AMG, AMH,
+    AMI, AMJ, AMK, AML, AMM, AMN, AMO, AMP, AMQ, AMR, AMS, AMT, AMU, AMV, AMW, AMX,
+    AMY, AMZ, ANA, ANB, ANC, AND, ANE, ANF, ANG, ANH, ANI, ANJ, ANK, ANL, ANM, ANN,
+    ANO, ANP, ANQ, ANR, ANS, ANT, ANU, ANV, ANW, ANX, ANY, ANZ, AOA, AOB, AOC, AOD,
+    AOE, AOF, AOG, AOH, AOI, AOJ, AOK, AOL, AOM, AON, AOO, AOP, AOQ, AOR, AOS, AOT,
+    AOU, AOV, AOW, AOX, AOY, AOZ, APA, APB, APC, APD, APE, APF, APG, APH, API, APJ;
+}
@@ -0,0 +1,66 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.enums;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the generated enum mapping method with a hand-written one, mapping all constants of the source enum per
+ * operation. Measures throughput and latency; run with {@code -prof gc} to compare the allocation rates as well.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EnumMappingBenchmark {
+
+    private final OrderStatusMapper generatedMapper = OrderStatusMapper.INSTANCE;
+    private final OrderStatusMapper handWrittenMapper = new HandWrittenOrderStatusMapper();
+
+    private final OrderStatus[] statuses = OrderStatus.values();
+
+    @Benchmark
+    public void generatedMapper(Blackhole blackhole) {
+        for ( OrderStatus status : statuses ) {
+            blackhole.consume( generatedMapper.toExternalStatus( status ) );
+        }
+    }
+
+    @Benchmark
+    public void handWrittenMapper(Blackhole blackhole) {
+        for ( OrderStatus status : statuses ) {
+            blackhole.consume( handWrittenMapper.toExternalStatus( status ) );
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.enums;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the conversion from {@code String} into enums via {@code Enum.valueOf()} (the default) with the lookup in
+ * a map of the constants by name generated with the processor option {@code mapstruct.unknownEnumConstant}, both for
+ * clean input and for input where every other status is unknown. For the latter, the default mapper is invoked the
+ * way it is done without the option, i.e. catching the {@code IllegalArgumentException} raised for unknown strings.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EnumParsingBenchmark {
+
+    private static final String[] CLEAN_STATUSES = { "NEW", "PAID", "SHIPPED", "DELIVERED", "CANCELLED", "NEW" };
+    private static final String[] DIRTY_STATUSES = { "NEW", "paid", "SHIPPED", "Delivered", "CANCELLED", "" };
+
+    private final StatusMessageMapper generatedMapper = StatusMessageMapper.INSTANCE;
+    private final StatusMessageMapper lookupMapper = new LookupStatusMessageMapper();
+
+    private StatusMessage[] cleanMessages;
+    private StatusMessage[] dirtyMessages;
+
+    @Setup
+    public void createMessages() {
+        cleanMessages = getMessages( CLEAN_STATUSES );
+        dirtyMessages = getMessages( DIRTY_STATUSES );
+    }
+
+    @Benchmark
+    public void valueOfCleanInput(Blackhole blackhole) {
+        map( generatedMapper, cleanMessages, blackhole );
+    }
+
+    @Benchmark
+    public void lookupCleanInput(Blackhole blackhole) {
+        map( lookupMapper, cleanMessages, blackhole );
+    }
+
+    @Benchmark
+    public void valueOfDirtyInput(Blackhole blackhole) {
+        map( generatedMapper, dirtyMessages, blackhole );
+    }
+
+    @Benchmark
+    public void lookupDirtyInput(Blackhole blackhole) {
+        map( lookupMapper, dirtyMessages, blackhole );
+    }
+
+    private void map(StatusMessageMapper mapper, StatusMessage[] messages, Blackhole blackhole) {
+        for ( StatusMessage message : messages ) {
+            try {
+                blackhole.consume( mapper.toEvent( message ) );
+            }
+            catch ( IllegalArgumentException e ) {
+                blackhole.consume( e );
+            }
+        }
+    }
+
+    private static StatusMessage[] getMessages(String[] statuses) {
+        StatusMessage[] messages = new StatusMessage[statuses.length];
+
+        for ( int i = 0; i < statuses.length; i++ ) {
+            messages[i] = new StatusMessage();
+            messages[i].setStatus( statuses[i] );
+        }
+
+        return messages;
+    }
+}
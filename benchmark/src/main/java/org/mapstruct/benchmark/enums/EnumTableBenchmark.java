@@ -0,0 +1,112 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.enums;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares enum mapping methods using a {@code switch} statement (as generated by default) with methods looking up the
+ * target constant in a table (as generated with the processor option {@code mapstruct.enumMappingTables}), for enums
+ * with 5, 64 and 400 constants. Each operation maps 1,024 randomly chosen source constants.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EnumTableBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final CodeMapper switchMapper = CodeMapper.INSTANCE;
+    private final CodeMapper tableMapper = new TableCodeMapper();
+
+    private final OrderStatus[] statuses = new OrderStatus[SIZE];
+    private final CountryCode[] countries = new CountryCode[SIZE];
+    private final CurrencyCode[] currencies = new CurrencyCode[SIZE];
+
+    @Setup
+    public void chooseConstants() {
+        Random random = new Random( 42 );
+
+        for ( int i = 0; i < SIZE; i++ ) {
+            statuses[i] = OrderStatus.values()[random.nextInt( OrderStatus.values().length )];
+            countries[i] = CountryCode.values()[random.nextInt( CountryCode.values().length )];
+            currencies[i] = CurrencyCode.values()[random.nextInt( CurrencyCode.values().length )];
+        }
+    }
+
+    @Benchmark
+    public void statusSwitch(Blackhole blackhole) {
+        for ( OrderStatus status : statuses ) {
+            blackhole.consume( switchMapper.toExternalStatus( status ) );
+        }
+    }
+
+    @Benchmark
+    public void statusTable(Blackhole blackhole) {
+        for ( OrderStatus status : statuses ) {
+            blackhole.consume( tableMapper.toExternalStatus( status ) );
+        }
+    }
+
+    @Benchmark
+    public void countrySwitch(Blackhole blackhole) {
+        for ( CountryCode country : countries ) {
+            blackhole.consume( switchMapper.toExternalCountry( country ) );
+        }
+    }
+
+    @Benchmark
+    public void countryTable(Blackhole blackhole) {
+        for ( CountryCode country : countries ) {
+            blackhole.consume( tableMapper.toExternalCountry( country ) );
+        }
+    }
+
+    @Benchmark
+    public void currencySwitch(Blackhole blackhole) {
+        for ( CurrencyCode currency : currencies ) {
+            blackhole.consume( switchMapper.toExternalCurrency( currency ) );
+        }
+    }
+
+    @Benchmark
+    public void currencyTable(Blackhole blackhole) {
+        for ( CurrencyCode currency : currencies ) {
+            blackhole.consume( tableMapper.toExternalCurrency( currency ) );
+        }
+    }
+}
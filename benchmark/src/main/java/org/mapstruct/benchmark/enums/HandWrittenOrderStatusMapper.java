@@ -0,0 +1,49 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.enums;
+
+/**
+ * Hand-written implementation of {@link OrderStatusMapper}, serving as baseline for the generated one.
+ *
+ * @author agent
+ */
+public class HandWrittenOrderStatusMapper implements OrderStatusMapper {
+
+    @Override
+    public ExternalOrderStatus toExternalStatus(OrderStatus status) {
+        if ( status == null ) {
+            return null;
+        }
+
+        switch ( status ) {
+            case NEW:
+                return ExternalOrderStatus.OPEN;
+            case PAID:
+                return ExternalOrderStatus.PAID;
+            case SHIPPED:
+                return ExternalOrderStatus.IN_TRANSIT;
+            case DELIVERED:
+                return ExternalOrderStatus.DELIVERED;
+            case CANCELLED:
+                return ExternalOrderStatus.CANCELLED;
+            default:
+                throw new IllegalArgumentException( "Unexpected enum constant: " + status );
+        }
+    }
+}
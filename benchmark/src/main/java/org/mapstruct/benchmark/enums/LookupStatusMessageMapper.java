@@ -0,0 +1,56 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.enums;
+
+import java.util.HashMap;
+
+/**
+ * Hand-written equivalent of the {@link StatusMessageMapper} implementation as generated with the processor option
+ * {@code mapstruct.unknownEnumConstant=null}, i.e. looking up the status in a map of the constants by name.
+ *
+ * @author agent
+ */
+public class LookupStatusMessageMapper implements StatusMessageMapper {
+
+    private static final HashMap<String, OrderStatus> ORDER_STATUS_BY_NAME = new HashMap<String, OrderStatus>( 7 );
+
+    static {
+        ORDER_STATUS_BY_NAME.put( "NEW", OrderStatus.NEW );
+        ORDER_STATUS_BY_NAME.put( "PAID", OrderStatus.PAID );
+        ORDER_STATUS_BY_NAME.put( "SHIPPED", OrderStatus.SHIPPED );
+        ORDER_STATUS_BY_NAME.put( "DELIVERED", OrderStatus.DELIVERED );
+        ORDER_STATUS_BY_NAME.put( "CANCELLED", OrderStatus.CANCELLED );
+    }
+
+    @Override
+    public StatusEvent toEvent(StatusMessage message) {
+        if ( message == null ) {
+            return null;
+        }
+
+        StatusEvent statusEvent = new StatusEvent();
+
+        String status = message.getStatus();
+        if ( status != null ) {
+            statusEvent.setStatus( ORDER_STATUS_BY_NAME.get( status ) );
+        }
+
+        return statusEvent;
+    }
+}
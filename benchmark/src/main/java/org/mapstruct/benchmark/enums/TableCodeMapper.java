@@ -0,0 +1,99 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.enums;
+
+/**
+ * Hand-written equivalent of the {@link CodeMapper} implementation as generated with the processor option
+ * {@code mapstruct.enumMappingTables}, i.e. looking up the target constants in arrays indexed by the ordinal of the
+ * source constants. The arrays are populated by a loop instead of one statement per constant, which makes no
+ * difference for the lookups.
+ *
+ * @author agent
+ */
+public class TableCodeMapper implements CodeMapper {
+
+    private static final ExternalOrderStatus[] EXTERNAL_ORDER_STATUS_BY_ORDER_STATUS =
+        new ExternalOrderStatus[OrderStatus.values().length];
+    private static final ExternalCountryCode[] EXTERNAL_COUNTRY_CODE_BY_COUNTRY_CODE =
+        new ExternalCountryCode[CountryCode.values().length];
+    private static final ExternalCurrencyCode[] EXTERNAL_CURRENCY_CODE_BY_CURRENCY_CODE =
+        new ExternalCurrencyCode[CurrencyCode.values().length];
+
+    static {
+        EXTERNAL_ORDER_STATUS_BY_ORDER_STATUS[OrderStatus.NEW.ordinal()] = ExternalOrderStatus.OPEN;
+        EXTERNAL_ORDER_STATUS_BY_ORDER_STATUS[OrderStatus.PAID.ordinal()] = ExternalOrderStatus.PAID;
+        EXTERNAL_ORDER_STATUS_BY_ORDER_STATUS[OrderStatus.SHIPPED.ordinal()] = ExternalOrderStatus.IN_TRANSIT;
+        EXTERNAL_ORDER_STATUS_BY_ORDER_STATUS[OrderStatus.DELIVERED.ordinal()] = ExternalOrderStatus.DELIVERED;
+        EXTERNAL_ORDER_STATUS_BY_ORDER_STATUS[OrderStatus.CANCELLED.ordinal()] = ExternalOrderStatus.CANCELLED;
+
+        for ( CountryCode country : CountryCode.values() ) {
+            EXTERNAL_COUNTRY_CODE_BY_COUNTRY_CODE[country.ordinal()] = ExternalCountryCode.valueOf( country.name() );
+        }
+
+        for ( CurrencyCode currency : CurrencyCode.values() ) {
+            EXTERNAL_CURRENCY_CODE_BY_CURRENCY_CODE[currency.ordinal()] =
+                ExternalCurrencyCode.valueOf( currency.name() );
+        }
+    }
+
+    @Override
+    public ExternalOrderStatus toExternalStatus(OrderStatus status) {
+        if ( status == null ) {
+            return null;
+        }
+
+        ExternalOrderStatus externalOrderStatus = EXTERNAL_ORDER_STATUS_BY_ORDER_STATUS[status.ordinal()];
+
+        if ( externalOrderStatus == null ) {
+            throw new IllegalArgumentException( "Unexpected enum constant: " + status );
+        }
+
+        return externalOrderStatus;
+    }
+
+    @Override
+    public ExternalCountryCode toExternalCountry(CountryCode country) {
+        if ( country == null ) {
+            return null;
+        }
+
+        ExternalCountryCode externalCountryCode = EXTERNAL_COUNTRY_CODE_BY_COUNTRY_CODE[country.ordinal()];
+
+        if ( externalCountryCode == null ) {
+            throw new IllegalArgumentException( "Unexpected enum constant: " + country );
+        }
+
+        return externalCountryCode;
+    }
+
+    @Override
+    public ExternalCurrencyCode toExternalCurrency(CurrencyCode currency) {
+        if ( currency == null ) {
+            return null;
+        }
+
+        ExternalCurrencyCode externalCurrencyCode = EXTERNAL_CURRENCY_CODE_BY_CURRENCY_CODE[currency.ordinal()];
+
+        if ( externalCurrencyCode == null ) {
+            throw new IllegalArgumentException( "Unexpected enum constant: " + currency );
+        }
+
+        return externalCurrencyCode;
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.factory;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.benchmark.collection.ItemMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of obtaining mapper instances via {@link Mappers#getMapper(Class)}:
+ * <ul>
+ * <li>warm lookups of an already retrieved mapper, compared with loading and instantiating the implementation type upon
+ * each invocation as done before mapper instances were cached</li>
+ * <li>cold lookups, i.e. the first lookup of a mapper within a new class loader, including the loading of all involved
+ * classes</li>
+ * </ul>
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MapperLookupBenchmark {
+
+    @Benchmark
+    public ItemMapper warmCachedLookup() {
+        return Mappers.getMapper( ItemMapper.class );
+    }
+
+    @Benchmark
+    public ItemMapper warmUncachedLookup() throws Exception {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return (ItemMapper) classLoader.loadClass( ItemMapper.class.getName() + "Impl" ).newInstance();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 200)
+    public Object coldLookup(IsolatedClassLoader isolated) throws Exception {
+        Class<?> mappers = isolated.classLoader.loadClass( Mappers.class.getName() );
+        Class<?> mapperType = isolated.classLoader.loadClass( ItemMapper.class.getName() );
+
+        return mappers.getMethod( "getMapper", Class.class ).invoke( null, mapperType );
+    }
+
+    /**
+     * Provides a new class loader for each invocation, which loads the mapper and MapStruct classes itself instead of
+     * delegating to the application class loader, so no class involved in the lookup has been loaded before.
+     */
+    @State(Scope.Thread)
+    public static class IsolatedClassLoader {
+
+        private URLClassLoader classLoader;
+        private ClassLoader originalContextClassLoader;
+
+        @Setup(Level.Invocation)
+        public void createClassLoader() {
+            URL location = ItemMapper.class.getProtectionDomain().getCodeSource().getLocation();
+            classLoader = new URLClassLoader( new URL[] { location }, null );
+
+            originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+            Thread.currentThread().setContextClassLoader( classLoader );
+        }
+
+        @TearDown(Level.Invocation)
+        public void resetContextClassLoader() {
+            Thread.currentThread().setContextClassLoader( originalContextClassLoader );
+        }
+    }
+}
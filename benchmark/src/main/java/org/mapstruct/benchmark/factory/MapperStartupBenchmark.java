@@ -0,0 +1,148 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.factory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.benchmark.processor.MappingProcessorRunner;
+import org.mapstruct.benchmark.processor.SyntheticMapperSources;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the startup cost of an application with many mappers, i.e. the time for retrieving each of them once via
+ * {@link Mappers#getMapper(Class)} within a new class loader. The mappers are either instantiated by the mapper
+ * registry generated for them or - with the registration of the registry removed - reflectively.
+ * <p>
+ * A synthetic set of mappers (see {@link SyntheticMapperSources}) is compiled once per trial, which takes a while for
+ * the default of 1,000 mappers.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 50)
+@Fork(1)
+public class MapperStartupBenchmark {
+
+    private static final String MAPPERS_RESOURCE = "META-INF/mapstruct/mappers";
+    private static final String SERVICE_RESOURCE = "META-INF/services/org.mapstruct.factory.MapperRegistry";
+
+    @Param("1000")
+    private int mappers;
+
+    @Param({ "true", "false" })
+    private boolean registry;
+
+    private File workDirectory;
+    private URL[] classPath;
+    private List<String> mapperNames;
+
+    private URLClassLoader classLoader;
+    private ClassLoader originalContextClassLoader;
+
+    @Setup
+    public void compileMappers() throws IOException {
+        workDirectory = Files.createTempDirectory( "mapstruct-startup-benchmark" ).toFile();
+        File classDirectory = new File( workDirectory, "classes" );
+
+        new MappingProcessorRunner( new File( workDirectory, "generated" ) ).compile(
+            new SyntheticMapperSources( mappers, 1, 10, 0 ).writeTo( new File( workDirectory, "src" ) ),
+            classDirectory
+        );
+
+        if ( !registry ) {
+            new File( classDirectory, SERVICE_RESOURCE ).delete();
+        }
+
+        mapperNames = readMapperNames( new File( classDirectory, MAPPERS_RESOURCE ) );
+        classPath = new URL[] {
+            classDirectory.toURI().toURL(),
+            Mappers.class.getProtectionDomain().getCodeSource().getLocation()
+        };
+    }
+
+    private static List<String> readMapperNames(File mappersResource) throws IOException {
+        List<String> names = new ArrayList<String>();
+
+        for ( String line : Files.readAllLines( mappersResource.toPath(), StandardCharsets.UTF_8 ) ) {
+            names.add( line.substring( 0, line.indexOf( '=' ) ) );
+        }
+
+        return names;
+    }
+
+    /**
+     * Creates a new class loader which loads the mapper and MapStruct classes itself instead of delegating to the
+     * application class loader, so no class involved in the lookups has been loaded before.
+     */
+    @Setup(Level.Invocation)
+    public void createClassLoader() {
+        classLoader = new URLClassLoader( classPath, null );
+
+        originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader( classLoader );
+    }
+
+    @Benchmark
+    public int getAllMappers() throws Exception {
+        Method getMapper = classLoader.loadClass( Mappers.class.getName() ).getMethod( "getMapper", Class.class );
+        int hashCodes = 0;
+
+        for ( String mapperName : mapperNames ) {
+            hashCodes += getMapper.invoke( null, classLoader.loadClass( mapperName ) ).hashCode();
+        }
+
+        return hashCodes;
+    }
+
+    @TearDown(Level.Invocation)
+    public void resetContextClassLoader() throws IOException {
+        Thread.currentThread().setContextClassLoader( originalContextClassLoader );
+        classLoader.close();
+    }
+
+    @TearDown
+    public void deleteMappers() {
+        MappingProcessorRunner.delete( workDirectory );
+    }
+}
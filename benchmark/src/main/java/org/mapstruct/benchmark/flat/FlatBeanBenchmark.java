@@ -0,0 +1,77 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.flat;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the generated mapper for a flat bean with primitive properties and type conversions with a hand-written
+ * mapper. Measures throughput and latency; run with {@code -prof gc} to compare the allocation rates as well.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FlatBeanBenchmark {
+
+    private final CustomerMapper generatedMapper = CustomerMapper.INSTANCE;
+    private final CustomerMapper handWrittenMapper = new HandWrittenCustomerMapper();
+
+    private Customer customer;
+
+    @Setup
+    public void createCustomer() {
+        customer = new Customer();
+        customer.setId( 42L );
+        customer.setFirstName( "Bob" );
+        customer.setLastName( "Smith" );
+        customer.setEmail( "bob@example.com" );
+        customer.setAge( 37 );
+        customer.setVip( true );
+        customer.setRating( 4.5 );
+        customer.setCustomerNumber( 4711 );
+        customer.setBalance( new BigDecimal( "1234.56" ) );
+    }
+
+    @Benchmark
+    public CustomerDto generatedMapper() {
+        return generatedMapper.customerToDto( customer );
+    }
+
+    @Benchmark
+    public CustomerDto handWrittenMapper() {
+        return handWrittenMapper.customerToDto( customer );
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.flat;
+
+/**
+ * Hand-written implementation of {@link CustomerMapper}, serving as baseline for the generated one.
+ *
+ * @author agent
+ */
+public class HandWrittenCustomerMapper implements CustomerMapper {
+
+    @Override
+    public CustomerDto customerToDto(Customer customer) {
+        if ( customer == null ) {
+            return null;
+        }
+
+        CustomerDto dto = new CustomerDto();
+
+        dto.setId( customer.getId() );
+        dto.setFirstName( customer.getFirstName() );
+        dto.setLastName( customer.getLastName() );
+        dto.setEmail( customer.getEmail() );
+        dto.setAge( customer.getAge() );
+        dto.setVip( customer.isVip() );
+        dto.setRating( customer.getRating() );
+        dto.setCustomerNumber( String.valueOf( customer.getCustomerNumber() ) );
+        dto.setBalance( customer.getBalance() != null ? customer.getBalance().toString() : null );
+
+        return dto;
+    }
+}
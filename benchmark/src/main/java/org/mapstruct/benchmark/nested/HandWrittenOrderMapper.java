@@ -0,0 +1,67 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.nested;
+
+/**
+ * Hand-written implementation of {@link OrderMapper}, serving as baseline for the generated one.
+ *
+ * @author agent
+ */
+public class HandWrittenOrderMapper implements OrderMapper {
+
+    @Override
+    public OrderDto orderToDto(Order order) {
+        if ( order == null ) {
+            return null;
+        }
+
+        OrderDto dto = new OrderDto();
+
+        dto.setId( order.getId() );
+
+        Buyer buyer = order.getBuyer();
+        if ( buyer != null ) {
+            dto.setBuyerName( buyer.getName() );
+
+            Address address = buyer.getAddress();
+            if ( address != null ) {
+                dto.setBuyerCity( address.getCity() );
+            }
+        }
+
+        dto.setShippingAddress( addressToDto( order.getShippingAddress() ) );
+
+        return dto;
+    }
+
+    @Override
+    public AddressDto addressToDto(Address address) {
+        if ( address == null ) {
+            return null;
+        }
+
+        AddressDto dto = new AddressDto();
+
+        dto.setStreet( address.getStreet() );
+        dto.setCity( address.getCity() );
+        dto.setZipCode( address.getZipCode() );
+
+        return dto;
+    }
+}
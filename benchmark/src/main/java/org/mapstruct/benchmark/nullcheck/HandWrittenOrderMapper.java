@@ -0,0 +1,60 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.nullcheck;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Hand-written implementation of {@link OrderMapper} in the way null-checked properties used to be generated, i.e.
+ * invoking each getter once for the null check and once more for the assignment. Serves as baseline for the generated
+ * mapper, which reads each source property into a local variable once.
+ *
+ * @author agent
+ */
+public class HandWrittenOrderMapper implements OrderMapper {
+
+    @Override
+    public OrderDto orderToDto(Order order) {
+        if ( order == null ) {
+            return null;
+        }
+
+        OrderDto dto = new OrderDto();
+
+        if ( order.getOrderNumber() != null ) {
+            dto.setOrderNumber( Long.parseLong( order.getOrderNumber() ) );
+        }
+        if ( order.getQuantity() != null ) {
+            dto.setQuantity( Integer.parseInt( order.getQuantity() ) );
+        }
+        if ( order.getTotal() != null ) {
+            dto.setTotal( order.getTotal().toString() );
+        }
+        if ( order.getItems() != null ) {
+            dto.setItems( new ArrayList<String>( order.getItems() ) );
+        }
+        if ( order.getNotes() != null ) {
+            String[] notes = order.getNotes();
+            dto.setNotes( Arrays.copyOf( notes, notes.length ) );
+        }
+
+        return dto;
+    }
+}
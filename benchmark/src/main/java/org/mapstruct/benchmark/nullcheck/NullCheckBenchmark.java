@@ -0,0 +1,75 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.nullcheck;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the generated mapper for a bean with null-checked properties, whose getters derive or copy their values,
+ * with a hand-written mapper invoking each of these getters twice (as done by generated mappers before source
+ * properties were read into local variables). Run with {@code -prof gc} to compare the allocation rates as well.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NullCheckBenchmark {
+
+    private final OrderMapper generatedMapper = OrderMapper.INSTANCE;
+    private final OrderMapper handWrittenMapper = new HandWrittenOrderMapper();
+
+    private Order order;
+
+    @Setup
+    public void createOrder() {
+        order = new Order();
+        order.setNumber( 4711L );
+        order.setQuantity( " 12 " );
+        order.setTotal( new BigDecimal( "1234.5678" ) );
+        order.setItems( Arrays.asList( "Apple", "Banana", "Cherry", "Date", "Elderberry" ) );
+        order.setNotes( new String[] { "Fragile", "Express", "Gift wrap" } );
+    }
+
+    @Benchmark
+    public OrderDto generatedMapper() {
+        return generatedMapper.orderToDto( order );
+    }
+
+    @Benchmark
+    public OrderDto handWrittenMapper() {
+        return handWrittenMapper.orderToDto( order );
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.nullcheck;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An order whose getters derive or defensively copy the returned values, i.e. each invocation comes at a cost.
+ *
+ * @author agent
+ */
+public class Order {
+
+    private long number;
+    private String quantity;
+    private BigDecimal total;
+    private List<String> items;
+    private String[] notes;
+
+    public String getOrderNumber() {
+        return String.valueOf( number );
+    }
+
+    public void setNumber(long number) {
+        this.number = number;
+    }
+
+    public String getQuantity() {
+        return quantity != null ? quantity.trim() : null;
+    }
+
+    public void setQuantity(String quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getTotal() {
+        return total != null ? total.setScale( 2, RoundingMode.HALF_UP ) : null;
+    }
+
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+
+    public List<String> getItems() {
+        return items != null ? Collections.unmodifiableList( new ArrayList<String>( items ) ) : null;
+    }
+
+    public void setItems(List<String> items) {
+        this.items = items;
+    }
+
+    public String[] getNotes() {
+        return notes != null ? notes.clone() : null;
+    }
+
+    public void setNotes(String[] notes) {
+        this.notes = notes;
+    }
+}
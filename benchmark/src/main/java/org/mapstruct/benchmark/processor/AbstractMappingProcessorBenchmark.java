@@ -0,0 +1,136 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+/**
+ * Base class for benchmarks measuring the time for processing a set of synthetic sources with the
+ * {@code MappingProcessor}, end to end within one javac invocation.
+ * <p>
+ * The sources are processed with {@code -proc:only}, so the measured time is dominated by parsing and attributing the
+ * sources and by the annotation processor. Besides the JMH result, the average time spent per iteration in each
+ * {@code ModelElementProcessor} (method retrieval, mapper creation, the component model processors and rendering) is
+ * printed at the end of each trial.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public abstract class AbstractMappingProcessorBenchmark {
+
+    private File workDirectory;
+    private MappingProcessorRunner runner;
+    private List<File> sourceFiles;
+
+    private Map<String, Long> measuredNanosByPhase;
+    private Map<String, Long> nanosByPhase;
+    private int measurementIterations;
+
+    @Setup
+    public void writeSources() throws IOException {
+        workDirectory = Files.createTempDirectory( "mapstruct-processor-benchmark" ).toFile();
+        runner = new MappingProcessorRunner( new File( workDirectory, "generated" ) );
+        sourceFiles = writeSources( new File( workDirectory, "src" ) );
+
+        measuredNanosByPhase = new LinkedHashMap<String, Long>();
+        measurementIterations = 0;
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration(IterationParams iterationParams) {
+        // only the measurement iterations contribute to the phase timings
+        if ( iterationParams.getType() == IterationType.MEASUREMENT ) {
+            nanosByPhase = measuredNanosByPhase;
+            measurementIterations++;
+        }
+        else {
+            nanosByPhase = new LinkedHashMap<String, Long>();
+        }
+    }
+
+    @Benchmark
+    public void processMappers() throws IOException {
+        runner.process( sourceFiles, nanosByPhase );
+    }
+
+    @TearDown
+    public void printPhaseTimings() {
+        System.out.println();
+        System.out.println( "Average time per iteration for " + getDescription() + ":" );
+
+        for ( Entry<String, Long> phase : measuredNanosByPhase.entrySet() ) {
+            System.out.println(
+                String.format(
+                    Locale.ENGLISH,
+                    "  %-30s %10.3f ms",
+                    phase.getKey(),
+                    phase.getValue() / 1000000.0 / measurementIterations
+                )
+            );
+        }
+
+        MappingProcessorRunner.delete( workDirectory );
+    }
+
+    /**
+     * Writes the sources to be processed.
+     *
+     * @param sourceDirectory The source root directory to write to.
+     *
+     * @return The written source files.
+     *
+     * @throws IOException In case writing any of the files fails.
+     */
+    protected abstract List<File> writeSources(File sourceDirectory) throws IOException;
+
+    /**
+     * Returns a description of the processed sources, e.g. their size.
+     *
+     * @return A description of the processed sources.
+     */
+    protected abstract String getDescription();
+}
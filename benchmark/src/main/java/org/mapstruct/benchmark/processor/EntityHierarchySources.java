@@ -0,0 +1,115 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the sources of a deep entity hierarchy and a corresponding DTO hierarchy, each level adding a given
+ * number of properties, together with a given number of mappers mapping the most specific entity type to the most
+ * specific DTO type and back. With the default of 10 levels with 50 properties each, the mapped types have 500
+ * properties, most of them inherited.
+ *
+ * @author agent
+ */
+public class EntityHierarchySources {
+
+    private static final String PACKAGE_NAME = "org.mapstruct.benchmark.synthetic.hierarchy";
+
+    private final int levels;
+    private final int propertiesPerLevel;
+    private final int mappers;
+
+    /**
+     * @param levels The depth of the entity and DTO hierarchies.
+     * @param propertiesPerLevel The number of properties declared by each type of the hierarchies.
+     * @param mappers The number of mappers mapping the hierarchies.
+     */
+    public EntityHierarchySources(int levels, int propertiesPerLevel, int mappers) {
+        this.levels = levels;
+        this.propertiesPerLevel = propertiesPerLevel;
+        this.mappers = mappers;
+    }
+
+    /**
+     * Writes the sources of all mappers and mapped types into the given directory.
+     *
+     * @param sourceDirectory The source root directory to write to.
+     *
+     * @return The written source files.
+     *
+     * @throws IOException In case writing any of the files fails.
+     */
+    public List<File> writeTo(File sourceDirectory) throws IOException {
+        SourceWriter writer = new SourceWriter( sourceDirectory, PACKAGE_NAME );
+        List<File> sourceFiles = new ArrayList<File>();
+
+        for ( int level = 0; level < levels; level++ ) {
+            sourceFiles.add( writer.write( entityName( level ), typeSource( level, "Entity" ) ) );
+            sourceFiles.add( writer.write( dtoName( level ), typeSource( level, "Dto" ) ) );
+        }
+
+        for ( int mapper = 0; mapper < mappers; mapper++ ) {
+            sourceFiles.add( writer.write( "HierarchyMapper" + mapper, mapperSource( mapper ) ) );
+        }
+
+        return sourceFiles;
+    }
+
+    private String typeSource(int level, String kind) {
+        List<String> propertyNames = new ArrayList<String>( propertiesPerLevel );
+        List<String> propertyTypes = new ArrayList<String>( propertiesPerLevel );
+
+        for ( int property = 0; property < propertiesPerLevel; property++ ) {
+            propertyNames.add( "level" + level + "Property" + property );
+            propertyTypes.add( property % 2 == 0 ? "String" : "int" );
+        }
+
+        return SourceWriter.beanSource(
+            kind + level,
+            level > 0 ? kind + ( level - 1 ) : null,
+            propertyNames,
+            propertyTypes
+        );
+    }
+
+    private String mapperSource(int mapper) {
+        String entity = entityName( levels - 1 );
+        String dto = dtoName( levels - 1 );
+
+        return "import org.mapstruct.Mapper;\n" +
+            "import org.mapstruct.MappingTarget;\n\n" +
+            "@Mapper\n" +
+            "public interface HierarchyMapper" + mapper + " {\n\n" +
+            "    " + dto + " toDto(" + entity + " entity);\n\n" +
+            "    void updateEntity(" + dto + " dto, @MappingTarget " + entity + " entity);\n" +
+            "}\n";
+    }
+
+    private String entityName(int level) {
+        return "Entity" + level;
+    }
+
+    private String dtoName(int level) {
+        return "Dto" + level;
+    }
+}
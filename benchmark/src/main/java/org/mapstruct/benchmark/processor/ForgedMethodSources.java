@@ -0,0 +1,143 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the sources of one mapper for which the processor forges a given number of mapping methods: for each
+ * synthetic item type there is one forged iterable mapping method (mapping {@code List<ItemN>} to
+ * {@code ItemN[]}), one forged map mapping method (mapping {@code Map<Integer, ItemN>} to
+ * {@code Map<String, ItemN>}) and one forged nested property mapping method (reading {@code itemN.value}). The
+ * properties of all item types are spread over containers of ten items each, mapped by one method per container.
+ * Items are not mapped by any declared method, so the number of declared methods stays small.
+ *
+ * @author agent
+ */
+public class ForgedMethodSources {
+
+    private static final String PACKAGE_NAME = "org.mapstruct.benchmark.synthetic.forged";
+    private static final int ITEMS_PER_CONTAINER = 10;
+
+    private final int items;
+
+    /**
+     * @param forgedMethods The number of methods to be forged by the processor; rounded up to a multiple of three.
+     */
+    public ForgedMethodSources(int forgedMethods) {
+        this.items = ( forgedMethods + 2 ) / 3;
+    }
+
+    /**
+     * Writes the sources of the mapper and all mapped types into the given directory.
+     *
+     * @param sourceDirectory The source root directory to write to.
+     *
+     * @return The written source files.
+     *
+     * @throws IOException In case writing any of the files fails.
+     */
+    public List<File> writeTo(File sourceDirectory) throws IOException {
+        SourceWriter writer = new SourceWriter( sourceDirectory, PACKAGE_NAME );
+        List<File> sourceFiles = new ArrayList<File>();
+
+        List<String> valueName = new ArrayList<String>( 1 );
+        valueName.add( "value" );
+        List<String> valueType = new ArrayList<String>( 1 );
+        valueType.add( "String" );
+
+        for ( int item = 0; item < items; item++ ) {
+            sourceFiles.add(
+                writer.write( "Item" + item, SourceWriter.beanSource( "Item" + item, null, valueName, valueType ) )
+            );
+        }
+
+        for ( int container = 0; container * ITEMS_PER_CONTAINER < items; container++ ) {
+            sourceFiles.add(
+                writer.write( "Container" + container, containerSource( container, false ) )
+            );
+            sourceFiles.add(
+                writer.write( "ContainerDto" + container, containerSource( container, true ) )
+            );
+        }
+
+        sourceFiles.add( writer.write( "ForgingMapper", mapperSource() ) );
+
+        return sourceFiles;
+    }
+
+    private String containerSource(int container, boolean dto) {
+        List<String> propertyNames = new ArrayList<String>();
+        List<String> propertyTypes = new ArrayList<String>();
+
+        for ( int item = firstItem( container ); item < lastItem( container ); item++ ) {
+            propertyNames.add( "items" + item );
+            propertyTypes.add( dto ? "Item" + item + "[]" : "java.util.List<Item" + item + ">" );
+            propertyNames.add( "itemMap" + item );
+            propertyTypes.add( ( dto ? "java.util.Map<String, Item" : "java.util.Map<Integer, Item" ) + item + ">" );
+            if ( dto ) {
+                propertyNames.add( "value" + item );
+                propertyTypes.add( "String" );
+            }
+            else {
+                propertyNames.add( "item" + item );
+                propertyTypes.add( "Item" + item );
+            }
+        }
+
+        return SourceWriter.beanSource( ( dto ? "ContainerDto" : "Container" ) + container, null, propertyNames,
+            propertyTypes );
+    }
+
+    private String mapperSource() {
+        StringBuilder source = new StringBuilder();
+        source.append( "import org.mapstruct.Mapper;\n" )
+            .append( "import org.mapstruct.Mapping;\n" )
+            .append( "import org.mapstruct.Mappings;\n\n" )
+            .append( "@Mapper\n" )
+            .append( "public interface ForgingMapper {\n" );
+
+        for ( int container = 0; container * ITEMS_PER_CONTAINER < items; container++ ) {
+            source.append( "\n    @Mappings({\n" );
+            for ( int item = firstItem( container ); item < lastItem( container ); item++ ) {
+                source.append( "        @Mapping(source = \"item" ).append( item )
+                    .append( ".value\", target = \"value" ).append( item ).append( "\")" )
+                    .append( item + 1 < lastItem( container ) ? ",\n" : "\n" );
+            }
+            source.append( "    })\n" )
+                .append( "    ContainerDto" ).append( container ).append( " container" ).append( container )
+                .append( "ToDto(Container" ).append( container ).append( " container);\n" );
+        }
+
+        source.append( "}\n" );
+
+        return source.toString();
+    }
+
+    private int firstItem(int container) {
+        return container * ITEMS_PER_CONTAINER;
+    }
+
+    private int lastItem(int container) {
+        return Math.min( items, ( container + 1 ) * ITEMS_PER_CONTAINER );
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures the time for processing a synthetic set of mappers (see {@link SyntheticMapperSources}). The size of the
+ * mapper set is controlled via the parameters, e.g. {@code -p mappers=1400}.
+ *
+ * @author agent
+ */
+public class MappingProcessorBenchmark extends AbstractMappingProcessorBenchmark {
+
+    @Param("100")
+    private int mappers;
+
+    @Param("10")
+    private int methods;
+
+    @Param("20")
+    private int properties;
+
+    @Param("2")
+    private int usedMappers;
+
+    @Override
+    protected List<File> writeSources(File sourceDirectory) throws IOException {
+        return new SyntheticMapperSources( mappers, methods, properties, usedMappers ).writeTo( sourceDirectory );
+    }
+
+    @Override
+    protected String getDescription() {
+        return mappers + " mappers x " + methods + " methods x " + properties + " properties, " + usedMappers
+            + " used mappers each";
+    }
+}
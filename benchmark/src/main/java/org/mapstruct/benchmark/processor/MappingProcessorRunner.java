@@ -0,0 +1,161 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.mapstruct.ap.MappingProcessor;
+
+/**
+ * Runs javac with the {@link PhaseTimingMappingProcessor} over a given set of source files, using {@code -proc:only}
+ * so no class files are generated. Alternatively, the sources can be compiled into class files, e.g. for benchmarking
+ * the generated mappers.
+ *
+ * @author agent
+ */
+public class MappingProcessorRunner {
+
+    private final JavaCompiler compiler;
+    private final File generatedSourceDirectory;
+
+    /**
+     * @param generatedSourceDirectory The directory to write the generated mapper sources to.
+     */
+    public MappingProcessorRunner(File generatedSourceDirectory) {
+        this.compiler = ToolProvider.getSystemJavaCompiler();
+        if ( compiler == null ) {
+            throw new IllegalStateException( "No Java compiler available; the benchmark must be run with a JDK" );
+        }
+
+        this.generatedSourceDirectory = generatedSourceDirectory;
+        generatedSourceDirectory.mkdirs();
+    }
+
+    /**
+     * Processes the given sources.
+     *
+     * @param sourceFiles The source files to process.
+     * @param nanosByPhase Receives the time spent per processing phase.
+     *
+     * @throws IOException In case the compiler's file manager couldn't be closed.
+     */
+    public void process(List<File> sourceFiles, Map<String, Long> nanosByPhase) throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager( diagnostics, null, null );
+
+        try {
+            List<String> options = Arrays.asList(
+                "-proc:only",
+                "-classpath", System.getProperty( "java.class.path" ),
+                "-s", generatedSourceDirectory.getPath(),
+                "-Amapstruct.suppressGeneratorTimestamp=true"
+            );
+
+            CompilationTask task = compiler.getTask(
+                null,
+                fileManager,
+                diagnostics,
+                options,
+                null,
+                fileManager.getJavaFileObjectsFromFiles( sourceFiles )
+            );
+            task.setProcessors( Collections.singletonList( new PhaseTimingMappingProcessor( nanosByPhase ) ) );
+
+            if ( !task.call() ) {
+                throw new IllegalStateException(
+                    "Processing the synthetic mappers failed: " + diagnostics.getDiagnostics()
+                );
+            }
+        }
+        finally {
+            fileManager.close();
+        }
+    }
+
+    /**
+     * Compiles the given sources, including the generated mappers.
+     *
+     * @param sourceFiles The source files to compile.
+     * @param classDirectory The directory to write the class files and resources to.
+     *
+     * @throws IOException In case the compiler's file manager couldn't be closed.
+     */
+    public void compile(List<File> sourceFiles, File classDirectory) throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager( diagnostics, null, null );
+        classDirectory.mkdirs();
+
+        try {
+            List<String> options = Arrays.asList(
+                "-classpath", System.getProperty( "java.class.path" ),
+                "-d", classDirectory.getPath(),
+                "-s", generatedSourceDirectory.getPath(),
+                "-Amapstruct.suppressGeneratorTimestamp=true"
+            );
+
+            CompilationTask task = compiler.getTask(
+                null,
+                fileManager,
+                diagnostics,
+                options,
+                null,
+                fileManager.getJavaFileObjectsFromFiles( sourceFiles )
+            );
+            task.setProcessors( Collections.singletonList( new MappingProcessor() ) );
+
+            if ( !task.call() ) {
+                throw new IllegalStateException(
+                    "Compiling the synthetic mappers failed: " + diagnostics.getDiagnostics()
+                );
+            }
+        }
+        finally {
+            fileManager.close();
+        }
+    }
+
+    /**
+     * Recursively deletes the given file or directory.
+     *
+     * @param file The file or directory to delete.
+     */
+    public static void delete(File file) {
+        File[] children = file.listFiles();
+
+        if ( children != null ) {
+            for ( File child : children ) {
+                delete( child );
+            }
+        }
+
+        file.delete();
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.processor;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.element.TypeElement;
+
+import org.mapstruct.ap.MappingProcessor;
+import org.mapstruct.ap.processor.ModelElementProcessor;
+import org.mapstruct.ap.processor.ModelElementProcessor.ProcessorContext;
+
+/**
+ * A {@link MappingProcessor} recording the time spent in {@link #process(Set, RoundEnvironment)} as well as in each
+ * {@link ModelElementProcessor}, i.e. in each phase of the mapper generation.
+ *
+ * @author agent
+ */
+public class PhaseTimingMappingProcessor extends MappingProcessor {
+
+    /**
+     * The key under which the overall time spent in the processor is recorded.
+     */
+    public static final String TOTAL = "MappingProcessor (total)";
+
+    private final Map<String, Long> nanosByPhase;
+
+    /**
+     * @param nanosByPhase Receives the time spent per phase, keyed by the simple name of the {@link
+     * ModelElementProcessor}, in nanoseconds; existing values are added to.
+     */
+    public PhaseTimingMappingProcessor(Map<String, Long> nanosByPhase) {
+        this.nanosByPhase = nanosByPhase;
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        // the annotations of the super-class are not inherited
+        return new HashSet<String>(
+            Arrays.asList( MappingProcessor.class.getAnnotation( SupportedAnnotationTypes.class ).value() )
+        );
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return new HashSet<String>(
+            Arrays.asList( MappingProcessor.class.getAnnotation( SupportedOptions.class ).value() )
+        );
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        long start = System.nanoTime();
+
+        try {
+            return super.process( annotations, roundEnvironment );
+        }
+        finally {
+            record( TOTAL, System.nanoTime() - start );
+        }
+    }
+
+    @Override
+    protected <P, R> R process(ProcessorContext context, ModelElementProcessor<P, R> processor,
+                               TypeElement mapperTypeElement, Object modelElement) {
+        long start = System.nanoTime();
+
+        try {
+            return super.process( context, processor, mapperTypeElement, modelElement );
+        }
+        finally {
+            record( processor.getClass().getSimpleName(), System.nanoTime() - start );
+        }
+    }
+
+    private void record(String phase, long nanos) {
+        Long recorded = nanosByPhase.get( phase );
+        nanosByPhase.put( phase, recorded != null ? recorded + nanos : nanos );
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * Writes the sources of synthetic types into one package below a given source root directory.
+ *
+ * @author agent
+ */
+class SourceWriter {
+
+    private static final Charset UTF_8 = Charset.forName( "UTF-8" );
+
+    private final String packageName;
+    private final File packageDirectory;
+
+    SourceWriter(File sourceDirectory, String packageName) throws IOException {
+        this.packageName = packageName;
+        this.packageDirectory = new File( sourceDirectory, packageName.replace( '.', File.separatorChar ) );
+
+        if ( !packageDirectory.isDirectory() && !packageDirectory.mkdirs() ) {
+            throw new IOException( "Couldn't create directory " + packageDirectory );
+        }
+    }
+
+    /**
+     * Writes the given source of a type of the package.
+     *
+     * @param typeName The simple name of the type.
+     * @param source The source of the type, excluding the package declaration.
+     *
+     * @return The written file.
+     *
+     * @throws IOException In case writing the file fails.
+     */
+    File write(String typeName, String source) throws IOException {
+        File file = new File( packageDirectory, typeName + ".java" );
+        Writer writer = Files.newBufferedWriter( file.toPath(), UTF_8 );
+
+        try {
+            writer.write( "package " + packageName + ";\n\n" );
+            writer.write( source );
+        }
+        finally {
+            writer.close();
+        }
+
+        return file;
+    }
+
+    /**
+     * Returns the source of a JavaBean with the given properties.
+     *
+     * @param name The simple name of the bean type.
+     * @param superType The simple name of the bean's super-type, may be {@code null}.
+     * @param propertyNames The names of the properties.
+     * @param propertyTypes The types of the properties, in the order of the names.
+     *
+     * @return The source of the bean type.
+     */
+    static String beanSource(String name, String superType, List<String> propertyNames, List<String> propertyTypes) {
+        StringBuilder source = new StringBuilder();
+        source.append( "public class " ).append( name );
+        if ( superType != null ) {
+            source.append( " extends " ).append( superType );
+        }
+        source.append( " {\n" );
+
+        for ( int i = 0; i < propertyNames.size(); i++ ) {
+            source.append( "\n    private " ).append( propertyTypes.get( i ) ).append( ' ' )
+                .append( propertyNames.get( i ) ).append( ";\n" );
+        }
+
+        for ( int i = 0; i < propertyNames.size(); i++ ) {
+            String propertyName = propertyNames.get( i );
+            String propertyType = propertyTypes.get( i );
+            String capitalized = Character.toUpperCase( propertyName.charAt( 0 ) ) + propertyName.substring( 1 );
+
+            source.append( "\n    public " ).append( propertyType ).append( " get" ).append( capitalized )
+                .append( "() {\n        return " ).append( propertyName ).append( ";\n    }\n" );
+            source.append( "\n    public void set" ).append( capitalized ).append( '(' ).append( propertyType )
+                .append( ' ' ).append( propertyName ).append( ") {\n        this." ).append( propertyName )
+                .append( " = " ).append( propertyName ).append( ";\n    }\n" );
+        }
+
+        source.append( "}\n" );
+
+        return source.toString();
+    }
+}
@@ -0,0 +1,174 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the sources of a synthetic set of mappers: a given number of mapper interfaces, each declaring a given
+ * number of bean mapping methods whose source and target types have a given number of properties. Each mapper uses a
+ * given number of other mappers, invoking them for nested bean properties of the types mapped by its first method.
+ * <p>
+ * The properties alternate between plain assignments, conversions and primitive/wrapper assignments, so the generated
+ * mappers exercise the usual paths of the mapping resolution.
+ *
+ * @author agent
+ */
+public class SyntheticMapperSources {
+
+    private static final String PACKAGE_NAME = "org.mapstruct.benchmark.synthetic";
+
+    private final int mappers;
+    private final int methods;
+    private final int properties;
+    private final int usedMappers;
+
+    /**
+     * @param mappers The number of mapper interfaces to generate.
+     * @param methods The number of mapping methods per mapper.
+     * @param properties The number of properties per mapped bean.
+     * @param usedMappers The number of other mappers referenced by each mapper via {@code Mapper#uses()}.
+     */
+    public SyntheticMapperSources(int mappers, int methods, int properties, int usedMappers) {
+        if ( usedMappers >= mappers ) {
+            throw new IllegalArgumentException(
+                "The number of used mappers must be lower than the number of mappers, but was " + usedMappers
+            );
+        }
+
+        this.mappers = mappers;
+        this.methods = methods;
+        this.properties = properties;
+        this.usedMappers = usedMappers;
+    }
+
+    /**
+     * Writes the sources of all mappers and mapped beans into the given directory.
+     *
+     * @param sourceDirectory The source root directory to write to.
+     *
+     * @return The written source files.
+     *
+     * @throws IOException In case writing any of the files fails.
+     */
+    public List<File> writeTo(File sourceDirectory) throws IOException {
+        SourceWriter writer = new SourceWriter( sourceDirectory, PACKAGE_NAME );
+        List<File> sourceFiles = new ArrayList<File>();
+
+        for ( int mapper = 0; mapper < mappers; mapper++ ) {
+            sourceFiles.add( writer.write( mapperName( mapper ), mapperSource( mapper ) ) );
+
+            for ( int method = 0; method < methods; method++ ) {
+                String sourceBean = sourceBeanName( mapper, method );
+                String targetBean = targetBeanName( mapper, method );
+
+                sourceFiles.add( writer.write( sourceBean, beanSource( mapper, method, true ) ) );
+                sourceFiles.add( writer.write( targetBean, beanSource( mapper, method, false ) ) );
+            }
+        }
+
+        return sourceFiles;
+    }
+
+    private String mapperSource(int mapper) {
+        StringBuilder source = new StringBuilder();
+        source.append( "import org.mapstruct.Mapper;\n\n" );
+        source.append( "@Mapper(uses = {" );
+
+        for ( int used = 1; used <= usedMappers; used++ ) {
+            source.append( used > 1 ? ", " : " " )
+                .append( mapperName( usedMapper( mapper, used ) ) )
+                .append( ".class" );
+        }
+
+        source.append( usedMappers > 0 ? " })\n" : "})\n" );
+        source.append( "public interface " ).append( mapperName( mapper ) ).append( " {\n" );
+
+        for ( int method = 0; method < methods; method++ ) {
+            source.append( "\n    " )
+                .append( targetBeanName( mapper, method ) )
+                .append( " map" ).append( mapper ).append( '_' ).append( method )
+                .append( "(" ).append( sourceBeanName( mapper, method ) ).append( " source);\n" );
+        }
+
+        source.append( "}\n" );
+
+        return source.toString();
+    }
+
+    private String beanSource(int mapper, int method, boolean isSource) {
+        String name = isSource ? sourceBeanName( mapper, method ) : targetBeanName( mapper, method );
+
+        List<String> propertyNames = new ArrayList<String>();
+        List<String> propertyTypes = new ArrayList<String>();
+
+        for ( int property = 0; property < properties; property++ ) {
+            propertyNames.add( "property" + property );
+            propertyTypes.add( propertyType( property, isSource ) );
+        }
+
+        // the first method of each mapper maps nested beans via the used mappers
+        if ( method == 0 ) {
+            int nestedMethod = methods > 1 ? 1 : 0;
+
+            for ( int used = 1; used <= usedMappers; used++ ) {
+                int usedMapper = usedMapper( mapper, used );
+
+                propertyNames.add( "nested" + used );
+                propertyTypes.add(
+                    isSource ? sourceBeanName( usedMapper, nestedMethod ) : targetBeanName( usedMapper, nestedMethod )
+                );
+            }
+        }
+
+        return SourceWriter.beanSource( name, null, propertyNames, propertyTypes );
+    }
+
+    private String propertyType(int property, boolean isSource) {
+        switch ( property % 4 ) {
+            case 0:
+                return "String";
+            case 1:
+                return "int";
+            case 2:
+                return isSource ? "int" : "String";
+            default:
+                return isSource ? "Long" : "long";
+        }
+    }
+
+    private int usedMapper(int mapper, int used) {
+        return ( mapper + used ) % mappers;
+    }
+
+    private String mapperName(int mapper) {
+        return "SyntheticMapper" + mapper;
+    }
+
+    private String sourceBeanName(int mapper, int method) {
+        return "Source" + mapper + "_" + method;
+    }
+
+    private String targetBeanName(int mapper, int method) {
+        return "Target" + mapper + "_" + method;
+    }
+}
@@ -112,4 +112,13 @@
      * @return The strategy to be applied when {@code null} is passed as source value to the methods of this mapper.
      */
     NullValueMappingStrategy nullValueMappingStrategy() default NullValueMappingStrategy.DEFAULT;
+
+    /**
+     * The collection and map implementation types to be instantiated by this mapper when mapping to the interface
+     * types they implement, e.g. {@code LinkedHashMap.class} for targets of type {@code Map}. The types given here
+     * take precedence over those given via {@link MapperConfig#implementationTypes()}; see there for the details.
+     *
+     * @return The collection and map implementation types to be instantiated by this mapper.
+     */
+    Class<?>[] implementationTypes() default { };
 }
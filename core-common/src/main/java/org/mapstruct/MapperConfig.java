@@ -29,7 +29,8 @@
  * Marks a class-, interface-, enum declaration as (common) configuration.
  *
  * The {@link #unmappedTargetPolicy() } and {@link #componentModel() } can be overruled by a specific {@link Mapper}
- * annotation. {@link #uses() } will be used in addition to what is specified in the {@link Mapper} annotation.
+ * annotation. {@link #uses() } will be used in addition to what is specified in the {@link Mapper} annotation, the
+ * same applies to {@link #implementationTypes() }, the types given via {@link Mapper} taking precedence.
  *
  * @author Sjaak Derksen
  */
@@ -89,4 +90,26 @@
      * @return The strategy to be applied when {@code null} is passed as source value to mapping methods.
      */
     NullValueMappingStrategy nullValueMappingStrategy() default NullValueMappingStrategy.DEFAULT;
+
+    /**
+     * The collection and map implementation types to be instantiated when mapping to the interface types they
+     * implement, e.g. {@code LinkedHashMap.class} for targets of type {@code Map}. Each given type must be a
+     * non-abstract class with a public no-args constructor, declaring the same type parameters as the implemented
+     * interface. It is used for each of the interfaces {@code Iterable}, {@code Collection}, {@code List},
+     * {@code Set}, {@code SortedSet}, {@code NavigableSet}, {@code Map}, {@code SortedMap}, {@code NavigableMap},
+     * {@code ConcurrentMap} and {@code ConcurrentNavigableMap} it implements, the first matching type given taking
+     * precedence. As targets of type {@code Iterable} or {@code Collection} may contain duplicates, only
+     * {@code List} implementations are used for these.
+     * <p>
+     * Interfaces not covered by any of the given types are instantiated using the implementation types given via the
+     * processor option {@code mapstruct.implementationTypes}, falling back to {@code ArrayList}, {@code HashSet},
+     * {@code TreeSet}, {@code HashMap}, {@code TreeMap}, {@code ConcurrentHashMap} and
+     * {@code ConcurrentSkipListMap}, respectively. If the processor option {@code mapstruct.enumSetsAndMaps} is set to
+     * {@code true}, an {@code EnumSet} or {@code EnumMap} is created for sets with an enum element type and maps with
+     * an enum key type, respectively, unless an implementation type is given for {@code Set} or {@code Map}; note
+     * that these do not permit {@code null} elements or keys.
+     *
+     * @return The collection and map implementation types to be instantiated by the generated mappers.
+     */
+    Class<?>[] implementationTypes() default { };
 }
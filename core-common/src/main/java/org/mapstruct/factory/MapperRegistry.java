@@ -0,0 +1,43 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.factory;
+
+/**
+ * Obtains the instances of a given set of mappers without reflection. Implementations are generated by the MapStruct
+ * annotation processor for all mappers of a compilation using the default component model, and are registered as
+ * service in {@code META-INF/services/org.mapstruct.factory.MapperRegistry}. {@link Mappers} uses the registries
+ * found via the {@link java.util.ServiceLoader} mechanism before falling back to loading mapper implementation types
+ * reflectively.
+ * <p>
+ * This interface is not meant to be implemented by application code.
+ *
+ * @author agent
+ */
+public interface MapperRegistry {
+
+    /**
+     * Returns the shared instance of the implementation of the given mapper, which is held by the implementation type.
+     *
+     * @param mapperName The fully qualified (binary) name of the mapper type, as returned by {@link Class#getName()}.
+     *
+     * @return The shared instance of the mapper implementation or {@code null} if the given mapper is not known to this
+     *         registry.
+     */
+    Object getMapper(String mapperName);
+}
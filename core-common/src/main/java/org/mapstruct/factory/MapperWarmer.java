@@ -0,0 +1,383 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.factory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Initializes the mappers of an application ahead of their first use, e.g. right after deployment, so the first
+ * mapping requests don't suffer from the loading of the mapper implementations, the mappers they use and the mapped
+ * types.
+ * <p>
+ * The mappers are discovered via the {@code META-INF/mapstruct/mappers} resources generated by the annotation processor
+ * for each module, which list all mappers that can be retrieved via {@link Mappers#getMapper(Class)}. Each mapper is
+ * retrieved once, so the instance returned by {@link Mappers} is already initialized when obtained by the application.
+ * The types of the parameters and return values of the mapping methods are loaded and initialized as well.
+ * <p>
+ * Optionally, each mapping method can be invoked a given number of times with synthetic arguments, driving the
+ * generated code towards being compiled by the JIT compiler before it is used in earnest. The arguments are created by
+ * invoking the public no-args constructors of the parameter types; collections and maps are empty. Methods with
+ * parameters that can't be created that way are not invoked. Note that the synthetic invocations also execute any
+ * decorators and custom methods invoked by the generated code, so they should only be enabled if these are free of
+ * side effects.
+ *
+ * <pre>
+ * MapperWarmer.WarmUpReport report = new MapperWarmer().invocations( 10000 ).warmUp();
+ * log.info( report.toString() );
+ * </pre>
+ *
+ * @author agent
+ */
+public class MapperWarmer {
+
+    /**
+     * The resource listing the mappers of a module, one line per mapper in the form
+     * {@code <mapper name>=<implementation name>}.
+     */
+    public static final String MAPPERS_RESOURCE = "META-INF/mapstruct/mappers";
+
+    private int invocations;
+
+    /**
+     * Sets the number of synthetic invocations of each mapping method. Values in the order of the compile threshold of
+     * the JVM, e.g. 10,000 for HotSpot, have the mapping methods compiled in most cases. Defaults to 0, i.e. the
+     * mapping methods are not invoked.
+     *
+     * @param invocations The number of invocations per mapping method.
+     *
+     * @return This warmer.
+     */
+    public MapperWarmer invocations(int invocations) {
+        if ( invocations < 0 ) {
+            throw new IllegalArgumentException( "The number of invocations must not be negative: " + invocations );
+        }
+
+        this.invocations = invocations;
+        return this;
+    }
+
+    /**
+     * Initializes all mappers listed by the mapper resources visible to the class loader used by {@link Mappers}.
+     * Errors occurring for single mappers or mapping methods don't abort the warm-up but are listed by the returned
+     * report.
+     *
+     * @return A report on the initialized mappers and the time taken.
+     */
+    public WarmUpReport warmUp() {
+        long start = System.nanoTime();
+        ClassLoader classLoader = Mappers.getClassLoader();
+        WarmUpReport report = new WarmUpReport();
+
+        for ( String mapperName : getMapperNames( classLoader, report ) ) {
+            try {
+                Class<?> mapperType = Class.forName( mapperName, true, classLoader );
+                Object mapper = Mappers.getMapper( mapperType );
+
+                for ( Method method : getMappingMethods( mapperType ) ) {
+                    initializeTypes( method );
+
+                    if ( invocations > 0 ) {
+                        invoke( mapper, method, report );
+                    }
+                }
+
+                report.initializedMappers.add( mapperName );
+            }
+            catch ( Exception e ) {
+                report.failures.put( mapperName, e );
+            }
+            catch ( LinkageError e ) {
+                report.failures.put( mapperName, e );
+            }
+        }
+
+        report.nanos = System.nanoTime() - start;
+
+        return report;
+    }
+
+    private static Set<String> getMapperNames(ClassLoader classLoader, WarmUpReport report) {
+        Set<String> mapperNames = new TreeSet<String>();
+        Enumeration<URL> resources;
+
+        try {
+            resources = classLoader.getResources( MAPPERS_RESOURCE );
+        }
+        catch ( IOException e ) {
+            report.failures.put( MAPPERS_RESOURCE, e );
+            return mapperNames;
+        }
+
+        while ( resources.hasMoreElements() ) {
+            URL resource = resources.nextElement();
+
+            try {
+                BufferedReader reader = new BufferedReader( new InputStreamReader( resource.openStream(), "UTF-8" ) );
+
+                try {
+                    String line;
+                    while ( ( line = reader.readLine() ) != null ) {
+                        line = line.trim();
+                        int separator = line.indexOf( '=' );
+
+                        if ( !line.startsWith( "#" ) && separator > 0 ) {
+                            mapperNames.add( line.substring( 0, separator ).trim() );
+                        }
+                    }
+                }
+                finally {
+                    reader.close();
+                }
+            }
+            catch ( IOException e ) {
+                report.failures.put( resource.toString(), e );
+            }
+        }
+
+        return mapperNames;
+    }
+
+    /**
+     * Returns the methods implemented by the generated mapper, i.e. the abstract methods of the mapper type.
+     */
+    private static List<Method> getMappingMethods(Class<?> mapperType) {
+        List<Method> methods = new ArrayList<Method>();
+
+        for ( Method method : mapperType.getMethods() ) {
+            if ( Modifier.isAbstract( method.getModifiers() ) ) {
+                methods.add( method );
+            }
+        }
+
+        return methods;
+    }
+
+    private static void initializeTypes(Method method) throws ClassNotFoundException {
+        initialize( method.getReturnType() );
+
+        for ( Class<?> parameterType : method.getParameterTypes() ) {
+            initialize( parameterType );
+        }
+    }
+
+    private static void initialize(Class<?> type) throws ClassNotFoundException {
+        while ( type.isArray() ) {
+            type = type.getComponentType();
+        }
+
+        if ( !type.isPrimitive() && type.getClassLoader() != null ) {
+            Class.forName( type.getName(), true, type.getClassLoader() );
+        }
+    }
+
+    private void invoke(Object mapper, Method method, WarmUpReport report) {
+        Object[] arguments = createArguments( method.getParameterTypes() );
+
+        if ( arguments == null ) {
+            report.skippedMethods.add( getName( method ) );
+            return;
+        }
+
+        try {
+            for ( int i = 0; i < invocations; i++ ) {
+                method.invoke( mapper, arguments );
+            }
+
+            report.invokedMethods++;
+            report.invocations += invocations;
+        }
+        catch ( InvocationTargetException e ) {
+            report.failures.put( getName( method ), e.getCause() );
+        }
+        catch ( IllegalAccessException e ) {
+            report.failures.put( getName( method ), e );
+        }
+    }
+
+    /**
+     * Creates the arguments for invoking a mapping method with the given parameter types.
+     *
+     * @return The arguments or {@code null} if any of them can't be created.
+     */
+    private static Object[] createArguments(Class<?>[] parameterTypes) {
+        Object[] arguments = new Object[parameterTypes.length];
+
+        for ( int i = 0; i < parameterTypes.length; i++ ) {
+            arguments[i] = createArgument( parameterTypes[i] );
+
+            if ( arguments[i] == null ) {
+                return null;
+            }
+        }
+
+        return arguments;
+    }
+
+    private static Object createArgument(Class<?> type) {
+        if ( type.isPrimitive() ) {
+            return type == boolean.class ? Boolean.FALSE : Array.get( Array.newInstance( type, 1 ), 0 );
+        }
+        if ( type == String.class ) {
+            return "";
+        }
+        if ( type.isEnum() ) {
+            Object[] constants = type.getEnumConstants();
+            return constants.length > 0 ? constants[0] : null;
+        }
+        if ( type.isArray() ) {
+            return Array.newInstance( type.getComponentType(), 0 );
+        }
+        if ( type.isInterface() ) {
+            return createCollection( type );
+        }
+
+        try {
+            return type.getConstructor().newInstance();
+        }
+        catch ( Exception e ) {
+            return null;
+        }
+        catch ( LinkageError e ) {
+            return null;
+        }
+    }
+
+    private static Object createCollection(Class<?> type) {
+        if ( type.isAssignableFrom( ArrayList.class ) ) {
+            return new ArrayList<Object>();
+        }
+        if ( type.isAssignableFrom( HashSet.class ) ) {
+            return new HashSet<Object>();
+        }
+        if ( type.isAssignableFrom( TreeSet.class ) ) {
+            return new TreeSet<Object>();
+        }
+        if ( type.isAssignableFrom( HashMap.class ) ) {
+            return new HashMap<Object, Object>();
+        }
+        if ( type.isAssignableFrom( TreeMap.class ) ) {
+            return new TreeMap<Object, Object>();
+        }
+
+        return null;
+    }
+
+    private static String getName(Method method) {
+        return method.getDeclaringClass().getName() + "#" + method.getName();
+    }
+
+    /**
+     * Describes the outcome of a warm-up.
+     */
+    public static class WarmUpReport {
+
+        private final List<String> initializedMappers = new ArrayList<String>();
+        private final List<String> skippedMethods = new ArrayList<String>();
+        private final Map<String, Throwable> failures = new LinkedHashMap<String, Throwable>();
+        private int invokedMethods;
+        private long invocations;
+        private long nanos;
+
+        private WarmUpReport() {
+        }
+
+        /**
+         * Returns the names of the initialized mappers.
+         *
+         * @return The names of the initialized mappers.
+         */
+        public List<String> getInitializedMappers() {
+            return Collections.unmodifiableList( initializedMappers );
+        }
+
+        /**
+         * Returns the names of the mapping methods not invoked as their arguments couldn't be created, in the form
+         * {@code <declaring type>#<method name>}.
+         *
+         * @return The names of the skipped mapping methods.
+         */
+        public List<String> getSkippedMethods() {
+            return Collections.unmodifiableList( skippedMethods );
+        }
+
+        /**
+         * Returns the errors which occurred, keyed by the name of the affected mapper, mapping method or resource.
+         *
+         * @return The errors which occurred.
+         */
+        public Map<String, Throwable> getFailures() {
+            return Collections.unmodifiableMap( failures );
+        }
+
+        /**
+         * Returns the number of mapping methods invoked with synthetic arguments.
+         *
+         * @return The number of invoked mapping methods.
+         */
+        public int getInvokedMethods() {
+            return invokedMethods;
+        }
+
+        /**
+         * Returns the total number of synthetic invocations of mapping methods.
+         *
+         * @return The total number of invocations.
+         */
+        public long getInvocations() {
+            return invocations;
+        }
+
+        /**
+         * Returns the time taken by the warm-up.
+         *
+         * @param unit The unit to return the time in.
+         *
+         * @return The time taken by the warm-up.
+         */
+        public long getDuration(TimeUnit unit) {
+            return unit.convert( nanos, TimeUnit.NANOSECONDS );
+        }
+
+        @Override
+        public String toString() {
+            return "Initialized " + initializedMappers.size() + " mappers and invoked " + invokedMethods
+                + " mapping methods " + invocations + " times in total (" + skippedMethods.size() + " skipped, "
+                + failures.size() + " failed) in " + getDuration( TimeUnit.MILLISECONDS ) + " ms";
+        }
+    }
+}
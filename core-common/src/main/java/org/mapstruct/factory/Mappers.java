@@ -18,6 +18,19 @@
  */
 package org.mapstruct.factory;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.mapstruct.Mapper;
 
 /**
@@ -28,6 +41,10 @@
  * suffix {@code Impl} appended. When using this factory, mapper types - and any mappers they use - are instantiated by
  * invoking their public no-args constructor.
  * <p>
+ * Mapper implementation types are preferably instantiated via the {@link MapperRegistry}s generated by the annotation
+ * processor, which invoke the constructors directly. Only mappers not known to any registry, e.g. if the registry of a
+ * module is outdated after an incremental compilation, are loaded and instantiated reflectively.
+ * <p>
  * By convention, a single instance of each mapper is retrieved from the factory and exposed on the mapper interface
  * type by declaring a member named {@code INSTANCE} like this:
  *
@@ -40,6 +57,15 @@
  *     // mapping methods...
  * }
  * </pre>
+ * <p>
+ * In order to initialize all mappers ahead of their first use, e.g. right after deployment, {@link MapperWarmer} can be
+ * used.
+ * <p>
+ * Repeated invocations of {@link #getMapper(Class)} return the same instance. Mapper implementations generated for the
+ * default component model hold that instance themselves, exposed via a static {@code getSharedInstance()} method, so
+ * the instance belongs to the class loader of the mapper and doesn't keep that loader (e.g. of a re-deployed
+ * application) reachable once the application is gone. For mapper implementations generated by older versions of the
+ * annotation processor, which lack that method, a new instance is created upon each invocation.
  *
  * @author Gunnar Morling
  */
@@ -47,38 +73,170 @@ public class Mappers {
 
     private static final String IMPLEMENTATION_SUFFIX = "Impl";
 
+    private static final String SHARED_INSTANCE_ACCESSOR = "getSharedInstance";
+
+    /**
+     * The mapper registries visible to each class loader. The registries are only referenced weakly, as they would
+     * otherwise keep their class loader reachable; they are looked up again after having been garbage-collected.
+     */
+    private static final ConcurrentMap<ClassLoaderKey, Reference<List<MapperRegistry>>> REGISTRIES =
+        new ConcurrentHashMap<ClassLoaderKey, Reference<List<MapperRegistry>>>();
+
+    private static final ReferenceQueue<ClassLoader> COLLECTED_CLASS_LOADERS = new ReferenceQueue<ClassLoader>();
+
     private Mappers() {
     }
 
     /**
-     * Returns an instance of the given mapper type.
+     * Returns the shared instance of the given mapper type.
      *
      * @param clazz The type of the mapper to return.
      * @param <T> The type of the mapper to create.
      * @return An instance of the given mapper type.
      */
     public static <T> T getMapper(Class<T> clazz) {
-        try {
+        ClassLoader classLoader = getClassLoader();
+
+        removeCollectedClassLoaders();
+
+        return getMapper( clazz, classLoader );
+    }
+
+    /**
+     * Returns the class loader to load mapper implementations from, i.e. the context class loader if set.
+     */
+    static ClassLoader getClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        if ( classLoader == null ) {
+            classLoader = Mappers.class.getClassLoader();
+        }
+
+        return classLoader;
+    }
 
-            // Check that
-            // - clazz is an interface
-            // - the implementation type implements clazz
-            // - clazz is annotated with @Mapper
-            //
-            // Use privileged action
-            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    private static <T> T getMapper(Class<T> clazz, ClassLoader classLoader) {
+        // Check that
+        // - clazz is an interface
+        // - the implementation type implements clazz
+        // - clazz is annotated with @Mapper
+        //
+        // Use privileged action
+        for ( MapperRegistry registry : getRegistries( classLoader ) ) {
+            Object mapper = registry.getMapper( clazz.getName() );
 
-            if ( classLoader == null ) {
-                classLoader = Mappers.class.getClassLoader();
+            if ( clazz.isInstance( mapper ) ) {
+                return clazz.cast( mapper );
             }
+        }
 
-            @SuppressWarnings("unchecked")
-            T mapper = (T) classLoader.loadClass( clazz.getName() + IMPLEMENTATION_SUFFIX ).newInstance();
+        try {
+            Class<?> implementation = classLoader.loadClass( clazz.getName() + IMPLEMENTATION_SUFFIX );
 
-            return mapper;
+            return clazz.cast( getSharedInstance( implementation ) );
+        }
+        catch ( ClassNotFoundException e ) {
+            throw new RuntimeException( "Cannot find implementation for mapper " + clazz.getName(), e );
         }
         catch ( Exception e ) {
-            throw new RuntimeException( e );
+            throw new RuntimeException( "Cannot instantiate implementation of mapper " + clazz.getName(), e );
+        }
+    }
+
+    /**
+     * Returns the instance held by the given implementation type or a new instance if the implementation has been
+     * generated by an older processor version, not providing a shared instance.
+     */
+    private static Object getSharedInstance(Class<?> implementation) throws Exception {
+        Method accessor;
+
+        try {
+            accessor = implementation.getMethod( SHARED_INSTANCE_ACCESSOR );
+        }
+        catch ( NoSuchMethodException e ) {
+            return implementation.newInstance();
+        }
+
+        if ( !Modifier.isStatic( accessor.getModifiers() ) ) {
+            return implementation.newInstance();
+        }
+
+        return accessor.invoke( null );
+    }
+
+    private static List<MapperRegistry> getRegistries(ClassLoader classLoader) {
+        Reference<List<MapperRegistry>> cachedReference = REGISTRIES.get( new ClassLoaderKey( classLoader, null ) );
+        List<MapperRegistry> registries = cachedReference != null ? cachedReference.get() : null;
+
+        if ( registries == null ) {
+            registries = loadRegistries( classLoader );
+            REGISTRIES.put(
+                new ClassLoaderKey( classLoader, COLLECTED_CLASS_LOADERS ),
+                new WeakReference<List<MapperRegistry>>( registries )
+            );
+        }
+
+        return registries;
+    }
+
+    /**
+     * Loads the registries visible to the given class loader. A broken registration, e.g. referring to a registry
+     * class which has been removed, is ignored, leaving the affected mappers to be instantiated reflectively.
+     */
+    private static List<MapperRegistry> loadRegistries(ClassLoader classLoader) {
+        List<MapperRegistry> registries = new ArrayList<MapperRegistry>();
+        Iterator<MapperRegistry> iterator = ServiceLoader.load( MapperRegistry.class, classLoader ).iterator();
+
+        try {
+            while ( iterator.hasNext() ) {
+                registries.add( iterator.next() );
+            }
+        }
+        catch ( ServiceConfigurationError e ) {
+            // use the registries loaded so far
+            return registries;
+        }
+
+        return registries;
+    }
+
+    private static void removeCollectedClassLoaders() {
+        Reference<? extends ClassLoader> collected;
+
+        while ( ( collected = COLLECTED_CLASS_LOADERS.poll() ) != null ) {
+            REGISTRIES.remove( collected );
+        }
+    }
+
+    /**
+     * Identifies a class loader, which is only referenced weakly.
+     */
+    private static final class ClassLoaderKey extends WeakReference<ClassLoader> {
+
+        private final int hashCode;
+
+        ClassLoaderKey(ClassLoader classLoader, ReferenceQueue<ClassLoader> queue) {
+            super( classLoader, queue );
+            this.hashCode = System.identityHashCode( classLoader );
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if ( this == obj ) {
+                return true;
+            }
+            if ( !( obj instanceof ClassLoaderKey ) ) {
+                return false;
+            }
+
+            ClassLoader classLoader = get();
+
+            return classLoader != null && classLoader == ( (ClassLoaderKey) obj ).get();
         }
     }
 }
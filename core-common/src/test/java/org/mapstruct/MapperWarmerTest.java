@@ -0,0 +1,71 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.mapstruct.factory.MapperWarmer;
+import org.mapstruct.factory.MapperWarmer.WarmUpReport;
+import org.mapstruct.factory.Mappers;
+import org.mapstruct.test.model.Foo;
+import org.mapstruct.test.model.SampleMapper;
+import org.mapstruct.test.model.SampleMapperImpl;
+
+/**
+ * Unit test for {@link MapperWarmer}.
+ *
+ * @author agent
+ */
+public class MapperWarmerTest {
+
+    @Test
+    public void shouldInitializeListedMappers() {
+        WarmUpReport report = new MapperWarmer().warmUp();
+
+        assertThat( report.getInitializedMappers() ).containsExactly(
+            Foo.class.getName(),
+            SampleMapper.class.getName()
+        );
+        assertThat( report.getFailures().keySet() ).containsOnly( "org.mapstruct.test.model.Missing" );
+        assertThat( report.getInvokedMethods() ).isEqualTo( 0 );
+        assertThat( report.getInvocations() ).isEqualTo( 0 );
+        assertThat( report.getDuration( TimeUnit.NANOSECONDS ) ).isGreaterThan( 0 );
+    }
+
+    @Test
+    public void shouldInvokeMappingMethodsWithSyntheticArguments() {
+        SampleMapperImpl mapper = (SampleMapperImpl) Mappers.getMapper( SampleMapper.class );
+        int invocationsBefore = mapper.getInvocations();
+
+        WarmUpReport report = new MapperWarmer().invocations( 100 ).warmUp();
+
+        assertThat( report.getInvokedMethods() ).isEqualTo( 2 );
+        assertThat( report.getInvocations() ).isEqualTo( 200 );
+        assertThat( report.getSkippedMethods() ).containsOnly( SampleMapper.class.getName() + "#describe" );
+        assertThat( mapper.getInvocations() - invocationsBefore ).isEqualTo( 200 );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNegativeNumberOfInvocations() {
+        new MapperWarmer().invocations( -1 );
+    }
+}
@@ -20,9 +20,27 @@
 
 import static org.fest.assertions.Assertions.assertThat;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Test;
 import org.mapstruct.factory.Mappers;
+import org.mapstruct.test.model.Bar;
+import org.mapstruct.test.model.BarImpl;
 import org.mapstruct.test.model.Foo;
+import org.mapstruct.test.model.FooImpl;
+import org.mapstruct.test.model.Legacy;
+import org.mapstruct.test.model.LegacyImpl;
 
 /**
  * Unit test for {@link Mappers}.
@@ -37,4 +55,162 @@ public void shouldReturnImplementationInstance() {
         Foo mapper = Mappers.getMapper( Foo.class );
         assertThat( mapper ).isNotNull();
     }
+
+    @Test
+    public void shouldReturnSameInstanceUponSubsequentInvocations() {
+        assertThat( Mappers.getMapper( Foo.class ) ).isSameAs( Mappers.getMapper( Foo.class ) );
+    }
+
+    @Test
+    public void shouldReturnSameInstanceToConcurrentInvocations() throws Exception {
+        final CountDownLatch start = new CountDownLatch( 1 );
+        ExecutorService executor = Executors.newFixedThreadPool( 8 );
+
+        try {
+            List<Future<Foo>> mappers = new ArrayList<Future<Foo>>();
+
+            for ( int i = 0; i < 8; i++ ) {
+                mappers.add(
+                    executor.submit(
+                        new Callable<Foo>() {
+                            @Override
+                            public Foo call() throws Exception {
+                                start.await();
+                                return Mappers.getMapper( Foo.class );
+                            }
+                        }
+                    )
+                );
+            }
+
+            start.countDown();
+
+            for ( Future<Foo> mapper : mappers ) {
+                assertThat( mapper.get() ).isSameAs( Mappers.getMapper( Foo.class ) );
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReturnInstanceHeldByImplementation() {
+        assertThat( Mappers.getMapper( Foo.class ) ).isSameAs( FooImpl.getSharedInstance() );
+    }
+
+    @Test
+    public void shouldCreateNewInstanceIfImplementationHoldsNoInstance() {
+        assertThat( Mappers.getMapper( Legacy.class ) ).isInstanceOf( LegacyImpl.class );
+        assertThat( Mappers.getMapper( Legacy.class ) ).isNotSameAs( Mappers.getMapper( Legacy.class ) );
+    }
+
+    @Test
+    public void shouldObtainMapperFromRegistry() {
+        assertThat( Mappers.getMapper( Bar.class ) ).isInstanceOf( BarImpl.class );
+        assertThat( Mappers.getMapper( Bar.class ) ).isSameAs( Mappers.getMapper( Bar.class ) );
+    }
+
+    @Test
+    public void shouldNotKeepClassLoaderOfMapperReachable() throws Exception {
+        ReferenceQueue<ClassLoader> queue = new ReferenceQueue<ClassLoader>();
+        WeakReference<ClassLoader> classLoader = getMapperFromChildFirstClassLoader( queue );
+
+        for ( int i = 0; i < 10 && queue.poll() == null; i++ ) {
+            System.gc();
+            Thread.sleep( 100 );
+        }
+
+        assertThat( classLoader.get() ).isNull();
+    }
+
+    /**
+     * Obtains a mapper loaded by a new class loader, returning a weak reference to that loader.
+     */
+    private WeakReference<ClassLoader> getMapperFromChildFirstClassLoader(ReferenceQueue<ClassLoader> queue)
+        throws Exception {
+        Thread currentThread = Thread.currentThread();
+        ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+        ClassLoader classLoader = new ChildFirstClassLoader( originalClassLoader );
+
+        try {
+            currentThread.setContextClassLoader( classLoader );
+            Class<?> mapperType = classLoader.loadClass( Foo.class.getName() );
+
+            Object mapper = Mappers.getMapper( mapperType );
+            assertThat( mapper.getClass().getClassLoader() ).isSameAs( classLoader );
+            assertThat( Mappers.getMapper( mapperType ) ).isSameAs( mapper );
+        }
+        finally {
+            currentThread.setContextClassLoader( originalClassLoader );
+        }
+
+        return new WeakReference<ClassLoader>( classLoader, queue );
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void shouldRaiseErrorIfImplementationIsMissing() {
+        Mappers.getMapper( MappersTest.class );
+    }
+
+    /**
+     * Loads the test model types itself instead of delegating to its parent, like the class loader of an application
+     * deployed to a container hosting MapStruct.
+     */
+    private static class ChildFirstClassLoader extends ClassLoader {
+
+        private static final String MODEL_PACKAGE = "org.mapstruct.test.model.";
+
+        ChildFirstClassLoader(ClassLoader parent) {
+            super( parent );
+        }
+
+        @Override
+        protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if ( !name.startsWith( MODEL_PACKAGE ) ) {
+                return super.loadClass( name, resolve );
+            }
+
+            Class<?> clazz = findLoadedClass( name );
+
+            if ( clazz == null ) {
+                byte[] bytes = readClassFile( name );
+                clazz = defineClass( name, bytes, 0, bytes.length );
+            }
+
+            if ( resolve ) {
+                resolveClass( clazz );
+            }
+
+            return clazz;
+        }
+
+        private byte[] readClassFile(String name) throws ClassNotFoundException {
+            InputStream classFile = getParent().getResourceAsStream( name.replace( '.', '/' ) + ".class" );
+
+            if ( classFile == null ) {
+                throw new ClassNotFoundException( name );
+            }
+
+            try {
+                try {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    byte[] buffer = new byte[4096];
+                    int read;
+
+                    while ( ( read = classFile.read( buffer ) ) != -1 ) {
+                        bytes.write( buffer, 0, read );
+                    }
+
+                    return bytes.toByteArray();
+                }
+                finally {
+                    classFile.close();
+                }
+            }
+            catch ( IOException e ) {
+                throw new ClassNotFoundException( name, e );
+            }
+        }
+    }
 }
@@ -18,6 +18,20 @@
  */
 package org.mapstruct.test.model;
 
+/**
+ * Can only be obtained via its shared instance.
+ */
 public class FooImpl implements Foo {
 
+    private FooImpl() {
+    }
+
+    public static FooImpl getSharedInstance() {
+        return SharedInstanceHolder.INSTANCE;
+    }
+
+    private static class SharedInstanceHolder {
+
+        private static final FooImpl INSTANCE = new FooImpl();
+    }
 }
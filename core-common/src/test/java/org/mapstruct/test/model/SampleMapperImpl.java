@@ -0,0 +1,60 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.test.model;
+
+import java.util.List;
+
+public class SampleMapperImpl implements SampleMapper {
+
+    private int invocations;
+
+    public static SampleMapperImpl getSharedInstance() {
+        return SharedInstanceHolder.INSTANCE;
+    }
+
+    @Override
+    public SampleBean copy(SampleBean bean) {
+        invocations++;
+
+        SampleBean copy = new SampleBean();
+        copy.setName( bean.getName() );
+        return copy;
+    }
+
+    @Override
+    public int count(List<String> values) {
+        invocations++;
+        return values.size();
+    }
+
+    @Override
+    public String describe(Runnable task) {
+        invocations++;
+        return task.toString();
+    }
+
+    public int getInvocations() {
+        return invocations;
+    }
+
+    private static class SharedInstanceHolder {
+
+        private static final SampleMapperImpl INSTANCE = new SampleMapperImpl();
+    }
+}
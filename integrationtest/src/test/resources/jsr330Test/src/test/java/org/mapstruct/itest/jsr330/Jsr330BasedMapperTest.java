@@ -21,12 +21,15 @@
 import static org.fest.assertions.Assertions.assertThat;
 
 import javax.inject.Inject;
+import javax.inject.Singleton;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mapstruct.itest.jsr330.Jsr330BasedMapperTest.SpringTestConfig;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Jsr330ScopeMetadataResolver;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 
@@ -39,13 +42,19 @@
 @RunWith( SpringJUnit4ClassRunner.class )
 public class Jsr330BasedMapperTest {
     @Configuration
-    @ComponentScan(basePackageClasses = Jsr330BasedMapperTest.class)
+    @ComponentScan(basePackageClasses = Jsr330BasedMapperTest.class, scopeResolver = Jsr330ScopeMetadataResolver.class)
     public static class SpringTestConfig {
     }
 
     @Inject
     private SourceTargetMapper mapper;
 
+    @Inject
+    private SourceTargetMapper anotherMapper;
+
+    @Inject
+    private ApplicationContext applicationContext;
+
 
     @Test
     public void shouldCreateSpringBasedMapper() {
@@ -57,4 +66,11 @@ public void shouldCreateSpringBasedMapper() {
         assertThat( target.getFoo() ).isEqualTo( Long.valueOf( 42 ) );
         assertThat( target.getDate() ).isEqualTo( "1980" );
     }
+
+    @Test
+    public void shouldCreateOneMapperInstanceForAllInjectionPoints() {
+        assertThat( mapper.getClass().isAnnotationPresent( Singleton.class ) ).isTrue();
+        assertThat( anotherMapper ).isSameAs( mapper );
+        assertThat( applicationContext.getBean( SourceTargetMapper.class ) ).isSameAs( mapper );
+    }
 }
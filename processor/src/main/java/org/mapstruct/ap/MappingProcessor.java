@@ -44,8 +44,10 @@
 import org.mapstruct.ap.option.ReportingPolicy;
 import org.mapstruct.ap.prism.MapperPrism;
 import org.mapstruct.ap.processor.DefaultModelElementProcessorContext;
+import org.mapstruct.ap.processor.MapperIndex;
 import org.mapstruct.ap.processor.ModelElementProcessor;
 import org.mapstruct.ap.processor.ModelElementProcessor.ProcessorContext;
+import org.mapstruct.ap.processor.RoundContext;
 import org.mapstruct.ap.util.AnnotationProcessingException;
 
 /**
@@ -67,6 +69,8 @@
  * <li>perform enrichments and modifications (e.g. add annotations for dependency injection)</li>
  * <li>if no error occurred, write out the model into Java source files</li>
  * </ul>
+ * At the end of each round, a registry instantiating the mappers generated within that round is written, which is used
+ * by the {@code Mappers} factory instead of reflection.
  * <p>
  * For reading annotation attributes, prisms as generated with help of the <a
  * href="https://java.net/projects/hickory">Hickory</a> tool are used. These prisms allow a comfortable access to
@@ -84,7 +88,16 @@
 @SupportedOptions({
     MappingProcessor.SUPPRESS_GENERATOR_TIMESTAMP,
     MappingProcessor.UNMAPPED_TARGET_POLICY,
-    MappingProcessor.DEFAULT_COMPONENT_MODEL
+    MappingProcessor.DEFAULT_COMPONENT_MODEL,
+    MappingProcessor.CACHE_DATE_FORMATS,
+    MappingProcessor.INDEXED_LOOPS,
+    MappingProcessor.IMPLEMENTATION_TYPES,
+    MappingProcessor.ENUM_SETS_AND_MAPS,
+    MappingProcessor.ENUM_MAPPING_TABLES,
+    MappingProcessor.UNKNOWN_ENUM_CONSTANT,
+    MappingProcessor.JSR330_SINGLETONS,
+    MappingProcessor.CONSTRUCTOR_INJECTION,
+    MappingProcessor.METHOD_SPLIT_THRESHOLD
 })
 public class MappingProcessor extends AbstractProcessor {
 
@@ -96,14 +109,41 @@ public class MappingProcessor extends AbstractProcessor {
     protected static final String SUPPRESS_GENERATOR_TIMESTAMP = "mapstruct.suppressGeneratorTimestamp";
     protected static final String UNMAPPED_TARGET_POLICY = "mapstruct.unmappedTargetPolicy";
     protected static final String DEFAULT_COMPONENT_MODEL = "mapstruct.defaultComponentModel";
+    protected static final String CACHE_DATE_FORMATS = "mapstruct.cacheDateFormats";
+    protected static final String INDEXED_LOOPS = "mapstruct.indexedLoops";
+    protected static final String IMPLEMENTATION_TYPES = "mapstruct.implementationTypes";
+    protected static final String ENUM_SETS_AND_MAPS = "mapstruct.enumSetsAndMaps";
+    protected static final String ENUM_MAPPING_TABLES = "mapstruct.enumMappingTables";
+    protected static final String UNKNOWN_ENUM_CONSTANT = "mapstruct.unknownEnumConstant";
+    protected static final String JSR330_SINGLETONS = "mapstruct.jsr330Singletons";
+    protected static final String CONSTRUCTOR_INJECTION = "mapstruct.constructorInjection";
+    protected static final String METHOD_SPLIT_THRESHOLD = "mapstruct.methodSplitThreshold";
+
+    /**
+     * Leaves a margin below the limit of HotSpot for huge methods (8000 bytes), as the size of generated methods is
+     * only estimated.
+     */
+    private static final int DEFAULT_METHOD_SPLIT_THRESHOLD = 6000;
 
     private Options options;
 
+    /**
+     * The model element processors to apply, retrieved once and used for all processed mappers.
+     */
+    private List<ModelElementProcessor<?, ?>> processors;
+
+    /**
+     * The mappers generated during the whole compilation, to be instantiated by the generated mapper registries.
+     */
+    private MapperIndex mapperIndex;
+
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
         super.init( processingEnv );
 
         options = createOptions();
+        processors = getProcessors();
+        mapperIndex = new MapperIndex();
     }
 
     private Options createOptions() {
@@ -112,10 +152,42 @@ private Options createOptions() {
         return new Options(
             Boolean.valueOf( processingEnv.getOptions().get( SUPPRESS_GENERATOR_TIMESTAMP ) ),
             unmappedTargetPolicy != null ? ReportingPolicy.valueOf( unmappedTargetPolicy ) : null,
-            processingEnv.getOptions().get( DEFAULT_COMPONENT_MODEL )
+            processingEnv.getOptions().get( DEFAULT_COMPONENT_MODEL ),
+            Boolean.valueOf( processingEnv.getOptions().get( CACHE_DATE_FORMATS ) ),
+            Boolean.valueOf( processingEnv.getOptions().get( INDEXED_LOOPS ) ),
+            getImplementationTypes( processingEnv.getOptions().get( IMPLEMENTATION_TYPES ) ),
+            Boolean.valueOf( processingEnv.getOptions().get( ENUM_SETS_AND_MAPS ) ),
+            Boolean.valueOf( processingEnv.getOptions().get( ENUM_MAPPING_TABLES ) ),
+            processingEnv.getOptions().get( UNKNOWN_ENUM_CONSTANT ),
+            !"false".equalsIgnoreCase( processingEnv.getOptions().get( JSR330_SINGLETONS ) ),
+            Boolean.valueOf( processingEnv.getOptions().get( CONSTRUCTOR_INJECTION ) ),
+            getMethodSplitThreshold( processingEnv.getOptions().get( METHOD_SPLIT_THRESHOLD ) )
         );
     }
 
+    private int getMethodSplitThreshold(String methodSplitThreshold) {
+        return methodSplitThreshold != null
+            ? Integer.parseInt( methodSplitThreshold.trim() )
+            : DEFAULT_METHOD_SPLIT_THRESHOLD;
+    }
+
+    /**
+     * Splits the comma-separated list of implementation type names given via the corresponding option.
+     */
+    private List<String> getImplementationTypes(String implementationTypes) {
+        List<String> names = new ArrayList<String>();
+
+        if ( implementationTypes != null ) {
+            for ( String name : implementationTypes.split( "," ) ) {
+                if ( !name.trim().isEmpty() ) {
+                    names.add( name.trim() );
+                }
+            }
+        }
+
+        return names;
+    }
+
     @Override
     public SourceVersion getSupportedSourceVersion() {
         return SourceVersion.latestSupported();
@@ -123,6 +195,7 @@ public SourceVersion getSupportedSourceVersion() {
 
     @Override
     public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
+        RoundContext roundContext = new RoundContext( processingEnv );
 
         for ( TypeElement annotation : annotations ) {
 
@@ -146,11 +219,30 @@ public boolean process(final Set<? extends TypeElement> annotations, final Round
                 // note that this assumes that a new source file is created for each mapper which must not
                 // necessarily be the case, e.g. in case of several mapper interfaces declared as inner types
                 // of one outer interface
-                ProcessorContext context = new DefaultModelElementProcessorContext( processingEnv, options );
+                ProcessorContext context = new DefaultModelElementProcessorContext(
+                    processingEnv,
+                    options,
+                    roundContext,
+                    mapperIndex,
+                    mapperTypeElement
+                );
                 processMapperTypeElement( context, mapperTypeElement );
             }
         }
 
+        // the registry is compiled together with the mappers in the next round; resources may be written in the last
+        // round only, though
+        mapperIndex.writeRegistry(
+            processingEnv.getFiler(),
+            processingEnv.getElementUtils(),
+            roundContext.getTypeFactory(),
+            options.isSuppressGeneratorTimestamp()
+        );
+
+        if ( roundEnvironment.processingOver() ) {
+            mapperIndex.writeResources( processingEnv.getFiler() );
+        }
+
         return ANNOTATIONS_CLAIMED_EXCLUSIVELY;
     }
 
@@ -164,7 +256,7 @@ public boolean process(final Set<? extends TypeElement> annotations, final Round
     private void processMapperTypeElement(ProcessorContext context, TypeElement mapperTypeElement) {
         Object model = null;
 
-        for ( ModelElementProcessor<?, ?> processor : getProcessors() ) {
+        for ( ModelElementProcessor<?, ?> processor : processors ) {
             try {
                 model = process( context, processor, mapperTypeElement, model );
             }
@@ -182,8 +274,19 @@ private void processMapperTypeElement(ProcessorContext context, TypeElement mapp
         }
     }
 
-    private <P, R> R process(ProcessorContext context, ModelElementProcessor<P, R> processor,
-                             TypeElement mapperTypeElement, Object modelElement) {
+    /**
+     * Applies the given {@link ModelElementProcessor} to the given model element. May be overridden in order to
+     * instrument the single processing phases, e.g. for measuring the time spent in each of them.
+     *
+     * @param context The processor context.
+     * @param processor The processor to apply.
+     * @param mapperTypeElement The mapper type element.
+     * @param modelElement The model element as created by the previous processor.
+     *
+     * @return The model element created by the given processor.
+     */
+    protected <P, R> R process(ProcessorContext context, ModelElementProcessor<P, R> processor,
+                               TypeElement mapperTypeElement, Object modelElement) {
         @SuppressWarnings("unchecked")
         P sourceElement = (P) modelElement;
         return processor.process( context, mapperTypeElement, sourceElement );
@@ -196,7 +299,7 @@ private <P, R> R process(ProcessorContext context, ModelElementProcessor<P, R> p
      *
      * @return A list with all model element processors.
      */
-    private Iterable<ModelElementProcessor<?, ?>> getProcessors() {
+    private List<ModelElementProcessor<?, ?>> getProcessors() {
         // TODO Re-consider which class loader to use in case processors are
         // loaded from other modules, too
         @SuppressWarnings("rawtypes")
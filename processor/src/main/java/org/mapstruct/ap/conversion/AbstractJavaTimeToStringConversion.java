@@ -51,13 +51,36 @@ protected String getToExpression(ConversionContext conversionContext) {
 
     private String dateTimeFormatter(ConversionContext conversionContext) {
         if ( !Strings.isEmpty( conversionContext.getDateFormat() ) ) {
-            return "DateTimeFormatter.ofPattern( \"" + conversionContext.getDateFormat() + "\" )";
+            return patternFormatter( conversionContext );
         }
         else {
-            return "DateTimeFormatter." + defaultFormatterSuffix();
+            return dateTimeFormatterReference( conversionContext ) + "." + defaultFormatterSuffix();
         }
     }
 
+    /**
+     * Returns the name by which {@code DateTimeFormatter} can be referenced in the generated mapper, i.e. the fully
+     * qualified name if the simple name is taken by another imported type such as Joda's {@code DateTimeFormatter}.
+     */
+    private String dateTimeFormatterReference(ConversionContext conversionContext) {
+        Type type = conversionContext.getTypeFactory().getType( dateTimeFormatterClass() );
+        return type.isImported() ? type.getName() : type.getFullyQualifiedName();
+    }
+
+    /**
+     * Returns the name of the mapper field holding the formatter for the given date format, so the pattern is parsed
+     * only once instead of upon each conversion.
+     */
+    private String patternFormatter(ConversionContext conversionContext) {
+        String dateFormat = conversionContext.getDateFormat();
+
+        return conversionContext.getSupportingField(
+            conversionContext.getTypeFactory().getType( dateTimeFormatterClass() ),
+            Strings.getConstantName( "DATE_TIME_FORMATTER", dateFormat ),
+            dateTimeFormatterReference( conversionContext ) + ".ofPattern( \"" + dateFormat + "\" )"
+        ).getVariableName();
+    }
+
     protected abstract String defaultFormatterSuffix();
 
     @Override
@@ -73,9 +96,8 @@ private String parametersListForParsing(ConversionContext conversionContext) {
         // See http://docs.oracle.com/javase/tutorial/datetime/iso/format.html for how to format Dates
         StringBuilder parameterBuilder = new StringBuilder( "<SOURCE>" );
         if ( !Strings.isEmpty( conversionContext.getDateFormat() ) ) {
-            parameterBuilder.append( ", DateTimeFormatter.ofPattern( \"" )
-                            .append( conversionContext.getDateFormat() )
-                            .append( "\" )" );
+            parameterBuilder.append( ", " )
+                            .append( patternFormatter( conversionContext ) );
         }
         return parameterBuilder.toString();
     }
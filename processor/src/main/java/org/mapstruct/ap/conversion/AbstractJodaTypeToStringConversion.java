@@ -59,31 +59,26 @@ protected Set<Type> getFromConversionImportTypes(ConversionContext conversionCon
     }
 
     private String conversionString(ConversionContext conversionContext, String method) {
-        StringBuilder conversionString = new StringBuilder( "DateTimeFormat" );
-        conversionString.append( dateFormatPattern( conversionContext ) );
+        StringBuilder conversionString = new StringBuilder( dateTimeFormatter( conversionContext ) );
         conversionString.append( "." );
         conversionString.append( method );
         conversionString.append( "( <SOURCE> )" );
         return conversionString.toString();
     }
 
-    private String dateFormatPattern(ConversionContext conversionContext) {
-        StringBuilder conversionString = new StringBuilder();
-        conversionString.append( ".forPattern(" );
-
+    private String dateTimeFormatter(ConversionContext conversionContext) {
         String dateFormat = conversionContext.getDateFormat();
-        if ( Strings.isEmpty( dateFormat ) ) {
-            conversionString.append( defaultDateFormatPattern() );
 
+        // the default pattern depends on the default locale at the time of conversion, so it can't be kept in a field
+        if ( Strings.isEmpty( dateFormat ) ) {
+            return "DateTimeFormat.forPattern(" + defaultDateFormatPattern() + ")";
         }
-        else {
-            conversionString.append( " \"" );
-            conversionString.append( dateFormat );
-            conversionString.append( "\"" );
 
-        }
-        conversionString.append( ")" );
-        return conversionString.toString();
+        return conversionContext.getSupportingField(
+            conversionContext.getTypeFactory().getType( JodaTimeConstants.DATE_TIME_FORMATTER_FQN ),
+            Strings.getConstantName( "DATE_TIME_FORMATTER", dateFormat ),
+            "DateTimeFormat.forPattern( \"" + dateFormat + "\" )"
+        ).getVariableName();
     }
 
     private String defaultDateFormatPattern() {
@@ -57,18 +57,6 @@ public Assignment from(ConversionContext conversionContext) {
     }
 
     private String getConversionExpression(ConversionContext conversionContext, String method) {
-        StringBuilder conversionString = new StringBuilder( "new SimpleDateFormat(" );
-
-        if ( conversionContext.getDateFormat() != null ) {
-            conversionString.append( " \"" );
-            conversionString.append( conversionContext.getDateFormat() );
-            conversionString.append( "\" " );
-        }
-
-        conversionString.append( ")." );
-        conversionString.append( method );
-        conversionString.append( "( <SOURCE> )" );
-
-        return conversionString.toString();
+        return conversionContext.getDateFormatInstance() + "." + method + "( <SOURCE> )";
     }
 }
@@ -18,20 +18,34 @@
  */
 package org.mapstruct.ap.conversion;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Set;
 
 import org.mapstruct.ap.model.common.ConversionContext;
+import org.mapstruct.ap.model.common.SupportingField;
+import org.mapstruct.ap.model.common.SupportingField.Entry;
 import org.mapstruct.ap.model.common.Type;
+import org.mapstruct.ap.model.common.TypeFactory;
+import org.mapstruct.ap.util.Strings;
 
 import static org.mapstruct.ap.util.Collections.asSet;
 
 /**
  * Conversion between {@link String} and {@link Enum} types.
+ * <p>
+ * By default, strings are converted via {@link Enum#valueOf(Class, String)}, raising an exception for strings not
+ * matching any constant name. If the processor option {@code mapstruct.unknownEnumConstant} is given, strings are
+ * looked up in a map of the constants by name held by the generated mapper instead, returning {@code null} or the
+ * given constant for unknown strings, which avoids the cost of creating exceptions for bad input.
  *
  * @author Gunnar Morling
  */
 public class EnumStringConversion extends SimpleConversion {
 
+    private static final String NULL = "null";
+
     @Override
     public String getToExpression(ConversionContext conversionContext) {
         return "<SOURCE>.toString()";
@@ -39,7 +53,58 @@ public String getToExpression(ConversionContext conversionContext) {
 
     @Override
     public String getFromExpression(ConversionContext conversionContext) {
-        return "Enum.valueOf( " + conversionContext.getTargetType().getName() + ".class, <SOURCE> )";
+        Type enumType = conversionContext.getTargetType();
+        String unknownEnumConstant = conversionContext.getUnknownEnumConstant();
+
+        if ( NULL.equals( unknownEnumConstant ) ) {
+            return getConstantsByName( conversionContext, null ).getVariableName() + ".get( <SOURCE> )";
+        }
+        else if ( unknownEnumConstant != null && enumType.getEnumConstants().contains( unknownEnumConstant ) ) {
+            return getConstantsByName( conversionContext, unknownEnumConstant ).getLookupMethodName() + "( <SOURCE> )";
+        }
+
+        return "Enum.valueOf( " + enumType.getName() + ".class, <SOURCE> )";
+    }
+
+    /**
+     * Returns a field holding the constants of the target enum type by their names. If a default constant is given,
+     * the field is accompanied by a lookup method returning that constant for unknown names instead of {@code null},
+     * so looking up a string takes a single map access and doesn't raise any exception.
+     */
+    private SupportingField getConstantsByName(ConversionContext conversionContext, String defaultConstant) {
+        Type enumType = conversionContext.getTargetType();
+        String enumTypeName = enumType.getName();
+        List<String> constants = enumType.getEnumConstants();
+
+        List<Entry> entries = new ArrayList<Entry>( constants.size() );
+        for ( String constant : constants ) {
+            entries.add( new Entry( "\"" + constant + "\"", enumTypeName + "." + constant ) );
+        }
+
+        TypeFactory typeFactory = conversionContext.getTypeFactory();
+        Type mapType = typeFactory.getParameterizedType( HashMap.class, typeFactory.getType( String.class ), enumType );
+        String initializer = "new HashMap<String, " + enumTypeName + ">( "
+            + getInitialCapacity( constants.size() ) + " )";
+        String name = Strings.getConstantName( enumTypeName ) + "_BY_NAME";
+
+        if ( defaultConstant != null ) {
+            return conversionContext.getSupportingField(
+                mapType,
+                name,
+                initializer,
+                entries,
+                enumTypeName + "." + defaultConstant
+            );
+        }
+
+        return conversionContext.getSupportingField( mapType, name, initializer, entries );
+    }
+
+    /**
+     * Returns the initial capacity of a {@link HashMap} holding the given number of entries without being re-hashed.
+     */
+    private int getInitialCapacity(int size) {
+        return (int) ( size / 0.75f ) + 1;
     }
 
     @Override
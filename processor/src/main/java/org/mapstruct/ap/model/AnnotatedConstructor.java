@@ -0,0 +1,82 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.model;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.ap.model.common.ModelElement;
+import org.mapstruct.ap.model.common.Type;
+
+/**
+ * Represents a constructor of a mapper implementation, annotated for dependency injection and receiving the referenced
+ * mappers, which are assigned to {@code final} fields.
+ *
+ * @author agent
+ */
+public class AnnotatedConstructor extends ModelElement {
+
+    private final String name;
+    private final Annotation annotation;
+    private final List<MapperReference> mapperReferences;
+    private final boolean includeNoArgsConstructor;
+
+    /**
+     * Creates a new constructor.
+     *
+     * @param name the name of the mapper implementation
+     * @param annotation the annotation marking the constructor for injection
+     * @param mapperReferences the referenced mappers to be passed to the constructor
+     * @param includeNoArgsConstructor whether to add a non-private no-args constructor besides the annotated one, as
+     * required by some containers for creating client proxies
+     */
+    public AnnotatedConstructor(String name, Annotation annotation, List<MapperReference> mapperReferences,
+                                boolean includeNoArgsConstructor) {
+        this.name = name;
+        this.annotation = annotation;
+        this.mapperReferences = mapperReferences;
+        this.includeNoArgsConstructor = includeNoArgsConstructor;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> importTypes = new HashSet<Type>( annotation.getImportTypes() );
+        for ( MapperReference mapperReference : mapperReferences ) {
+            importTypes.addAll( mapperReference.getImportTypes() );
+        }
+        return importTypes;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Annotation getAnnotation() {
+        return annotation;
+    }
+
+    public List<MapperReference> getMapperReferences() {
+        return mapperReferences;
+    }
+
+    public boolean isIncludeNoArgsConstructor() {
+        return includeNoArgsConstructor;
+    }
+}
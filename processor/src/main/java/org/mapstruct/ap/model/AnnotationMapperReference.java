@@ -24,7 +24,8 @@
 import org.mapstruct.ap.util.Collections;
 
 /**
- * Mapper reference which is retrieved via Annotation-based dependency injection.
+ * Mapper reference which is retrieved via Annotation-based dependency injection, either into the annotated field
+ * itself or into a {@code final} field via an {@link AnnotatedConstructor}.
  *
  * @author Gunnar Morling
  * @author Andreas Gudian
@@ -32,18 +33,39 @@
 public class AnnotationMapperReference extends MapperReference {
 
     private final Annotation annotation;
+    private final boolean fieldFinal;
 
     public AnnotationMapperReference(Type type, String variableName, Annotation annotation) {
         super( type, variableName );
         this.annotation = annotation;
+        this.fieldFinal = false;
+    }
+
+    /**
+     * Creates a reference held in a {@code final} field, to be assigned by an {@link AnnotatedConstructor}.
+     *
+     * @param type the type of the referenced mapper
+     * @param variableName the name of the field
+     */
+    public AnnotationMapperReference(Type type, String variableName) {
+        super( type, variableName );
+        this.annotation = null;
+        this.fieldFinal = true;
     }
 
     public Annotation getAnnotation() {
         return annotation;
     }
 
+    public boolean isFieldFinal() {
+        return fieldFinal;
+    }
+
     @Override
     public Set<Type> getImportTypes() {
+        if ( annotation == null ) {
+            return Collections.asSet( super.getType() );
+        }
         return Collections.asSet( annotation.getImportTypes(), super.getType() );
     }
 }
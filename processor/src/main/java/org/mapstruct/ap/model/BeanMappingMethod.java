@@ -33,11 +33,13 @@
 import org.mapstruct.ap.model.PropertyMapping.ConstantMappingBuilder;
 import org.mapstruct.ap.model.PropertyMapping.JavaExpressionMappingBuilder;
 import org.mapstruct.ap.model.PropertyMapping.PropertyMappingBuilder;
+import org.mapstruct.ap.model.PropertyMapping.SharedSourcePathBuilder;
 import org.mapstruct.ap.model.common.Parameter;
 import org.mapstruct.ap.model.common.Type;
 import org.mapstruct.ap.model.source.Mapping;
 import org.mapstruct.ap.model.source.SourceMethod;
 import org.mapstruct.ap.model.source.SourceReference;
+import org.mapstruct.ap.model.source.SourceReference.PropertyEntry;
 import org.mapstruct.ap.option.ReportingPolicy;
 import org.mapstruct.ap.prism.CollectionMappingStrategyPrism;
 import org.mapstruct.ap.prism.NullValueMappingPrism;
@@ -59,6 +61,8 @@ public class BeanMappingMethod extends MappingMethod {
     private final List<PropertyMapping> constantMappings;
     private final MethodReference factoryMethod;
     private final boolean mapNullToDefault;
+    private final List<HelperMethod> helperMethods;
+    private final Map<String, List<HelperMethod>> helperMethodsByParameter;
 
     public static class Builder {
 
@@ -67,6 +71,8 @@ public static class Builder {
         private Map<String, ExecutableElement> unprocessedTargetProperties;
         private final List<PropertyMapping> propertyMappings = new ArrayList<PropertyMapping>();
         private final Set<Parameter> unprocessedSourceParameters = new HashSet<Parameter>();
+        private final Set<String> existingVariableNames = new HashSet<String>();
+        private final Map<String, String> sharedSourcePathVarNames = new HashMap<String, String>();
 
         public Builder mappingContext(MappingBuilderContext mappingContext) {
             this.ctx = mappingContext;
@@ -83,6 +89,12 @@ public Builder souceMethod(SourceMethod sourceMethod) {
         }
 
         public BeanMappingMethod build() {
+            // collect the variable names which local variables of the property mappings must not conflict with
+            initExistingVariableNames();
+
+            // read nested source paths shared by several mappings into local variables
+            applySharedSourcePaths();
+
             // map properties with mapping
             boolean mappingErrorOccured = handleDefinedSourceMappings();
             if ( mappingErrorOccured ) {
@@ -103,8 +115,166 @@ public BeanMappingMethod build() {
             boolean mapNullToDefault =
                 MapperConfig.getInstanceOn( ctx.getMapperTypeElement() ).isMapToDefault( prism );
 
+            // move the property mappings of huge methods into helper methods
+            List<HelperMethod> helperMethods = splitPropertyMappingsIfRequired();
+
             MethodReference factoryMethod = AssignmentFactory.createFactoryMethod( method.getReturnType(), ctx );
-            return new BeanMappingMethod( method, propertyMappings, factoryMethod, mapNullToDefault );
+            return new BeanMappingMethod( method, propertyMappings, factoryMethod, mapNullToDefault, helperMethods );
+        }
+
+        /**
+         * Distributes the property mappings over private helper methods if the estimated byte code size of the mapping
+         * method exceeds the configured threshold. HotSpot doesn't JIT-compile methods larger than 8000 bytes, so the
+         * mapping method of a bean with hundreds of properties would otherwise always be interpreted. Mappings reading
+         * a shared source path and constant mappings remain in the mapping method itself.
+         *
+         * @return the helper methods, an empty list if the method doesn't need to be split
+         */
+        private List<HelperMethod> splitPropertyMappingsIfRequired() {
+            List<HelperMethod> helperMethods = new ArrayList<HelperMethod>();
+            int threshold = ctx.getOptions().getMethodSplitThreshold();
+
+            int estimatedSize = 0;
+            for ( PropertyMapping propertyMapping : propertyMappings ) {
+                estimatedSize += propertyMapping.getEstimatedSize();
+            }
+
+            if ( threshold <= 0 || estimatedSize <= threshold ) {
+                return helperMethods;
+            }
+
+            for ( Parameter sourceParameter : method.getSourceParameters() ) {
+                HelperMethod helperMethod = null;
+
+                for ( PropertyMapping propertyMapping : propertyMappings ) {
+                    if ( !sourceParameter.getName().equals( propertyMapping.getSourceBeanName() )
+                        || propertyMapping.getSharedSourcePathVarName() != null ) {
+                        continue;
+                    }
+
+                    if ( helperMethod == null
+                        || helperMethod.getEstimatedSize() + propertyMapping.getEstimatedSize() > threshold ) {
+                        helperMethod = new HelperMethod(
+                            ctx.getHelperMethodName( method.getName() + "Properties" ),
+                            sourceParameter.getName()
+                        );
+                        helperMethods.add( helperMethod );
+                    }
+
+                    helperMethod.addPropertyMapping( propertyMapping );
+                }
+            }
+
+            if ( !helperMethods.isEmpty() ) {
+                ctx.getMessager().printMessage(
+                    Diagnostic.Kind.NOTE,
+                    String.format(
+                        "Split mapping method with an estimated size of %d bytes into %d helper methods.",
+                        estimatedSize,
+                        helperMethods.size()
+                    ),
+                    method.getExecutable()
+                );
+            }
+
+            return helperMethods;
+        }
+
+        /**
+         * Collects the names of the method parameters, the result variable and the mapper references. Local variables
+         * declared by property mappings (e.g. to read a source property only once) must neither conflict with nor
+         * shadow any of them.
+         */
+        private void initExistingVariableNames() {
+            existingVariableNames.addAll( method.getParameterNames() );
+            if ( method.getTargetParameter() == null ) {
+                existingVariableNames.add(
+                    Strings.getSaveVariableName( method.getResultType().getName(), method.getParameterNames() )
+                );
+            }
+            for ( MapperReference mapperReference : ctx.getMapperReferences() ) {
+                existingVariableNames.add( mapperReference.getVariableName() );
+            }
+        }
+
+        /**
+         * Determines the nested source paths (e.g. {@code customer.address}) which are shared by several mappings with
+         * a nested source (e.g. {@code customer.address.street} and {@code customer.address.city}). The value of each
+         * such path is read into a local variable once, by a property mapping preceding all other ones, and the nested
+         * source properties are read from that variable instead of traversing the path again for each mapping. A
+         * shared path is skipped if all the mappings sharing it share a longer path as well.
+         */
+        private void applySharedSourcePaths() {
+            List<SourceReference> nestedSourceReferences = new ArrayList<SourceReference>();
+            Map<String, Integer> pathCounts = new HashMap<String, Integer>();
+
+            for ( List<Mapping> mappings : method.getMappings().values() ) {
+                for ( Mapping mapping : mappings ) {
+                    SourceReference sourceRef = mapping.getSourceReference();
+                    if ( mapping.isIgnored() || sourceRef == null || !sourceRef.isValid()
+                        || sourceRef.getPropertyEntries().size() < 2
+                        || !unprocessedTargetProperties.containsKey( mapping.getTargetName() ) ) {
+                        continue;
+                    }
+
+                    nestedSourceReferences.add( sourceRef );
+                    for ( int length = 1; length < sourceRef.getPropertyEntries().size(); length++ ) {
+                        String path = getSourcePath( sourceRef, length );
+                        Integer count = pathCounts.get( path );
+                        pathCounts.put( path, count == null ? 1 : count + 1 );
+                    }
+                }
+            }
+
+            for ( SourceReference sourceRef : nestedSourceReferences ) {
+                int size = sourceRef.getPropertyEntries().size();
+                String parentPathVarName = null;
+                int parentPathLength = 0;
+
+                for ( int length = 1; length < size; length++ ) {
+                    String path = getSourcePath( sourceRef, length );
+                    int count = pathCounts.get( path );
+                    if ( count < 2 ) {
+                        break;
+                    }
+
+                    // all mappings sharing this path share the next longer one as well
+                    if ( length + 1 < size && pathCounts.get( getSourcePath( sourceRef, length + 1 ) ) == count ) {
+                        continue;
+                    }
+
+                    String localVarName = sharedSourcePathVarNames.get( path );
+                    if ( localVarName == null ) {
+                        List<String> propertyNames = new ArrayList<String>( length );
+                        for ( PropertyEntry propertyEntry : sourceRef.getPropertyEntries().subList( 0, length ) ) {
+                            propertyNames.add( propertyEntry.getName() );
+                        }
+                        localVarName = Strings.getSaveVariableName(
+                            Strings.joinAndCamelize( propertyNames ),
+                            existingVariableNames
+                        );
+                        existingVariableNames.add( localVarName );
+                        sharedSourcePathVarNames.put( path, localVarName );
+
+                        propertyMappings.add(
+                            new SharedSourcePathBuilder()
+                                .mappingContext( ctx )
+                                .souceMethod( method )
+                                .sourceReference( sourceRef, length )
+                                .localVarName( localVarName )
+                                .parentPath( parentPathVarName, parentPathLength )
+                                .build()
+                        );
+                    }
+
+                    parentPathVarName = localVarName;
+                    parentPathLength = length;
+                }
+            }
+        }
+
+        private String getSourcePath(SourceReference sourceRef, int length) {
+            return Strings.join( sourceRef.getElementNames().subList( 0, length + 1 ), "." );
         }
 
         /**
@@ -211,15 +381,27 @@ else if ( mapping.getSourceName() != null ) {
 
                                 // targetProperty == null can occur: we arrived here because we want as many errors
                                 // as possible before we stop analysing
-                                propertyMapping = new PropertyMappingBuilder()
+                                PropertyMappingBuilder builder = new PropertyMappingBuilder()
                                     .mappingContext( ctx )
                                     .souceMethod( method )
                                     .targetAccessor( targetProperty )
                                     .targetPropertyName( mapping.getTargetName() )
                                     .sourceReference( sourceRef )
+                                    .existingVariableNames( existingVariableNames )
                                     .qualifiers( mapping.getQualifiers() )
-                                    .dateFormat( mapping.getDateFormat() )
-                                    .build();
+                                    .dateFormat( mapping.getDateFormat() );
+
+                                // start at the longest nested source path shared with other mappings, if any
+                                for ( int length = sourceRef.getPropertyEntries().size() - 1; length > 0; length-- ) {
+                                    String sharedSourcePathVarName =
+                                        sharedSourcePathVarNames.get( getSourcePath( sourceRef, length ) );
+                                    if ( sharedSourcePathVarName != null ) {
+                                        builder.sharedSourcePath( sharedSourcePathVarName, length );
+                                        break;
+                                    }
+                                }
+
+                                propertyMapping = builder.build();
                                 handledTargets.add( mapping.getTargetName() );
                                 unprocessedSourceParameters.remove( sourceRef.getParameter() );
                             }
@@ -298,13 +480,7 @@ private void applyPropertyNameBasedMapping() {
                             continue;
                         }
 
-                        for ( ExecutableElement sourceAccessor : sourceParameter.getType().getGetters() ) {
-                            String sourcePropertyName = Executables.getPropertyName( sourceAccessor );
-
-                            if ( sourcePropertyName.equals( targetProperty.getKey() ) ) {
-                                candidates.add( sourceAccessor );
-                            }
-                        }
+                        candidates.addAll( sourceParameter.getType().getGettersForProperty( targetProperty.getKey() ) );
 
                         PropertyMapping newPropertyMapping = null;
                         ExecutableElement sourceAccessor = getSourceAccessor( targetProperty.getKey(), candidates );
@@ -324,6 +500,7 @@ private void applyPropertyNameBasedMapping() {
                                 .targetAccessor( targetProperty.getValue() )
                                 .targetPropertyName( targetProperty.getKey() )
                                 .sourceReference( sourceRef )
+                                .existingVariableNames( existingVariableNames )
                                 .qualifiers( mapping != null ? mapping.getQualifiers() : null )
                                 .dateFormat( mapping != null ? mapping.getDateFormat() : null )
                                 .build();
@@ -386,6 +563,7 @@ private void applyParameterNameBasedMapping() {
                             .targetAccessor( targetProperty.getValue() )
                             .targetPropertyName( targetProperty.getKey() )
                             .sourceReference( sourceRef )
+                            .existingVariableNames( existingVariableNames )
                             .qualifiers( mapping != null ? mapping.getQualifiers() : null )
                             .dateFormat( mapping != null ? mapping.getDateFormat() : null )
                             .build();
@@ -479,7 +657,8 @@ private void reportErrorForUnmappedTargetPropertiesIfRequired() {
     private BeanMappingMethod(SourceMethod method,
                               List<PropertyMapping> propertyMappings,
                               MethodReference factoryMethod,
-                              boolean mapNullToDefault) {
+                              boolean mapNullToDefault,
+                              List<HelperMethod> helperMethods) {
         super( method );
         this.propertyMappings = propertyMappings;
 
@@ -499,6 +678,18 @@ private BeanMappingMethod(SourceMethod method,
         }
         this.factoryMethod = factoryMethod;
         this.mapNullToDefault = mapNullToDefault;
+
+        // the mappings moved into helper methods are rendered by these instead of the mapping method itself
+        this.helperMethods = helperMethods;
+        this.helperMethodsByParameter = new HashMap<String, List<HelperMethod>>();
+        for ( Parameter sourceParameter : getSourceParameters() ) {
+            helperMethodsByParameter.put( sourceParameter.getName(), new ArrayList<HelperMethod>() );
+        }
+        for ( HelperMethod helperMethod : helperMethods ) {
+            helperMethodsByParameter.get( helperMethod.getSourceParameterName() ).add( helperMethod );
+            mappingsByParameter.get( helperMethod.getSourceParameterName() )
+                .removeAll( helperMethod.getPropertyMappings() );
+        }
     }
 
     public List<PropertyMapping> getPropertyMappings() {
@@ -517,6 +708,14 @@ public boolean isMapNullToDefault() {
         return mapNullToDefault;
     }
 
+    public List<HelperMethod> getHelperMethods() {
+        return helperMethods;
+    }
+
+    public Map<String, List<HelperMethod>> getHelperMethodsByParameter() {
+        return helperMethodsByParameter;
+    }
+
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> types = super.getImportTypes();
@@ -553,4 +752,43 @@ public List<Parameter> getSourcePrimitiveParameters() {
     public MethodReference getFactoryMethod() {
         return this.factoryMethod;
     }
+
+    /**
+     * A private method of the mapper implementation to which a part of the property mappings of a huge mapping method
+     * is moved. It takes the parameters of the mapping method and, unless an existing instance is mapped, the result
+     * object as additional parameter.
+     */
+    public static class HelperMethod {
+
+        private final String name;
+        private final String sourceParameterName;
+        private final List<PropertyMapping> propertyMappings = new ArrayList<PropertyMapping>();
+        private int estimatedSize;
+
+        private HelperMethod(String name, String sourceParameterName) {
+            this.name = name;
+            this.sourceParameterName = sourceParameterName;
+        }
+
+        private void addPropertyMapping(PropertyMapping propertyMapping) {
+            propertyMappings.add( propertyMapping );
+            estimatedSize += propertyMapping.getEstimatedSize();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getSourceParameterName() {
+            return sourceParameterName;
+        }
+
+        public List<PropertyMapping> getPropertyMappings() {
+            return propertyMappings;
+        }
+
+        public int getEstimatedSize() {
+            return estimatedSize;
+        }
+    }
 }
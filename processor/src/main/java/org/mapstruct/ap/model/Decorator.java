@@ -18,7 +18,7 @@
  */
 package org.mapstruct.ap.model;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.TreeSet;
 import javax.lang.model.element.ElementKind;
@@ -59,7 +59,7 @@ private Decorator(TypeFactory typeFactory, String packageName, String name, Stri
     public static Decorator getInstance(Elements elementUtils, TypeFactory typeFactory, TypeElement mapperElement,
                                         DecoratedWithPrism decoratorPrism, List<MappingMethod> methods,
                                         boolean hasDelegateConstructor,
-                                        boolean suppressGeneratorTimestamp) {
+                                        boolean suppressGeneratorTimestamp, boolean sharedInstance) {
         Type decoratorType = typeFactory.getType( decoratorPrism.value() );
 
         return new Decorator(
@@ -69,19 +69,37 @@ public static Decorator getInstance(Elements elementUtils, TypeFactory typeFacto
             decoratorType.getName(),
             mapperElement.getKind() == ElementKind.INTERFACE ? mapperElement.getSimpleName().toString() : null,
             methods,
-            Arrays.asList(
-                new Field( typeFactory.getType( mapperElement ), "delegate" ),
-                new DecoratorConstructor(
-                    mapperElement.getSimpleName().toString() + IMPLEMENTATION_SUFFIX,
-                    mapperElement.getSimpleName().toString() + "Impl_",
-                    hasDelegateConstructor
-                )
-            ),
+            getFields( typeFactory, mapperElement, hasDelegateConstructor, sharedInstance ),
             suppressGeneratorTimestamp,
             Accessibility.fromModifiers( mapperElement.getModifiers() )
         );
     }
 
+    /**
+     * Returns the delegate field, the constructor and - if requested - the shared instance of the decorator; in that
+     * case, the decorator wraps the shared instance of the decorated mapper.
+     */
+    private static List<ModelElement> getFields(TypeFactory typeFactory, TypeElement mapperElement,
+                                                boolean hasDelegateConstructor, boolean sharedInstance) {
+        String name = mapperElement.getSimpleName().toString() + IMPLEMENTATION_SUFFIX;
+
+        List<ModelElement> fields = new ArrayList<ModelElement>( 3 );
+        fields.add( new Field( typeFactory.getType( mapperElement ), "delegate" ) );
+        fields.add(
+            new DecoratorConstructor(
+                name,
+                mapperElement.getSimpleName().toString() + "Impl_",
+                hasDelegateConstructor,
+                sharedInstance
+            )
+        );
+        if ( sharedInstance ) {
+            fields.add( new SharedInstance( name ) );
+        }
+
+        return fields;
+    }
+
     @Override
     protected String getTemplateName() {
         return GeneratedType.class.getName() + ".ftl";
@@ -34,11 +34,22 @@ public class DecoratorConstructor extends ModelElement {
     private final String name;
     private final String delegateName;
     private final boolean invokeSuperConstructor;
+    private final boolean sharedDelegate;
 
-    public DecoratorConstructor(String name, String delegateName, boolean invokeSuperConstructor) {
+    /**
+     * Creates a new decorator constructor.
+     *
+     * @param name the name of the decorator type
+     * @param delegateName the name of the decorated mapper type
+     * @param invokeSuperConstructor whether to pass the delegate to the constructor of the decorator's super-class
+     * @param sharedDelegate whether to decorate the shared instance of the decorated mapper instead of a new one
+     */
+    public DecoratorConstructor(String name, String delegateName, boolean invokeSuperConstructor,
+                                boolean sharedDelegate) {
         this.name = name;
         this.delegateName = delegateName;
         this.invokeSuperConstructor = invokeSuperConstructor;
+        this.sharedDelegate = sharedDelegate;
     }
 
     @Override
@@ -57,4 +68,12 @@ public String getDelegateName() {
     public boolean isInvokeSuperConstructor() {
         return invokeSuperConstructor;
     }
+
+    public boolean isSharedDelegate() {
+        return sharedDelegate;
+    }
+
+    public String getSharedInstanceAccessorName() {
+        return SharedInstance.ACCESSOR_NAME;
+    }
 }
@@ -33,6 +33,7 @@
 public class Direct extends ModelElement implements Assignment {
 
     private final String sourceReference;
+    private String sourceLocalVarName;
 
     public Direct( String sourceReference ) {
         this.sourceReference = sourceReference;
@@ -43,6 +44,16 @@ public String getSourceReference() {
         return sourceReference;
     }
 
+    @Override
+    public String getSourceLocalVarName() {
+        return sourceLocalVarName;
+    }
+
+    @Override
+    public void setSourceLocalVarName( String sourceLocalVarName ) {
+        this.sourceLocalVarName = sourceLocalVarName;
+    }
+
     @Override
     public Set<Type> getImportTypes() {
         return Collections.emptySet();
@@ -23,6 +23,9 @@
 import javax.tools.Diagnostic;
 
 import org.mapstruct.ap.model.common.Parameter;
+import org.mapstruct.ap.model.common.SupportingField;
+import org.mapstruct.ap.model.common.SupportingField.Entry;
+import org.mapstruct.ap.model.common.Type;
 import org.mapstruct.ap.model.source.EnumMapping;
 import org.mapstruct.ap.model.source.Mapping;
 import org.mapstruct.ap.model.source.Method;
@@ -38,6 +41,7 @@
 public class EnumMappingMethod extends MappingMethod {
 
     private final List<EnumMapping> enumMappings;
+    private final SupportingField mappingTable;
 
     public static class Builder {
 
@@ -97,7 +101,45 @@ else if ( mappedConstants.size() == 1 ) {
                 }
             }
 
-            return new EnumMappingMethod( method, enumMappings );
+            SupportingField mappingTable = ctx.getOptions().isEnumMappingTables()
+                ? getMappingTable( method, enumMappings ) : null;
+
+            return new EnumMappingMethod( method, enumMappings, mappingTable );
+        }
+
+        /**
+         * Returns a field holding the target constants indexed by the ordinal of the mapped source constants. The
+         * array is populated by name when loading the mapper, so it stays valid if the source constants are re-ordered
+         * without re-compiling the mapper; constants added later on are mapped to {@code null}.
+         */
+        private SupportingField getMappingTable(SourceMethod method, List<EnumMapping> enumMappings) {
+            Type sourceType = method.getSourceParameters().iterator().next().getType();
+            Type targetType = method.getReturnType();
+
+            List<Entry> entries = new ArrayList<Entry>( enumMappings.size() );
+            for ( EnumMapping enumMapping : enumMappings ) {
+                entries.add(
+                    new Entry(
+                        getReference( sourceType ) + "." + enumMapping.getSource() + ".ordinal()",
+                        getReference( targetType ) + "." + enumMapping.getTarget()
+                    )
+                );
+            }
+
+            return ctx.getArrayField(
+                ctx.getTypeFactory().getType( ctx.getTypeUtils().getArrayType( targetType.getTypeMirror() ) ),
+                Strings.getConstantName( targetType.getName() ) + "_BY_"
+                    + Strings.getConstantName( sourceType.getName() ),
+                "new " + getReference( targetType ) + "[" + getReference( sourceType ) + ".values().length]",
+                entries
+            );
+        }
+
+        /**
+         * Returns the name by which the given type is referenced within the generated source file.
+         */
+        private String getReference(Type type) {
+            return type.isImported() ? type.getName() : type.getFullyQualifiedName();
         }
 
         private boolean reportErrorIfMappedEnumConstantsDontExist(SourceMethod method) {
@@ -194,15 +236,26 @@ private boolean reportErrorIfSourceEnumConstantsWithoutCorrespondingTargetConsta
 
     }
 
-    private EnumMappingMethod(Method method, List<EnumMapping> enumMappings) {
+    private EnumMappingMethod(Method method, List<EnumMapping> enumMappings, SupportingField mappingTable) {
         super( method );
         this.enumMappings = enumMappings;
+        this.mappingTable = mappingTable;
     }
 
     public List<EnumMapping> getEnumMappings() {
         return enumMappings;
     }
 
+    /**
+     * Returns the field holding the target constants indexed by the ordinal of the source constants, if the target
+     * constant is to be looked up instead of being determined by a {@code switch} statement.
+     *
+     * @return the mapping table field or {@code null} if a {@code switch} statement is to be generated
+     */
+    public SupportingField getMappingTable() {
+        return mappingTable;
+    }
+
     public Parameter getSourceParameter() {
         return getParameters().iterator().next();
     }
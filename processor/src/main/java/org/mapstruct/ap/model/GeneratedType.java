@@ -129,7 +129,7 @@ public SortedSet<Type> getImportTypes() {
             }
         }
 
-        for ( ModelElement field : fields ) {
+        for ( ModelElement field : getFields() ) {
             for ( Type type : field.getImportTypes() ) {
                 addWithDependents( importedTypes, type );
             }
@@ -18,7 +18,9 @@
  */
 package org.mapstruct.ap.model;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.Set;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
@@ -34,6 +36,8 @@
 import org.mapstruct.ap.util.MapperConfig;
 import org.mapstruct.ap.util.Strings;
 
+import static org.mapstruct.ap.model.assignment.Assignment.AssignmentType.DIRECT;
+
 /**
  * A {@link MappingMethod} implemented by a {@link Mapper} class which maps one iterable type to another. The collection
  * elements are mapped either by a {@link TypeConversion} or another mapping method.
@@ -47,6 +51,10 @@ public class IterableMappingMethod extends MappingMethod {
     private final boolean overridden;
     private final boolean mapNullToDefault;
     private final String loopVariableName;
+    private final boolean elementCopy;
+    private final Type arraysType;
+    private final boolean indexedLoop;
+    private final Type randomAccessType;
 
     public static class Builder {
 
@@ -112,6 +120,11 @@ public IterableMappingMethod build() {
                 ctx.getMessager().printMessage( Diagnostic.Kind.ERROR, message, method.getExecutable() );
             }
 
+            // elements taken over as they are can be copied in bulk; primitive elements only if not converted
+            boolean elementCopy = assignment != null && assignment.getType() == DIRECT
+                && ( sourceElementType.equals( targetElementType )
+                || !sourceElementType.isPrimitive() && !targetElementType.isPrimitive() );
+
             // target accessor is setter, so decorate assignment as setter
             if ( resultType.isArrayType() ) {
                 assignment = new LocalVarWrapper( assignment, method.getThrownTypes() );
@@ -131,19 +144,51 @@ public IterableMappingMethod build() {
                     assignment,
                     factoryMethod,
                     mapNullToDefault,
-                    loopVariableName );
+                    loopVariableName,
+                    elementCopy,
+                    ctx.getTypeFactory().getType( Arrays.class ),
+                    ctx.getOptions().isIndexedLoops() && sourceParameterType.isListType(),
+                    ctx.getTypeFactory().getType( RandomAccess.class ) );
         }
     }
 
 
     private IterableMappingMethod(Method method, Assignment parameterAssignment, MethodReference factoryMethod,
-                                  boolean mapNullToDefault, String loopVariableName ) {
+                                  boolean mapNullToDefault, String loopVariableName, boolean elementCopy,
+                                  Type arraysType, boolean indexedLoop, Type randomAccessType) {
         super( method );
         this.elementAssignment = parameterAssignment;
         this.factoryMethod = factoryMethod;
         this.overridden = method.overridesMethod();
         this.mapNullToDefault = mapNullToDefault;
         this.loopVariableName = loopVariableName;
+        this.elementCopy = elementCopy && isBulkCopySupported();
+        this.arraysType = arraysType;
+        this.indexedLoop = indexedLoop;
+        this.randomAccessType = randomAccessType;
+    }
+
+    private boolean isBulkCopySupported() {
+        Type sourceType = getSourceParameter().getType();
+
+        // other iterables can only be traversed element by element
+        if ( !sourceType.isArrayType() && !sourceType.isCollectionType() ) {
+            return false;
+        }
+
+        if ( getResultType().isArrayType() ) {
+            if ( sourceType.isArrayType() ) {
+                // a differing component type of a new array is passed as class literal, which must not be generic
+                return isExistingInstanceMapping() || isElementTypeRetained()
+                    || getResultElementType().getTypeParameters().isEmpty();
+            }
+            else {
+                return !isExistingInstanceMapping() && !getResultElementType().isPrimitive();
+            }
+        }
+
+        // Arrays.asList() can't be applied to arrays of primitives
+        return !getSourceElementType().isPrimitive();
     }
 
     public Parameter getSourceParameter() {
@@ -169,6 +214,13 @@ public Set<Type> getImportTypes() {
         if ( factoryMethod == null ) {
             types.addAll( getReturnType().getImportTypes() );
         }
+        if ( elementCopy && getSourceParameter().getType().isArrayType()
+            && !( getResultType().isArrayType() && isExistingInstanceMapping() ) ) {
+            types.add( arraysType );
+        }
+        if ( indexedLoop && !elementCopy && !isRandomAccessSource() ) {
+            types.add( randomAccessType );
+        }
         return types;
     }
 
@@ -184,6 +236,51 @@ public String getLoopVariableName() {
         return loopVariableName;
     }
 
+    /**
+     * Whether the elements are taken over from the source as they are, so they can be copied in bulk (via copy
+     * constructors, {@code addAll()}, {@code toArray()} or {@code Arrays.copyOf()}) instead of adding them one by one.
+     *
+     * @return {@code true} if the elements are copied, {@code false} if they are mapped
+     */
+    public boolean isElementCopy() {
+        return elementCopy;
+    }
+
+    /**
+     * Whether the source list is iterated by index instead of using an iterator. Unless the source type is known to
+     * implement {@code RandomAccess} at compile time, this is checked at runtime, falling back to an iterator.
+     *
+     * @return {@code true} if the source is iterated by index, {@code false} otherwise
+     */
+    public boolean isIndexedLoop() {
+        return indexedLoop;
+    }
+
+    public boolean isRandomAccessSource() {
+        return getSourceParameter().getType().isRandomAccess();
+    }
+
+    public boolean isElementTypeRetained() {
+        return getSourceElementType().equals( getResultElementType() );
+    }
+
+    /**
+     * Whether the result collection is created by the copy constructor of its implementation type, which takes over
+     * all source elements at once.
+     *
+     * @return {@code true} if the result is instantiated as a copy of the source, {@code false} otherwise
+     */
+    public boolean isCopyConstructorUsed() {
+        if ( !elementCopy || isExistingInstanceMapping() || factoryMethod != null || getResultType().isArrayType() ) {
+            return false;
+        }
+
+        Type creationType = getResultType().getImplementationType() != null ?
+            getResultType().getImplementationType() : getResultType();
+
+        return creationType.isCopyConstructorSupported();
+    }
+
     public String getDefaultValue() {
         TypeKind kind = getResultElementType().getTypeMirror().getKind();
         switch ( kind ) {
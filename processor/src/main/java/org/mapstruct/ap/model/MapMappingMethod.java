@@ -32,6 +32,8 @@
 import org.mapstruct.ap.util.MapperConfig;
 import org.mapstruct.ap.util.Strings;
 
+import static org.mapstruct.ap.model.assignment.Assignment.AssignmentType.DIRECT;
+
 /**
  * A {@link MappingMethod} implemented by a {@link Mapper} class which maps one {@code Map} type to another. Keys and
  * values are mapped either by a {@link TypeConversion} or another mapping method if required.
@@ -45,6 +47,7 @@ public class MapMappingMethod extends MappingMethod {
     private final MethodReference factoryMethod;
     private final boolean overridden;
     private final boolean mapNullToDefault;
+    private final boolean entryCopy;
 
     public static class Builder {
 
@@ -143,6 +146,10 @@ public MapMappingMethod build() {
 
             MethodReference factoryMethod = AssignmentFactory.createFactoryMethod( method.getReturnType(), ctx );
 
+            // keys and values taken over as they are can be copied in bulk
+            boolean entryCopy = keyAssignment != null && keyAssignment.getType() == DIRECT
+                && valueAssignment != null && valueAssignment.getType() == DIRECT;
+
             keyAssignment = new LocalVarWrapper( keyAssignment, method.getThrownTypes() );
             valueAssignment = new LocalVarWrapper( valueAssignment, method.getThrownTypes() );
 
@@ -151,13 +158,14 @@ public MapMappingMethod build() {
                 keyAssignment,
                 valueAssignment,
                 factoryMethod,
-                mapNullToDefault
+                mapNullToDefault,
+                entryCopy
             );
         }
     }
 
     private MapMappingMethod(Method method, Assignment keyAssignment, Assignment valueAssignment,
-                             MethodReference factoryMethod, boolean mapNullToDefault) {
+                             MethodReference factoryMethod, boolean mapNullToDefault, boolean entryCopy) {
         super( method );
 
         this.keyAssignment = keyAssignment;
@@ -165,6 +173,7 @@ private MapMappingMethod(Method method, Assignment keyAssignment, Assignment val
         this.factoryMethod = factoryMethod;
         this.overridden = method.overridesMethod();
         this.mapNullToDefault = mapNullToDefault;
+        this.entryCopy = entryCopy;
     }
 
     public Parameter getSourceParameter() {
@@ -235,6 +244,33 @@ public boolean isOverridden() {
         return overridden;
     }
 
+    /**
+     * Whether keys and values are taken over from the source map as they are, so all entries can be copied in bulk
+     * instead of putting them one by one.
+     *
+     * @return {@code true} if the entries are copied, {@code false} if keys or values are mapped
+     */
+    public boolean isEntryCopy() {
+        return entryCopy;
+    }
+
+    /**
+     * Whether the result map is created by the copy constructor of its implementation type, which takes over all
+     * source entries at once.
+     *
+     * @return {@code true} if the result map is instantiated as a copy of the source map, {@code false} otherwise
+     */
+    public boolean isCopyConstructorUsed() {
+        if ( !entryCopy || isExistingInstanceMapping() || factoryMethod != null ) {
+            return false;
+        }
+
+        Type creationType = getResultType().getImplementationType() != null ?
+            getResultType().getImplementationType() : getResultType();
+
+        return creationType.isCopyConstructorSupported();
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -18,12 +18,16 @@
  */
 package org.mapstruct.ap.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.SortedSet;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
 import org.mapstruct.ap.model.common.Accessibility;
+import org.mapstruct.ap.model.common.ModelElement;
+import org.mapstruct.ap.model.common.SupportingField;
 import org.mapstruct.ap.model.common.Type;
 import org.mapstruct.ap.model.common.TypeFactory;
 
@@ -39,13 +43,17 @@ public class Mapper extends GeneratedType {
     private static final String DECORATED_IMPLEMENTATION_SUFFIX = "Impl_";
 
     private final List<MapperReference> referencedMappers;
+    private final SortedSet<SupportingField> supportingFields;
     private final Decorator decorator;
+    private final SharedInstance sharedInstance;
+    private ModelElement constructor;
 
     //CHECKSTYLE:OFF
     private Mapper(TypeFactory typeFactory, String packageName, String name, String superClassName,
                    String interfaceName, List<MappingMethod> methods, boolean suppressGeneratorTimestamp,
-                   Accessibility accessibility, List<MapperReference> referencedMappers, Decorator decorator,
-                   SortedSet<Type> extraImportedTypes ) {
+                   Accessibility accessibility, List<MapperReference> referencedMappers,
+                   SortedSet<SupportingField> supportingFields, Decorator decorator,
+                   SortedSet<Type> extraImportedTypes, boolean sharedInstance ) {
 
         super(
             typeFactory,
@@ -54,14 +62,16 @@ private Mapper(TypeFactory typeFactory, String packageName, String name, String
             superClassName,
             interfaceName,
             methods,
-            referencedMappers,
+            Collections.<ModelElement>emptyList(),
             suppressGeneratorTimestamp,
             accessibility,
             extraImportedTypes
         );
 
         this.referencedMappers = referencedMappers;
+        this.supportingFields = supportingFields;
         this.decorator = decorator;
+        this.sharedInstance = sharedInstance ? new SharedInstance( name ) : null;
     }
 
     public static class Builder {
@@ -70,11 +80,13 @@ public static class Builder {
         private TypeElement element;
         private List<MappingMethod> mappingMethods;
         private List<MapperReference> mapperReferences;
+        private SortedSet<SupportingField> supportingFields;
         private SortedSet<Type> extraImportedTypes;
 
         private Elements elementUtils;
         private boolean suppressGeneratorTimestamp;
         private Decorator decorator;
+        private boolean sharedInstance;
 
         public Builder element(TypeElement element) {
             this.element = element;
@@ -91,6 +103,11 @@ public Builder mapperReferences(List<MapperReference> mapperReferences) {
             return this;
         }
 
+        public Builder supportingFields(SortedSet<SupportingField> supportingFields) {
+            this.supportingFields = supportingFields;
+            return this;
+        }
+
         public Builder suppressGeneratorTimestamp(boolean suppressGeneratorTimestamp) {
             this.suppressGeneratorTimestamp = suppressGeneratorTimestamp;
             return this;
@@ -111,6 +128,11 @@ public Builder decorator(Decorator decorator) {
             return this;
         }
 
+        public Builder sharedInstance(boolean sharedInstance) {
+            this.sharedInstance = sharedInstance;
+            return this;
+        }
+
         public Builder extraImports(SortedSet<Type> extraImportedTypes) {
             this.extraImportedTypes = extraImportedTypes;
             return this;
@@ -130,8 +152,10 @@ public Mapper build() {
                 suppressGeneratorTimestamp,
                 Accessibility.fromModifiers( element.getModifiers() ),
                 mapperReferences,
+                supportingFields,
                 decorator,
-                extraImportedTypes
+                extraImportedTypes,
+                sharedInstance
             );
         }
     }
@@ -144,6 +168,34 @@ public Decorator getDecorator() {
         return decorator;
     }
 
+    /**
+     * Sets the constructor of the mapper implementation, e.g. one receiving the referenced mappers from a dependency
+     * injection container.
+     *
+     * @param constructor the constructor of the mapper implementation
+     */
+    public void setConstructor(ModelElement constructor) {
+        this.constructor = constructor;
+    }
+
+    /**
+     * Returns the supporting fields, the referenced mappers, the constructor and the shared instance (if any) of this
+     * mapper. Assembled upon each invocation, as the referenced mappers may be replaced by the processors for the
+     * component models.
+     */
+    @Override
+    public List<? extends ModelElement> getFields() {
+        List<ModelElement> fields = new ArrayList<ModelElement>( supportingFields );
+        fields.addAll( referencedMappers );
+        if ( constructor != null ) {
+            fields.add( constructor );
+        }
+        if ( sharedInstance != null ) {
+            fields.add( sharedInstance );
+        }
+        return fields;
+    }
+
     @Override
     protected String getTemplateName() {
         return GeneratedType.class.getName() + ".ftl";
@@ -0,0 +1,171 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.mapstruct.ap.model.common.Accessibility;
+import org.mapstruct.ap.model.common.ModelElement;
+import org.mapstruct.ap.model.common.Type;
+import org.mapstruct.ap.model.common.TypeFactory;
+
+/**
+ * Represents a registry class returning the {@link SharedInstance}s of a set of mappers by invoking their static
+ * accessors, so the {@code Mappers} factory doesn't need to obtain them reflectively. The mapper name passed to the
+ * registry is matched by switching over its hash code. In order to keep the generated methods well below the size
+ * limit of the JVM, the lookups are distributed to several methods for large numbers of mappers.
+ *
+ * @author agent
+ */
+public class MapperRegistry extends GeneratedType {
+
+    /**
+     * The name of the interface implemented by the generated registries.
+     */
+    public static final String REGISTRY_INTERFACE_NAME = "org.mapstruct.factory.MapperRegistry";
+
+    private static final int MAX_LOOKUPS_PER_METHOD = 500;
+
+    private final List<List<Lookup>> lookupMethods;
+
+    /**
+     * @param typeFactory the type factory
+     * @param packageName the package of the registry
+     * @param name the simple name of the registry
+     * @param implementationNames the fully qualified names of the mapper implementation types, keyed by the fully
+     * qualified names of the mapper types
+     * @param suppressGeneratorTimestamp whether to omit the timestamp from the {@code @Generated} annotation
+     */
+    public MapperRegistry(TypeFactory typeFactory, String packageName, String name,
+                          SortedMap<String, String> implementationNames, boolean suppressGeneratorTimestamp) {
+        super(
+            typeFactory,
+            packageName,
+            name,
+            null,
+            REGISTRY_INTERFACE_NAME,
+            Collections.<MappingMethod>emptyList(),
+            Collections.<ModelElement>emptyList(),
+            suppressGeneratorTimestamp,
+            Accessibility.PUBLIC,
+            new TreeSet<Type>()
+        );
+
+        this.lookupMethods = getLookupMethods( implementationNames );
+    }
+
+    private static List<List<Lookup>> getLookupMethods(SortedMap<String, String> implementationNames) {
+        int methodCount = ( implementationNames.size() + MAX_LOOKUPS_PER_METHOD - 1 ) / MAX_LOOKUPS_PER_METHOD;
+        List<SortedMap<Integer, Lookup>> lookupsByMethod = new ArrayList<SortedMap<Integer, Lookup>>( methodCount );
+
+        for ( int i = 0; i < methodCount; i++ ) {
+            lookupsByMethod.add( new TreeMap<Integer, Lookup>() );
+        }
+
+        for ( Entry<String, String> implementationName : implementationNames.entrySet() ) {
+            int hashCode = implementationName.getKey().hashCode();
+            SortedMap<Integer, Lookup> lookups = lookupsByMethod.get( getMethodIndex( hashCode, methodCount ) );
+            Lookup lookup = lookups.get( hashCode );
+
+            if ( lookup == null ) {
+                lookup = new Lookup( hashCode );
+                lookups.put( hashCode, lookup );
+            }
+
+            lookup.entries.add( new RegistryEntry( implementationName.getKey(), implementationName.getValue() ) );
+        }
+
+        List<List<Lookup>> lookupMethods = new ArrayList<List<Lookup>>( methodCount );
+
+        for ( SortedMap<Integer, Lookup> lookups : lookupsByMethod ) {
+            lookupMethods.add( new ArrayList<Lookup>( lookups.values() ) );
+        }
+
+        return lookupMethods;
+    }
+
+    /**
+     * Must match the index computed by the generated code, see the template of this class.
+     */
+    private static int getMethodIndex(int hashCode, int methodCount) {
+        return ( hashCode & 0x7fffffff ) % methodCount;
+    }
+
+    /**
+     * Returns the lookups to be performed by each of the generated lookup methods.
+     *
+     * @return the lookups, one list per method
+     */
+    public List<List<Lookup>> getLookupMethods() {
+        return lookupMethods;
+    }
+
+    public String getSharedInstanceAccessorName() {
+        return SharedInstance.ACCESSOR_NAME;
+    }
+
+    /**
+     * The mappers whose names share one hash code.
+     */
+    public static class Lookup {
+
+        private final int nameHashCode;
+        private final List<RegistryEntry> entries = new ArrayList<RegistryEntry>( 1 );
+
+        private Lookup(int nameHashCode) {
+            this.nameHashCode = nameHashCode;
+        }
+
+        public int getNameHashCode() {
+            return nameHashCode;
+        }
+
+        public List<RegistryEntry> getEntries() {
+            return entries;
+        }
+    }
+
+    /**
+     * A mapper and the implementation type holding its shared instance.
+     */
+    public static class RegistryEntry {
+
+        private final String mapperName;
+        private final String implementationName;
+
+        private RegistryEntry(String mapperName, String implementationName) {
+            this.mapperName = mapperName;
+            this.implementationName = implementationName;
+        }
+
+        public String getMapperName() {
+            return mapperName;
+        }
+
+        public String getImplementationName() {
+            return implementationName;
+        }
+    }
+}
@@ -19,7 +19,11 @@
 package org.mapstruct.ap.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.processing.Messager;
@@ -29,6 +33,8 @@
 import javax.lang.model.util.Types;
 
 import org.mapstruct.ap.model.assignment.Assignment;
+import org.mapstruct.ap.model.common.SupportingField;
+import org.mapstruct.ap.model.common.SupportingField.Entry;
 import org.mapstruct.ap.model.common.Type;
 import org.mapstruct.ap.model.common.TypeFactory;
 import org.mapstruct.ap.model.source.Method;
@@ -95,6 +101,25 @@ Assignment getTargetAssignment(Method mappingMethod, String mappedElement, Type
                                        String sourceReference);
 
         Set<VirtualMappingMethod> getUsedVirtualMappings();
+
+        /**
+         * Returns the fields to be added to the generated mapper on behalf of the conversions resolved so far.
+         *
+         * @return the fields to be added to the generated mapper
+         */
+        Set<SupportingField> getUsedSupportingFields();
+
+        /**
+         * Returns a field of an array type to be added to the generated mapper, creating it if required.
+         *
+         * @param type the array type of the field
+         * @param name the preferred name of the field
+         * @param initializer the expression creating the array
+         * @param entries the entries to be assigned after creating the array
+         *
+         * @return the requested field
+         */
+        SupportingField getArrayField(Type type, String name, String initializer, List<Entry> entries);
     }
 
     private final TypeFactory typeFactory;
@@ -108,6 +133,16 @@ Assignment getTargetAssignment(Method mappingMethod, String mappedElement, Type
     private final MappingResolver mappingResolver;
     private final List<MappingMethod> mappingsToGenerate = new ArrayList<MappingMethod>();
 
+    /**
+     * Indexes the forged methods to generate by themselves, i.e. by their signature as given by {@code equals()} and
+     * {@code hashCode()} of the respective mapping method type, so that already forged methods can be found quickly
+     * also for mappers with hundreds of forged methods.
+     */
+    private final Map<MappingMethod, MappingMethod> mappingsToGenerateBySignature =
+        new HashMap<MappingMethod, MappingMethod>();
+    private final Set<String> namesOfMappingsToGenerate = new HashSet<String>();
+    private final Set<String> namesOfHelperMethods = new HashSet<String>();
+
     public MappingBuilderContext(TypeFactory typeFactory,
                           Elements elementUtils,
                           Types typeUtils,
@@ -164,30 +199,73 @@ public MappingResolver getMappingResolver() {
         return mappingResolver;
     }
 
+    /**
+     * Returns the methods forged so far, in the order they have been added.
+     *
+     * @return the methods to generate, not modifiable; use {@link #addMappingToGenerate(MappingMethod)} to add methods
+     */
     public List<MappingMethod> getMappingsToGenerate() {
-        return mappingsToGenerate;
+        return Collections.unmodifiableList( mappingsToGenerate );
+    }
+
+    /**
+     * Adds the given forged method to the methods to generate.
+     *
+     * @param mappingMethod the method to add, must not be equal to any of the methods added before
+     */
+    public void addMappingToGenerate(MappingMethod mappingMethod) {
+        mappingsToGenerate.add( mappingMethod );
+        mappingsToGenerateBySignature.put( mappingMethod, mappingMethod );
+        namesOfMappingsToGenerate.add( mappingMethod.getName() );
+    }
+
+    public Set<String> getNamesOfMappingsToGenerate() {
+        return Collections.unmodifiableSet( namesOfMappingsToGenerate );
     }
 
-    public List<String> getNamesOfMappingsToGenerate() {
-        List<String> nameList = new ArrayList<String>();
-        for ( MappingMethod method : mappingsToGenerate ) {
-            nameList.add( method.getName() );
+    /**
+     * Returns a name for a private helper method of the mapper, made up of the given prefix and a number. The name
+     * conflicts neither with the mapping methods nor with any other helper method name obtained before.
+     *
+     * @param prefix the prefix of the helper method name, e.g. the name of the mapping method delegating to it
+     *
+     * @return a name for the helper method, reserved for the caller
+     */
+    public String getHelperMethodName(String prefix) {
+        Set<String> methodNames = new HashSet<String>( namesOfMappingsToGenerate );
+        for ( SourceMethod sourceMethod : sourceModel ) {
+            methodNames.add( sourceMethod.getName() );
+        }
+
+        int index = 0;
+        while ( methodNames.contains( prefix + index ) || namesOfHelperMethods.contains( prefix + index ) ) {
+            index++;
         }
-        return nameList;
+
+        namesOfHelperMethods.add( prefix + index );
+        return prefix + index;
     }
 
+    /**
+     * Returns the method to generate which is equal to the given one.
+     *
+     * @param newMappingMethod the method to look up
+     *
+     * @return the method to generate equal to the given one, or {@code null} if there is none
+     */
     public MappingMethod getExistingMappingMethod(MappingMethod newMappingMethod) {
-        MappingMethod existingMappingMethod = null;
-        for ( MappingMethod mappingMethod : mappingsToGenerate ) {
-            if ( newMappingMethod.equals( mappingMethod ) ) {
-                existingMappingMethod = mappingMethod;
-                break;
-            }
-        }
-        return existingMappingMethod;
+        return mappingsToGenerateBySignature.get( newMappingMethod );
     }
 
     public Set<VirtualMappingMethod> getUsedVirtualMappings() {
         return mappingResolver.getUsedVirtualMappings();
     }
+
+    public Set<SupportingField> getUsedSupportingFields() {
+        return mappingResolver.getUsedSupportingFields();
+    }
+
+    public SupportingField getArrayField(Type type, String name, String initializer, List<Entry> entries) {
+        return mappingResolver.getArrayField( type, name, initializer, entries );
+    }
 }
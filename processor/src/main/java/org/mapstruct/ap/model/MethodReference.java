@@ -114,6 +114,16 @@ public String getSourceReference() {
         return assignment.getSourceReference();
     }
 
+    @Override
+    public String getSourceLocalVarName() {
+        return assignment.getSourceLocalVarName();
+    }
+
+    @Override
+    public void setSourceLocalVarName( String sourceLocalVarName ) {
+        assignment.setSourceLocalVarName( sourceLocalVarName );
+    }
+
     /**
      * @return the type of the single source parameter that is not the {@code @TargetType} parameter
      */
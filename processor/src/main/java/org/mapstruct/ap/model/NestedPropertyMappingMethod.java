@@ -103,6 +103,7 @@ public int hashCode() {
         final int prime = 31;
         int result = 1;
         result = prime * result + ( ( getReturnType() == null ) ? 0 : getReturnType().hashCode() );
+        result = prime * result + getName().hashCode();
         return result;
     }
 
@@ -18,8 +18,11 @@
  */
 package org.mapstruct.ap.model;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.Set;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.type.TypeMirror;
@@ -28,7 +31,9 @@
 import org.mapstruct.ap.model.assignment.AdderWrapper;
 import org.mapstruct.ap.model.assignment.ArrayCopyWrapper;
 import org.mapstruct.ap.model.assignment.Assignment;
+import org.mapstruct.ap.model.assignment.AssignmentWrapper;
 import org.mapstruct.ap.model.assignment.GetterCollectionOrMapWrapper;
+import org.mapstruct.ap.model.assignment.LocalVarWrapper;
 import org.mapstruct.ap.model.assignment.NewCollectionOrMapWrapper;
 import org.mapstruct.ap.model.assignment.NullCheckWrapper;
 import org.mapstruct.ap.model.assignment.SetterCollectionOrMapWrapper;
@@ -40,6 +45,7 @@
 import org.mapstruct.ap.model.source.SourceMethod;
 import org.mapstruct.ap.model.source.SourceReference;
 import org.mapstruct.ap.model.source.SourceReference.PropertyEntry;
+import org.mapstruct.ap.util.Collections;
 import org.mapstruct.ap.util.Executables;
 import org.mapstruct.ap.util.Strings;
 
@@ -60,6 +66,7 @@ public class PropertyMapping extends ModelElement {
     private final String targetAccessorName;
     private final Type targetType;
     private final Assignment assignment;
+    private final String sharedSourcePathVarName;
 
     public static class PropertyMappingBuilder {
 
@@ -71,6 +78,9 @@ public static class PropertyMappingBuilder {
         private String dateFormat;
         private List<TypeMirror> qualifiers;
         private SourceReference sourceReference;
+        private Set<String> existingVariableNames = new HashSet<String>();
+        private String sharedSourcePathVarName;
+        private int sharedSourcePathLength;
 
         public PropertyMappingBuilder mappingContext(MappingBuilderContext mappingContext) {
             this.ctx = mappingContext;
@@ -97,6 +107,28 @@ public PropertyMappingBuilder sourceReference(SourceReference sourceReference) {
             return this;
         }
 
+        /**
+         * @param existingVariableNames the variable names existing in the generated mapping method; local variables
+         * introduced by this property mapping are added to it
+         * @return this builder
+         */
+        public PropertyMappingBuilder existingVariableNames(Set<String> existingVariableNames) {
+            this.existingVariableNames = existingVariableNames;
+            return this;
+        }
+
+        /**
+         * @param sharedSourcePathVarName the name of a local variable holding the value of a nested source path shared
+         * with other property mappings, which is a prefix of the source reference of this mapping
+         * @param sharedSourcePathLength the number of property entries of the source reference covered by that variable
+         * @return this builder
+         */
+        public PropertyMappingBuilder sharedSourcePath(String sharedSourcePathVarName, int sharedSourcePathLength) {
+            this.sharedSourcePathVarName = sharedSourcePathVarName;
+            this.sharedSourcePathLength = sharedSourcePathLength;
+            return this;
+        }
+
         public PropertyMappingBuilder qualifiers(List<TypeMirror> qualifiers) {
             this.qualifiers = qualifiers;
             return this;
@@ -128,7 +160,10 @@ public PropertyMapping build() {
                 // handle adder, if source is collection then use iterator element type as source type.
                 // sourceRef becomes a local variable in the itereation.
                 sourceType = sourceType.getTypeParameters().get( 0 );
-                sourceRefStr = Executables.getElementNameForAdder( targetAccessor );
+                sourceRefStr = Strings.getSaveVariableName(
+                    Executables.getElementNameForAdder( targetAccessor ),
+                    existingVariableNames
+                );
             }
             else {
                 sourceRefStr = getSourceRef();
@@ -157,7 +192,7 @@ public PropertyMapping build() {
                 else if ( targetType.isArrayType() && sourceType.isArrayType() && assignment.getType() == DIRECT ) {
                     Type arrayType = ctx.getTypeFactory().getType( Arrays.class );
                     assignment = new ArrayCopyWrapper( assignment, targetPropertyName, arrayType, targetType );
-                    assignment = new NullCheckWrapper( assignment );
+                    assignment = nullCheck( assignment );
                 }
                 else {
                     assignment = assignObject( sourceType, targetType, targetAccessorType, assignment );
@@ -183,7 +218,8 @@ else if ( targetType.isArrayType() && sourceType.isArrayType() && assignment.get
                 sourceReference.getParameter().getName(),
                 targetAccessor.getSimpleName().toString(),
                 targetType,
-                assignment
+                assignment,
+                sharedSourcePathVarName
             );
         }
 
@@ -201,12 +237,16 @@ private Assignment assignObject(Type sourceType, Type targetType, TargetAccessor
                     || result.getType() == DIRECT && targetType.isPrimitive() ) ) {
                     // for primitive types null check is not possible at all, but a conversion needs
                     // a null check.
-                    result = new NullCheckWrapper( result );
+                    result = nullCheck( result );
                 }
             }
             else {
                 // TargetAccessorType must be ADDER
-                if ( getSourceType().isCollectionType() ) {
+                if ( getSourceType().isCollectionType() && ctx.getOptions().isIndexedLoops()
+                    && getSourceType().isListType() ) {
+                    result = indexedAdder( result, sourceType );
+                }
+                else if ( getSourceType().isCollectionType() ) {
                     result = new AdderWrapper(
                         result,
                         method.getThrownTypes(),
@@ -217,7 +257,7 @@ private Assignment assignObject(Type sourceType, Type targetType, TargetAccessor
                 else {
                     // Possibly adding null to a target collection. So should be surrounded by an null check.
                     result = new SetterWrapper( result, method.getThrownTypes() );
-                    result = new NullCheckWrapper( result );
+                    result = nullCheck( result );
                 }
             }
             return result;
@@ -261,12 +301,80 @@ private Assignment assignCollection(Type targetType, TargetAccessorType targetAc
             // for mapping methods (builtin / custom), the mapping method is responsible for the
             // null check. Typeconversions do not apply to collections and maps.
             if ( result.getType() == DIRECT ) {
-                result = new NullCheckWrapper( result );
+                result = nullCheck( result );
             }
 
             return result;
         }
 
+        /**
+         * Wraps the given assignment into an adder invoked for each element of the source list, iterating the list by
+         * index. A source property is read into a local variable once for that purpose.
+         */
+        private Assignment indexedAdder(Assignment rhs, Type sourceElementType) {
+            // the loop variable holding the current element
+            Set<String> variableNames = Collections.asSet( existingVariableNames, rhs.getSourceReference() );
+
+            List<PropertyEntry> propertyEntries = sourceReference.getPropertyEntries();
+            String listVariableName;
+            if ( propertyEntries.isEmpty() ) {
+                listVariableName = sourceReference.getParameter().getName();
+            }
+            else {
+                List<String> propertyNames = new ArrayList<String>( propertyEntries.size() );
+                for ( PropertyEntry propertyEntry : propertyEntries ) {
+                    propertyNames.add( propertyEntry.getName() );
+                }
+                listVariableName = Strings.getSaveVariableName(
+                    Strings.joinAndCamelize( propertyNames ),
+                    variableNames
+                );
+                existingVariableNames.add( listVariableName );
+                variableNames.add( listVariableName );
+            }
+
+            return new AdderWrapper(
+                rhs,
+                method.getThrownTypes(),
+                getSourceRef(),
+                sourceElementType,
+                getSourceType(),
+                listVariableName,
+                Strings.getSaveVariableName( "i", variableNames ),
+                ctx.getTypeFactory().getType( RandomAccess.class )
+            );
+        }
+
+        /**
+         * Wraps the given assignment into a null check. If the source is a property, its value is read into a local
+         * variable once, which is then used by the null check as well as by the assignment itself, instead of invoking
+         * the getter (or the forged nested property method) twice.
+         */
+        private Assignment nullCheck(Assignment rhs) {
+            List<PropertyEntry> propertyEntries = sourceReference.getPropertyEntries();
+            if ( propertyEntries.isEmpty() ) {
+                // the source is a parameter, nothing to be read
+                return new NullCheckWrapper( rhs );
+            }
+
+            List<String> propertyNames = new ArrayList<String>( propertyEntries.size() );
+            for ( PropertyEntry propertyEntry : propertyEntries ) {
+                propertyNames.add( propertyEntry.getName() );
+            }
+            String sourceLocalVarName = Strings.getSaveVariableName(
+                Strings.joinAndCamelize( propertyNames ),
+                existingVariableNames
+            );
+            existingVariableNames.add( sourceLocalVarName );
+
+            LocalVarWrapper sourceLocalVarAssignment = new LocalVarWrapper(
+                AssignmentFactory.createDirect( rhs.getSourceReference() ),
+                method.getThrownTypes()
+            );
+
+            return new NullCheckWrapper( rhs, sourceLocalVarAssignment, getSourceType(), sourceLocalVarName );
+        }
+
         private Type getSourceType() {
 
             Parameter sourceParam = sourceReference.getParameter();
@@ -297,32 +405,37 @@ else if ( propertyEntries.size() == 1 ) {
                 PropertyEntry propertyEntry = propertyEntries.get( 0 );
                 return sourceParam.getName() + "." + propertyEntry.getAccessor().getSimpleName() + "()";
             }
+            // nested property given as dot path, starting at a path shared with other mappings
+            else if ( sharedSourcePathVarName != null ) {
+                List<PropertyEntry> remainingEntries =
+                    propertyEntries.subList( sharedSourcePathLength, propertyEntries.size() );
+                List<String> nameElements = new ArrayList<String>();
+                nameElements.add( sharedSourcePathVarName );
+                for ( PropertyEntry propertyEntry : remainingEntries ) {
+                    nameElements.add( propertyEntry.getName() );
+                }
+
+                // forge a method from the type of the shared path to the last entry type.
+                String forgedName = forgeNestedPropertyMapping(
+                    ctx,
+                    method,
+                    nameElements,
+                    propertyEntries.get( sharedSourcePathLength - 1 ).getType(),
+                    remainingEntries
+                );
+
+                return forgedName + "( " + sharedSourcePathVarName + " )";
+            }
             // nested property given as dot path
             else {
-                PropertyEntry lastPropertyEntry = propertyEntries.get( propertyEntries.size() - 1 );
-
                 // forge a method from the parameter type to the last entry type.
-                String forgedName = Strings.joinAndCamelize( sourceReference.getElementNames() );
-                forgedName = Strings.getSaveVariableName( forgedName, ctx.getNamesOfMappingsToGenerate() );
-                ForgedMethod methodRef = new ForgedMethod(
-                    forgedName,
-                    sourceReference.getParameter().getType(),
-                    lastPropertyEntry.getType(),
-                    method.getExecutable()
+                String forgedName = forgeNestedPropertyMapping(
+                    ctx,
+                    method,
+                    sourceReference.getElementNames(),
+                    sourceParam.getType(),
+                    propertyEntries
                 );
-                NestedPropertyMappingMethod.Builder builder = new NestedPropertyMappingMethod.Builder();
-                NestedPropertyMappingMethod nestedPropertyMapping = builder
-                    .method( methodRef )
-                    .propertyEntries( sourceReference.getPropertyEntries() )
-                    .build();
-
-                // add if not yet existing
-                if ( !ctx.getMappingsToGenerate().contains( nestedPropertyMapping ) ) {
-                    ctx.getMappingsToGenerate().add( nestedPropertyMapping );
-                }
-                else {
-                    forgedName = ctx.getExistingMappingMethod( nestedPropertyMapping ).getName();
-                }
 
                 return forgedName + "( " + sourceParam.getName() + " )";
             }
@@ -391,12 +504,12 @@ private Assignment forgeMapOrIterableMapping(Type sourceType, Type targetType, S
                     .method( methodRef )
                     .build();
 
-                if ( !ctx.getMappingsToGenerate().contains( iterableMappingMethod ) ) {
-                    ctx.getMappingsToGenerate().add( iterableMappingMethod );
+                MappingMethod existingMappingMethod = ctx.getExistingMappingMethod( iterableMappingMethod );
+                if ( existingMappingMethod == null ) {
+                    ctx.addMappingToGenerate( iterableMappingMethod );
                 }
                 else {
-                    String existingName = ctx.getExistingMappingMethod( iterableMappingMethod ).getName();
-                    methodRef = new ForgedMethod( existingName, methodRef );
+                    methodRef = new ForgedMethod( existingMappingMethod.getName(), methodRef );
                 }
 
                 assignment = AssignmentFactory.createMethodReference( methodRef, null, targetType );
@@ -413,12 +526,12 @@ else if ( sourceType.isMapType() && targetType.isMapType() ) {
                     .method( methodRef )
                     .build();
 
-                if ( !ctx.getMappingsToGenerate().contains( mapMappingMethod ) ) {
-                    ctx.getMappingsToGenerate().add( mapMappingMethod );
+                MappingMethod existingMappingMethod = ctx.getExistingMappingMethod( mapMappingMethod );
+                if ( existingMappingMethod == null ) {
+                    ctx.addMappingToGenerate( mapMappingMethod );
                 }
                 else {
-                    String existingName = ctx.getExistingMappingMethod( mapMappingMethod ).getName();
-                    methodRef = new ForgedMethod( existingName, methodRef );
+                    methodRef = new ForgedMethod( existingMappingMethod.getName(), methodRef );
                 }
                 assignment = AssignmentFactory.createMethodReference( methodRef, null, targetType );
                 assignment.setAssignment( AssignmentFactory.createDirect( sourceReference ) );
@@ -585,12 +698,139 @@ public PropertyMapping build() {
 
     }
 
+    /**
+     * Builds the declaration of a local variable holding the value of a nested source path shared by several property
+     * mappings, e.g. {@code Address customerAddress = customerAddress( customer );} for the mappings of
+     * {@code customer.address.street} and {@code customer.address.city}.
+     */
+    public static class SharedSourcePathBuilder {
+
+        private MappingBuilderContext ctx;
+        private SourceMethod method;
+        private SourceReference sourceReference;
+        private int pathLength;
+        private String localVarName;
+        private String parentPathVarName;
+        private int parentPathLength;
+
+        public SharedSourcePathBuilder mappingContext(MappingBuilderContext mappingContext) {
+            this.ctx = mappingContext;
+            return this;
+        }
+
+        public SharedSourcePathBuilder souceMethod(SourceMethod sourceMethod) {
+            this.method = sourceMethod;
+            return this;
+        }
+
+        /**
+         * @param sourceReference a source reference of one of the mappings sharing the path
+         * @param pathLength the number of property entries of the source reference making up the shared path
+         * @return this builder
+         */
+        public SharedSourcePathBuilder sourceReference(SourceReference sourceReference, int pathLength) {
+            this.sourceReference = sourceReference;
+            this.pathLength = pathLength;
+            return this;
+        }
+
+        public SharedSourcePathBuilder localVarName(String localVarName) {
+            this.localVarName = localVarName;
+            return this;
+        }
+
+        /**
+         * @param parentPathVarName the name of the local variable holding a shorter shared path to start from
+         * @param parentPathLength the number of property entries making up the shorter shared path
+         * @return this builder
+         */
+        public SharedSourcePathBuilder parentPath(String parentPathVarName, int parentPathLength) {
+            this.parentPathVarName = parentPathVarName;
+            this.parentPathLength = parentPathLength;
+            return this;
+        }
+
+        public PropertyMapping build() {
+            Parameter sourceParam = sourceReference.getParameter();
+            List<PropertyEntry> propertyEntries =
+                sourceReference.getPropertyEntries().subList( parentPathLength, pathLength );
+
+            List<String> nameElements = new ArrayList<String>();
+            Type sourceType;
+            String sourceName;
+            if ( parentPathVarName != null ) {
+                sourceType = sourceReference.getPropertyEntries().get( parentPathLength - 1 ).getType();
+                sourceName = parentPathVarName;
+            }
+            else {
+                sourceType = sourceParam.getType();
+                sourceName = sourceParam.getName();
+            }
+            nameElements.add( sourceName );
+            for ( PropertyEntry propertyEntry : propertyEntries ) {
+                nameElements.add( propertyEntry.getName() );
+            }
+
+            String forgedName = forgeNestedPropertyMapping( ctx, method, nameElements, sourceType, propertyEntries );
+            Assignment assignment = new LocalVarWrapper(
+                AssignmentFactory.createDirect( forgedName + "( " + sourceName + " )" ),
+                method.getThrownTypes()
+            );
+
+            return new PropertyMapping(
+                sourceParam.getName(),
+                localVarName,
+                propertyEntries.get( propertyEntries.size() - 1 ).getType(),
+                assignment,
+                localVarName
+            );
+        }
+    }
+
+    /**
+     * Forges a method reading the given nested property entries from the given source type, unless an equivalent
+     * method is already to be generated.
+     *
+     * @return the name of the forged method
+     */
+    private static String forgeNestedPropertyMapping(MappingBuilderContext ctx, SourceMethod method,
+                                                     List<String> nameElements, Type sourceType,
+                                                     List<PropertyEntry> propertyEntries) {
+        PropertyEntry lastPropertyEntry = propertyEntries.get( propertyEntries.size() - 1 );
+
+        String forgedName = Strings.joinAndCamelize( nameElements );
+        forgedName = Strings.getSaveVariableName( forgedName, ctx.getNamesOfMappingsToGenerate() );
+        ForgedMethod methodRef = new ForgedMethod(
+            forgedName,
+            sourceType,
+            lastPropertyEntry.getType(),
+            method.getExecutable()
+        );
+        NestedPropertyMappingMethod.Builder builder = new NestedPropertyMappingMethod.Builder();
+        NestedPropertyMappingMethod nestedPropertyMapping = builder
+            .method( methodRef )
+            .propertyEntries( propertyEntries )
+            .build();
+
+        // add if not yet existing
+        MappingMethod existingMappingMethod = ctx.getExistingMappingMethod( nestedPropertyMapping );
+        if ( existingMappingMethod == null ) {
+            ctx.addMappingToGenerate( nestedPropertyMapping );
+        }
+        else {
+            forgedName = existingMappingMethod.getName();
+        }
+
+        return forgedName;
+    }
+
     // Constructor for creating mappings of constant expressions.
     private PropertyMapping(String targetAccessorName, Type targetType, Assignment propertyAssignment) {
-        this( null, targetAccessorName, targetType, propertyAssignment );
+        this( null, targetAccessorName, targetType, propertyAssignment, null );
     }
 
-    private PropertyMapping(String sourceBeanName, String targetAccessorName, Type targetType, Assignment assignment) {
+    private PropertyMapping(String sourceBeanName, String targetAccessorName, Type targetType, Assignment assignment,
+                            String sharedSourcePathVarName) {
 
         this.sourceBeanName = sourceBeanName;
 
@@ -598,6 +838,7 @@ private PropertyMapping(String sourceBeanName, String targetAccessorName, Type t
         this.targetType = targetType;
 
         this.assignment = assignment;
+        this.sharedSourcePathVarName = sharedSourcePathVarName;
     }
 
     public String getSourceBeanName() {
@@ -616,6 +857,65 @@ public Assignment getAssignment() {
         return assignment;
     }
 
+    /**
+     * Returns the name of the local variable holding a nested source path shared with other mappings, which is either
+     * declared or read by this mapping. Such mappings must be rendered into the same method.
+     *
+     * @return the name of the shared local variable, or {@code null} if this mapping doesn't use one
+     */
+    public String getSharedSourcePathVarName() {
+        return sharedSourcePathVarName;
+    }
+
+    /**
+     * Returns a rough estimate of the size of the byte code generated for this mapping, based on the assignment and
+     * the wrappers applied to it. The estimate rather errs on the high side; e.g. a plain getter/setter pair amounts
+     * to 8 bytes, whereas a null-checked conversion of a wrapper type amounts to about 25 bytes.
+     *
+     * @return the estimated size in bytes
+     */
+    public int getEstimatedSize() {
+        // loading the target bean and invoking the setter
+        int size = 4;
+        Assignment current = assignment;
+
+        while ( current != null ) {
+            if ( current instanceof Direct ) {
+                // reading the source property or evaluating the expression
+                size += 4;
+                current = null;
+            }
+            else if ( current instanceof TypeConversion ) {
+                size += 8;
+                current = ( (TypeConversion) current ).getAssignment();
+            }
+            else if ( current instanceof MethodReference ) {
+                // loading the mapper reference (if any) and invoking the method
+                size += 8;
+                current = ( (MethodReference) current ).getAssignment();
+            }
+            else if ( current instanceof NullCheckWrapper || current instanceof LocalVarWrapper ) {
+                // storing the source value, re-loading it and checking it for null
+                size += 10;
+                current = ( (AssignmentWrapper) current ).getAssignment();
+            }
+            else if ( current instanceof SetterWrapper ) {
+                current = ( (AssignmentWrapper) current ).getAssignment();
+            }
+            else if ( current instanceof AssignmentWrapper ) {
+                // creating, copying or iterating over collections
+                size += 30;
+                current = ( (AssignmentWrapper) current ).getAssignment();
+            }
+            else {
+                size += 8;
+                current = null;
+            }
+        }
+
+        return size;
+    }
+
     @Override
     public Set<Type> getImportTypes() {
         return assignment.getImportTypes();
@@ -0,0 +1,67 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.model;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.mapstruct.ap.model.common.ModelElement;
+import org.mapstruct.ap.model.common.Type;
+
+/**
+ * Represents the instance of a generated mapper or decorator type which is shared by all users of that mapper. It is
+ * created lazily and thread-safely when first accessed, using the initialization-on-demand holder idiom.
+ * <p>
+ * The instance is returned by {@code Mappers#getMapper()}, either via the generated {@link MapperRegistry} or
+ * reflectively. As the implementation type holds the instance, it is bound to the class loader of the mapper and
+ * doesn't need to be cached by {@code Mappers}, whose class loader may outlive the application.
+ *
+ * @author agent
+ */
+public class SharedInstance extends ModelElement {
+
+    /**
+     * The name of the static method of generated mappers returning the shared instance.
+     */
+    public static final String ACCESSOR_NAME = "getSharedInstance";
+
+    private final String name;
+
+    /**
+     * Creates a new shared instance.
+     *
+     * @param name the name of the generated mapper type
+     */
+    public SharedInstance(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return Collections.emptySet();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getAccessorName() {
+        return ACCESSOR_NAME;
+    }
+}
@@ -86,6 +86,16 @@ public String getSourceReference() {
         return assignment.getSourceReference();
     }
 
+    @Override
+    public String getSourceLocalVarName() {
+        return assignment.getSourceLocalVarName();
+    }
+
+    @Override
+    public void setSourceLocalVarName( String sourceLocalVarName ) {
+        assignment.setSourceLocalVarName( sourceLocalVarName );
+    }
+
     @Override
     public void setAssignment( Assignment assignment ) {
         this.assignment = assignment;
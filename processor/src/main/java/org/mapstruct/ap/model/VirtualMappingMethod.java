@@ -20,6 +20,7 @@
 
 import java.util.Set;
 
+import org.mapstruct.ap.model.common.SupportingField;
 import org.mapstruct.ap.model.common.Type;
 import org.mapstruct.ap.model.source.builtin.BuiltInMethod;
 
@@ -35,10 +36,12 @@ public class VirtualMappingMethod extends MappingMethod {
 
     private final String templateName;
     private final Set<Type> importTypes;
+    private final Set<SupportingField> supportingFields;
 
     public VirtualMappingMethod(BuiltInMethod method) {
         super( method );
         this.importTypes = method.getImportTypes();
+        this.supportingFields = method.getSupportingFields();
         this.templateName = BUILTIN_METHOD_TEMPLATE_PREFIX + method.getClass().getSimpleName() + ".ftl";
     }
 
@@ -52,6 +55,10 @@ public Set<Type> getImportTypes() {
         return importTypes;
     }
 
+    public Set<SupportingField> getSupportingFields() {
+        return supportingFields;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
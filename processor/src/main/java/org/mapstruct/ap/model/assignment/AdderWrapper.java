@@ -35,16 +35,48 @@ public class AdderWrapper extends AssignmentWrapper {
     private final List<Type> exceptionTypesToExclude;
     private final String sourceReference;
     private final Type sourceType;
+    private final Type listType;
+    private final String listVariableName;
+    private final String indexVariableName;
+    private final Type randomAccessType;
 
     public AdderWrapper(
         Assignment decoratedAssignment,
         List<Type> exceptionTypesToExclude,
         String sourceReference,
         Type sourceType) {
+        this( decoratedAssignment, exceptionTypesToExclude, sourceReference, sourceType, null, null, null, null );
+    }
+
+    /**
+     * Creates an adder wrapper iterating over a source list by index instead of using an iterator.
+     *
+     * @param decoratedAssignment the assignment of the element to add
+     * @param exceptionTypesToExclude the exception types not to be caught
+     * @param sourceReference the reference to the source list
+     * @param sourceType the element type of the source list
+     * @param listType the type of the source list
+     * @param listVariableName the variable holding the source list; declared unless equal to the source reference
+     * @param indexVariableName the loop index
+     * @param randomAccessType the type {@code RandomAccess}, checked at runtime unless implemented by the list type
+     */
+    public AdderWrapper(
+        Assignment decoratedAssignment,
+        List<Type> exceptionTypesToExclude,
+        String sourceReference,
+        Type sourceType,
+        Type listType,
+        String listVariableName,
+        String indexVariableName,
+        Type randomAccessType) {
         super( decoratedAssignment );
         this.exceptionTypesToExclude = exceptionTypesToExclude;
         this.sourceReference = sourceReference;
         this.sourceType = sourceType;
+        this.listType = listType;
+        this.listVariableName = listVariableName;
+        this.indexVariableName = indexVariableName;
+        this.randomAccessType = randomAccessType;
     }
 
     @Override
@@ -75,9 +107,31 @@ public Set<Type> getImportTypes() {
         Set<Type> imported = new HashSet<Type>();
         imported.addAll( super.getImportTypes() );
         imported.add( sourceType );
+        if ( isIndexedLoop() ) {
+            imported.add( listType );
+            if ( !listType.isRandomAccess() ) {
+                imported.add( randomAccessType );
+            }
+        }
         return imported;
     }
 
+    public boolean isIndexedLoop() {
+        return listType != null;
+    }
+
+    public Type getListType() {
+        return listType;
+    }
+
+    public String getListVariableName() {
+        return listVariableName;
+    }
+
+    public String getIndexVariableName() {
+        return indexVariableName;
+    }
+
     public String getIteratorReference() {
         return getAssignment().getSourceReference();
     }
@@ -55,6 +55,10 @@ public Set<Type> getImportTypes() {
     }
 
     public String getLocalVarName() {
+        // the source has already been read into a local variable by the surrounding null check
+        if ( getSourceLocalVarName() != null ) {
+            return getSourceLocalVarName();
+        }
         return getSaveVariableName( decapitalize( targetPropertyName ), Collections.<String>emptyList() );
     }
 }
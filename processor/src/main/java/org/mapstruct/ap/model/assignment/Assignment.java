@@ -76,6 +76,22 @@ public static enum AssignmentType {
       */
      String getSourceReference();
 
+     /**
+      * the name of a local variable holding the value of the source reference, if the source reference has been read
+      * into such a variable before; {@code null} otherwise.
+      *
+      * @return source local variable name
+      */
+     String getSourceLocalVarName();
+
+     /**
+      * Replaces the source reference by the given local variable in the generated assignment. The variable needs to
+      * be declared and initialized with the source reference by a wrapping assignment.
+      *
+      * @param sourceLocalVarName the name of the local variable holding the source value
+      */
+     void setSourceLocalVarName( String sourceLocalVarName );
+
      /**
       * Returns whether the type of assignment
       *
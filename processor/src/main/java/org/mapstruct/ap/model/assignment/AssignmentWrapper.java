@@ -60,6 +60,16 @@ public String getSourceReference() {
         return decoratedAssignment.getSourceReference();
     }
 
+    @Override
+    public String getSourceLocalVarName() {
+        return decoratedAssignment.getSourceLocalVarName();
+    }
+
+    @Override
+    public void setSourceLocalVarName( String sourceLocalVarName ) {
+        decoratedAssignment.setSourceLocalVarName( sourceLocalVarName );
+    }
+
     @Override
     public AssignmentType getType() {
         return decoratedAssignment.getType();
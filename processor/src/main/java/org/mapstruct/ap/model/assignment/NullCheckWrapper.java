@@ -18,14 +18,56 @@
  */
 package org.mapstruct.ap.model.assignment;
 
+import java.util.HashSet;
+import java.util.Set;
+
+import org.mapstruct.ap.model.common.Type;
+
 /**
  * Wraps the assignment in a null check.
+ * <p>
+ * If a local variable name is given, the source reference (e.g. a getter call) is read into a local variable of the
+ * source type once (using a {@link LocalVarWrapper}) and both the null check and the wrapped assignment refer to that
+ * variable instead of invoking the source reference twice.
  *
  * @author Sjaak Derksen
  */
 public class NullCheckWrapper extends AssignmentWrapper {
 
+    private final LocalVarWrapper sourceLocalVarAssignment;
+    private final Type sourceType;
+
     public NullCheckWrapper( Assignment decoratedAssignment ) {
+        this( decoratedAssignment, null, null, null );
+    }
+
+    public NullCheckWrapper( Assignment decoratedAssignment, LocalVarWrapper sourceLocalVarAssignment,
+            Type sourceType, String sourceLocalVarName ) {
         super( decoratedAssignment );
+        this.sourceLocalVarAssignment = sourceLocalVarAssignment;
+        this.sourceType = sourceType;
+        if ( sourceLocalVarName != null ) {
+            decoratedAssignment.setSourceLocalVarName( sourceLocalVarName );
+        }
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        if ( sourceLocalVarAssignment == null ) {
+            return super.getImportTypes();
+        }
+
+        Set<Type> imported = new HashSet<Type>( super.getImportTypes() );
+        imported.add( sourceType );
+        imported.addAll( sourceLocalVarAssignment.getImportTypes() );
+        return imported;
+    }
+
+    public LocalVarWrapper getSourceLocalVarAssignment() {
+        return sourceLocalVarAssignment;
+    }
+
+    public Type getSourceType() {
+        return sourceType;
     }
 }
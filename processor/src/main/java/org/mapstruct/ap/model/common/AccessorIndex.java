@@ -0,0 +1,234 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.model.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import org.mapstruct.ap.util.Executables;
+import org.mapstruct.ap.util.Filters;
+import org.mapstruct.ap.util.SpecificCompilerWorkarounds;
+
+/**
+ * Index of the accessors (getters, setters and adders) of type elements. Discovering the accessors of an element
+ * requires walking its entire type hierarchy, so they are determined once per element and shared by all {@link Type}
+ * instances representing that element. One index is used for all mappers processed within a processing round.
+ *
+ * @author agent
+ */
+public class AccessorIndex {
+
+    private final Elements elementUtils;
+    private final Types typeUtils;
+
+    private final Map<TypeElement, Accessors> accessorsByTypeElement = new HashMap<TypeElement, Accessors>();
+
+    public AccessorIndex(Elements elementUtils, Types typeUtils) {
+        this.elementUtils = elementUtils;
+        this.typeUtils = typeUtils;
+    }
+
+    /**
+     * @param typeElement the type element
+     *
+     * @return an unmodifiable list of all getters (including 'is' for booleans) of the given type element
+     */
+    public List<ExecutableElement> getGetters(TypeElement typeElement) {
+        Accessors accessors = getAccessors( typeElement );
+
+        if ( accessors.getters == null ) {
+            accessors.getters = Collections.unmodifiableList( Filters.getterMethodsIn( accessors.allExecutables ) );
+        }
+
+        return accessors.getters;
+    }
+
+    /**
+     * @param typeElement the type element
+     * @param propertyName the property name
+     *
+     * @return an unmodifiable list of the getters of the given property of the given type element; usually there is
+     * only one getter, only for Boolean there may be two: {@code isFoo()} and {@code getFoo()}
+     */
+    public List<ExecutableElement> getGettersForProperty(TypeElement typeElement, String propertyName) {
+        Accessors accessors = getAccessors( typeElement );
+
+        if ( accessors.gettersByPropertyName == null ) {
+            Map<String, List<ExecutableElement>> gettersByPropertyName =
+                new HashMap<String, List<ExecutableElement>>();
+
+            for ( ExecutableElement getter : getGetters( typeElement ) ) {
+                String name = Executables.getPropertyName( getter );
+                List<ExecutableElement> getters = gettersByPropertyName.get( name );
+
+                if ( getters == null ) {
+                    getters = new ArrayList<ExecutableElement>( 1 );
+                    gettersByPropertyName.put( name, getters );
+                }
+
+                getters.add( getter );
+            }
+
+            for ( Entry<String, List<ExecutableElement>> getters : gettersByPropertyName.entrySet() ) {
+                getters.setValue( Collections.unmodifiableList( getters.getValue() ) );
+            }
+
+            accessors.gettersByPropertyName = gettersByPropertyName;
+        }
+
+        List<ExecutableElement> getters = accessors.gettersByPropertyName.get( propertyName );
+        return getters != null ? getters : Collections.<ExecutableElement>emptyList();
+    }
+
+    /**
+     * @param typeElement the type element
+     *
+     * @return an unmodifiable list of all setters of the given type element
+     */
+    public List<ExecutableElement> getSetters(TypeElement typeElement) {
+        Accessors accessors = getAccessors( typeElement );
+
+        if ( accessors.setters == null ) {
+            accessors.setters = Collections.unmodifiableList( Filters.setterMethodsIn( accessors.allExecutables ) );
+        }
+
+        return accessors.setters;
+    }
+
+    /**
+     * @param typeElement the type element
+     *
+     * @return an unmodifiable list of all adders of the given type element
+     */
+    public List<ExecutableElement> getAdders(TypeElement typeElement) {
+        Accessors accessors = getAccessors( typeElement );
+
+        if ( accessors.adders == null ) {
+            accessors.adders = Collections.unmodifiableList( Filters.adderMethodsIn( accessors.allExecutables ) );
+        }
+
+        return accessors.adders;
+    }
+
+    /**
+     * @param typeElement the type element
+     *
+     * @return an unmodifiable list of the getters of collection or map properties of the given type element which
+     * have no corresponding setter
+     *
+     * @see Type#getAlternativeTargetAccessors()
+     */
+    public List<ExecutableElement> getAlternativeTargetAccessors(TypeElement typeElement) {
+        Accessors accessors = getAccessors( typeElement );
+
+        if ( accessors.alternativeTargetAccessors == null ) {
+            List<ExecutableElement> result = new ArrayList<ExecutableElement>();
+            List<ExecutableElement> setterMethods = getSetters( typeElement );
+            List<ExecutableElement> getterMethods = getGetters( typeElement );
+
+            // there could be a getter method for a list/map that is not present as setter.
+            // a getter could substitute the setter in that case and act as setter.
+            // (assuming it is initialized)
+            for ( ExecutableElement getterMethod : getterMethods ) {
+                if ( isCollectionOrMap( getterMethod ) &&
+                    !correspondingSetterMethodExists( getterMethod, setterMethods ) ) {
+                    result.add( getterMethod );
+                }
+            }
+
+            accessors.alternativeTargetAccessors = Collections.unmodifiableList( result );
+        }
+
+        return accessors.alternativeTargetAccessors;
+    }
+
+    private Accessors getAccessors(TypeElement typeElement) {
+        Accessors accessors = accessorsByTypeElement.get( typeElement );
+
+        if ( accessors == null ) {
+            accessors = new Accessors(
+                Executables.getAllEnclosedExecutableElements( elementUtils, typeElement )
+            );
+            accessorsByTypeElement.put( typeElement, accessors );
+        }
+
+        return accessors;
+    }
+
+    private boolean correspondingSetterMethodExists(ExecutableElement getterMethod,
+                                                    List<ExecutableElement> setterMethods) {
+        String getterPropertyName = Executables.getPropertyName( getterMethod );
+
+        for ( ExecutableElement setterMethod : setterMethods ) {
+            String setterPropertyName = Executables.getPropertyName( setterMethod );
+            if ( getterPropertyName.equals( setterPropertyName ) ) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isCollectionOrMap(ExecutableElement getterMethod) {
+        return isCollection( getterMethod.getReturnType() ) || isMap( getterMethod.getReturnType() );
+    }
+
+    private boolean isCollection(TypeMirror candidate) {
+        return isSubType( candidate, Collection.class );
+    }
+
+    private boolean isMap(TypeMirror candidate) {
+        return isSubType( candidate, Map.class );
+    }
+
+    private boolean isSubType(TypeMirror candidate, Class<?> clazz) {
+        String className = clazz.getCanonicalName();
+        TypeMirror classType =
+            SpecificCompilerWorkarounds.erasure( typeUtils, elementUtils.getTypeElement( className ).asType() );
+        return SpecificCompilerWorkarounds.isSubType( typeUtils, candidate, classType );
+    }
+
+    /**
+     * The accessors of one type element; each kind of accessors is determined upon first retrieval.
+     */
+    private static class Accessors {
+
+        private final List<ExecutableElement> allExecutables;
+
+        private List<ExecutableElement> getters;
+        private Map<String, List<ExecutableElement>> gettersByPropertyName;
+        private List<ExecutableElement> setters;
+        private List<ExecutableElement> adders;
+        private List<ExecutableElement> alternativeTargetAccessors;
+
+        Accessors(List<ExecutableElement> allExecutables) {
+            this.allExecutables = allExecutables;
+        }
+    }
+}
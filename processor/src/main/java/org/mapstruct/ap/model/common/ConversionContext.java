@@ -19,6 +19,9 @@
 package org.mapstruct.ap.model.common;
 
 import java.util.Date;
+import java.util.List;
+
+import org.mapstruct.ap.model.common.SupportingField.Entry;
 
 /**
  * Context object passed to conversion providers and built-in methods.
@@ -43,6 +46,70 @@ public interface ConversionContext {
      */
     String getDateFormat();
 
+    /**
+     * Returns an expression yielding a {@code SimpleDateFormat} for the date format of this conversion or built-in
+     * method, using the default pattern if no date format is given. Depending on the processor option
+     * {@code mapstruct.cacheDateFormats}, the expression either creates a new instance upon each evaluation or obtains
+     * the instance bound to the current thread from a field of the generated mapper.
+     *
+     * @return An expression yielding a {@code SimpleDateFormat} for the date format of this conversion.
+     */
+    String getDateFormatInstance();
+
+    /**
+     * Returns a {@code private static final} field of the generated mapper with the given type and initializer, adding
+     * it to the mapper if no such field has been requested before. Can be used to share immutable, thread-safe objects
+     * such as formatters between all invocations of a conversion.
+     *
+     * @param type The type of the field.
+     * @param name The preferred name of the field; a suffix is added if another field with that name exists already.
+     * @param initializer The expression initializing the field.
+     *
+     * @return The requested field.
+     */
+    SupportingField getSupportingField(Type type, String name, String initializer);
+
+    /**
+     * Returns a {@code private static final} field of the generated mapper with the given type, initializer and
+     * entries, adding it to the mapper if no such field has been requested before. The entries are assigned to the
+     * array or put into the map created by the initializer within a static initializer block.
+     *
+     * @param type The array or map type of the field.
+     * @param name The preferred name of the field; a suffix is added if another field with that name exists already.
+     * @param initializer The expression creating the array or map.
+     * @param entries The entries to be assigned after creating the array or map.
+     *
+     * @return The requested field.
+     */
+    SupportingField getSupportingField(Type type, String name, String initializer, List<Entry> entries);
+
+    /**
+     * Returns a {@code private static final} map field of the generated mapper as
+     * {@link #getSupportingField(Type, String, String, List)}, accompanied by a {@code private static} method looking
+     * up keys in the map and returning the given default value for keys not contained in it. The method can be invoked
+     * via {@link SupportingField#getLookupMethodName()}.
+     *
+     * @param type The map type of the field.
+     * @param name The preferred name of the field; a suffix is added if another field with that name exists already.
+     * @param initializer The expression creating the map.
+     * @param entries The entries to be put into the map after creating it.
+     * @param lookupDefault The expression returned by the lookup method for keys not contained in the map.
+     *
+     * @return The requested field.
+     */
+    SupportingField getSupportingField(Type type, String name, String initializer, List<Entry> entries,
+                                       String lookupDefault);
+
+    /**
+     * Returns how conversions from {@code String} into enum types should handle strings not matching any constant name
+     * as given via the processor option {@code mapstruct.unknownEnumConstant}: {@code "null"} for returning
+     * {@code null} or the name of the constant to be returned.
+     *
+     * @return The handling of unknown strings in {@code String}-to-enum conversions; {@code null} if
+     *         {@code Enum.valueOf()} should be used, raising an exception for unknown strings.
+     */
+    String getUnknownEnumConstant();
+
     TypeFactory getTypeFactory();
 
 }
@@ -18,6 +18,11 @@
  */
 package org.mapstruct.ap.model.common;
 
+import java.text.SimpleDateFormat;
+import java.util.List;
+
+import org.mapstruct.ap.model.common.SupportingField.Entry;
+import org.mapstruct.ap.option.Options;
 import org.mapstruct.ap.util.Strings;
 
 import javax.annotation.processing.Messager;
@@ -35,14 +40,18 @@ public class DefaultConversionContext implements ConversionContext {
     private final Type targetType;
     private final String dateFormat;
     private final TypeFactory typeFactory;
+    private final SupportingFields supportingFields;
+    private final Options options;
 
     public DefaultConversionContext(TypeFactory typeFactory, Messager messager, Type sourceType, Type targetType,
-                                    String dateFormat) {
+                                    String dateFormat, SupportingFields supportingFields, Options options) {
         this.typeFactory = typeFactory;
         this.messager = messager;
         this.sourceType = sourceType;
         this.targetType = targetType;
         this.dateFormat = dateFormat;
+        this.supportingFields = supportingFields;
+        this.options = options;
         validateDateFormat();
     }
 
@@ -70,6 +79,49 @@ public String getDateFormat() {
         return dateFormat;
     }
 
+    @Override
+    public String getDateFormatInstance() {
+        String pattern = dateFormat != null ? " \"" + dateFormat + "\" " : "";
+
+        if ( !options.isCacheDateFormats() ) {
+            return "new SimpleDateFormat(" + pattern + ")";
+        }
+
+        SupportingField field = supportingFields.getField(
+            typeFactory.getParameterizedType( ThreadLocal.class, typeFactory.getType( SimpleDateFormat.class ) ),
+            Strings.getConstantName( "DATE_FORMAT", dateFormat ),
+            "new ThreadLocal<SimpleDateFormat>() {\n"
+                + "@Override\n"
+                + "protected SimpleDateFormat initialValue() {\n"
+                + "return new SimpleDateFormat(" + pattern + ");\n"
+                + "}\n"
+                + "}"
+        );
+
+        return field.getVariableName() + ".get()";
+    }
+
+    @Override
+    public SupportingField getSupportingField(Type type, String name, String initializer) {
+        return supportingFields.getField( type, name, initializer );
+    }
+
+    @Override
+    public SupportingField getSupportingField(Type type, String name, String initializer, List<Entry> entries) {
+        return supportingFields.getField( type, name, initializer, entries );
+    }
+
+    @Override
+    public SupportingField getSupportingField(Type type, String name, String initializer, List<Entry> entries,
+                                              String lookupDefault) {
+        return supportingFields.getField( type, name, initializer, entries, lookupDefault );
+    }
+
+    @Override
+    public String getUnknownEnumConstant() {
+        return options.getUnknownEnumConstant();
+    }
+
     @Override
     public TypeFactory getTypeFactory() {
         return typeFactory;
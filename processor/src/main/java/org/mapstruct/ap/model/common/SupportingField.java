@@ -0,0 +1,225 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.model.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.mapstruct.ap.util.Strings;
+
+/**
+ * A {@code private static final} field which is added to a generated mapper in order to support a built-in method or
+ * conversion, e.g. to hold an object which is expensive to create and can safely be shared by all invocations.
+ * <p>
+ * Fields are identified by their variable name, i.e. several built-in methods or conversions requesting the same field
+ * will result in one field being generated.
+ *
+ * @author agent
+ */
+public class SupportingField extends ModelElement implements Comparable<SupportingField> {
+
+    private final Type type;
+    private final String variableName;
+    private final String initializer;
+    private final List<Type> thrownTypes;
+    private final List<Entry> entries;
+    private final String lookupDefault;
+
+    /**
+     * Creates a new supporting field.
+     *
+     * @param type the type of the field
+     * @param variableName the name of the field
+     * @param initializer the expression initializing the field
+     * @param thrownTypes the checked exceptions possibly raised by the initializer; they will be wrapped into a
+     * {@link RuntimeException} within a static initializer block
+     */
+    public SupportingField(Type type, String variableName, String initializer, List<Type> thrownTypes) {
+        this( type, variableName, initializer, thrownTypes, Collections.<Entry>emptyList(), null );
+    }
+
+    public SupportingField(Type type, String variableName, String initializer) {
+        this( type, variableName, initializer, Collections.<Type>emptyList() );
+    }
+
+    private SupportingField(Type type, String variableName, String initializer, List<Type> thrownTypes,
+                            List<Entry> entries, String lookupDefault) {
+        this.type = type;
+        this.variableName = variableName;
+        this.initializer = initializer;
+        this.thrownTypes = thrownTypes;
+        this.entries = entries;
+        this.lookupDefault = lookupDefault;
+    }
+
+    /**
+     * Creates a new supporting field of an array or map type, whose entries are assigned within a static initializer
+     * block.
+     *
+     * @param type the array or map type of the field
+     * @param variableName the name of the field
+     * @param initializer the expression creating the array or map
+     * @param entries the entries to be assigned after creating the array or map
+     *
+     * @return the new field
+     */
+    public static SupportingField withEntries(Type type, String variableName, String initializer,
+                                           List<Entry> entries) {
+        return new SupportingField( type, variableName, initializer, Collections.<Type>emptyList(), entries, null );
+    }
+
+    /**
+     * Creates a new supporting field of a map type as {@link #withEntries(Type, String, String, List)}, accompanied by
+     * a {@code private static} lookup method returning the given default value for keys not contained in the map.
+     *
+     * @param type the map type of the field
+     * @param variableName the name of the field
+     * @param initializer the expression creating the map
+     * @param entries the entries to be put into the map after creating it
+     * @param lookupDefault the expression returned by the lookup method for keys not contained in the map
+     *
+     * @return the new field
+     */
+    public static SupportingField withLookupDefault(Type type, String variableName, String initializer,
+                                                    List<Entry> entries, String lookupDefault) {
+        return new SupportingField(
+            type,
+            variableName,
+            initializer,
+            Collections.<Type>emptyList(),
+            entries,
+            lookupDefault
+        );
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getVariableName() {
+        return variableName;
+    }
+
+    public String getInitializer() {
+        return initializer;
+    }
+
+    public List<Type> getThrownTypes() {
+        return thrownTypes;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public String getLookupDefault() {
+        return lookupDefault;
+    }
+
+    /**
+     * Returns the name of the lookup method generated for fields with a lookup default, derived from the field name,
+     * e.g. {@code lookupGenreByName} for {@code GENRE_BY_NAME}.
+     *
+     * @return the name of the lookup method
+     */
+    public String getLookupMethodName() {
+        List<String> parts = new ArrayList<String>();
+        parts.add( "lookup" );
+        parts.addAll( Arrays.asList( variableName.toLowerCase( Locale.ENGLISH ).split( "_" ) ) );
+        return Strings.joinAndCamelize( parts );
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> importTypes = new HashSet<Type>( thrownTypes );
+        importTypes.add( type );
+        return importTypes;
+    }
+
+    @Override
+    public int compareTo(SupportingField o) {
+        return variableName.compareTo( o.variableName );
+    }
+
+    @Override
+    public int hashCode() {
+        return variableName.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) {
+            return true;
+        }
+        if ( obj == null || getClass() != obj.getClass() ) {
+            return false;
+        }
+        SupportingField other = (SupportingField) obj;
+        return variableName.equals( other.variableName );
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + variableName;
+    }
+
+    /**
+     * An entry of an array or map field, given by the expressions for its index or key and its value.
+     */
+    public static class Entry {
+
+        private final String key;
+        private final String value;
+
+        public Entry(String key, String value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * key.hashCode() + value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if ( this == obj ) {
+                return true;
+            }
+            if ( obj == null || getClass() != obj.getClass() ) {
+                return false;
+            }
+            Entry other = (Entry) obj;
+            return key.equals( other.key ) && value.equals( other.value );
+        }
+    }
+}
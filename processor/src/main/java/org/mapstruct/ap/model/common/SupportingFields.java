@@ -0,0 +1,124 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.model.common;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.mapstruct.ap.model.common.SupportingField.Entry;
+
+/**
+ * Keeps track of the {@link SupportingField}s requested by the conversions of one generated mapper.
+ * <p>
+ * Requests for a field with the same type and initializer as an already requested field will return that existing
+ * field, so e.g. several conversions using the same date format share a single field. If the requested name is already
+ * taken by a field with another initializer, a numeric suffix is appended to the name of the new field.
+ *
+ * @author agent
+ */
+public class SupportingFields {
+
+    private final Map<String, SupportingField> fieldsByName = new HashMap<String, SupportingField>();
+
+    /**
+     * Returns a field with the given type and initializer, creating it if required.
+     *
+     * @param type the type of the field
+     * @param name the preferred name of the field
+     * @param initializer the expression initializing the field
+     *
+     * @return the requested field
+     */
+    public SupportingField getField(Type type, String name, String initializer) {
+        return getField( type, name, initializer, Collections.<Entry>emptyList() );
+    }
+
+    /**
+     * Returns a field of an array or map type with the given initializer and entries, creating it if required.
+     *
+     * @param type the array or map type of the field
+     * @param name the preferred name of the field
+     * @param initializer the expression creating the array or map
+     * @param entries the entries to be assigned after creating the array or map
+     *
+     * @return the requested field
+     */
+    public SupportingField getField(Type type, String name, String initializer, List<Entry> entries) {
+        return getField( type, name, initializer, entries, null );
+    }
+
+    /**
+     * Returns a field of a map type with the given initializer and entries, accompanied by a lookup method returning
+     * the given default value for keys not contained in the map, creating it if required.
+     *
+     * @param type the map type of the field
+     * @param name the preferred name of the field
+     * @param initializer the expression creating the map
+     * @param entries the entries to be put into the map after creating it
+     * @param lookupDefault the expression returned by the lookup method for keys not contained in the map
+     *
+     * @return the requested field
+     */
+    public SupportingField getField(Type type, String name, String initializer, List<Entry> entries,
+                                    String lookupDefault) {
+        String variableName = name;
+        int index = 1;
+        SupportingField field = fieldsByName.get( variableName );
+
+        while ( field != null ) {
+            if ( field.getType().equals( type ) && field.getInitializer().equals( initializer )
+                && field.getEntries().equals( entries ) && equals( field.getLookupDefault(), lookupDefault ) ) {
+                return field;
+            }
+
+            variableName = name + "_" + index++;
+            field = fieldsByName.get( variableName );
+        }
+
+        if ( lookupDefault != null ) {
+            field = SupportingField.withLookupDefault( type, variableName, initializer, entries, lookupDefault );
+        }
+        else if ( !entries.isEmpty() ) {
+            field = SupportingField.withEntries( type, variableName, initializer, entries );
+        }
+        else {
+            field = new SupportingField( type, variableName, initializer );
+        }
+        fieldsByName.put( variableName, field );
+
+        return field;
+    }
+
+    /**
+     * Returns all fields requested so far.
+     *
+     * @return all fields requested so far
+     */
+    public Set<SupportingField> getFields() {
+        return new HashSet<SupportingField>( fieldsByName.values() );
+    }
+
+    private static boolean equals(String string1, String string2) {
+        return string1 == null ? string2 == null : string1.equals( string2 );
+    }
+}
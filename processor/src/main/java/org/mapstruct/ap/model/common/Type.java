@@ -19,10 +19,11 @@
 package org.mapstruct.ap.model.common;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
@@ -38,10 +39,11 @@
 import javax.lang.model.util.Types;
 
 import org.mapstruct.ap.util.Executables;
-import org.mapstruct.ap.util.Filters;
 import org.mapstruct.ap.util.Nouns;
 import org.mapstruct.ap.util.SpecificCompilerWorkarounds;
 
+import static org.mapstruct.ap.util.Collections.asSet;
+
 /**
  * Represents (a reference to) the type of a bean property, parameter etc. Types are managed per generated source file.
  * Each type corresponds to a {@link TypeMirror}, i.e. there are different instances for e.g. {@code Set<String>} and
@@ -54,8 +56,43 @@
  */
 public class Type extends ModelElement implements Comparable<Type> {
 
+    /**
+     * Collection and map implementations whose constructor takes the number of expected elements as initial capacity.
+     * This includes {@code ConcurrentHashMap}, which adds the headroom required by its load factor itself.
+     */
+    private static final Set<String> SIZED_CAPACITY_TYPES = asSet(
+        "java.util.ArrayList",
+        "java.util.concurrent.ConcurrentHashMap"
+    );
+
+    /**
+     * Hash-based collection and map implementations whose constructor takes the initial capacity of the hash table,
+     * which is to be adjusted to the load factor.
+     */
+    private static final Set<String> HASHED_CAPACITY_TYPES = asSet(
+        "java.util.HashSet",
+        "java.util.LinkedHashSet",
+        "java.util.HashMap",
+        "java.util.LinkedHashMap"
+    );
+
+    /**
+     * Collection and map implementations with a constructor copying all elements of a given collection or map, keeping
+     * the ordering of an instance created with the default constructor. The sorted implementations are not contained,
+     * as their copy constructors take over the comparator of sorted sources.
+     */
+    private static final Set<String> COPY_CONSTRUCTOR_TYPES = asSet(
+        "java.util.ArrayList",
+        "java.util.LinkedList",
+        "java.util.HashSet",
+        "java.util.LinkedHashSet",
+        "java.util.HashMap",
+        "java.util.LinkedHashMap"
+    );
+
     private final Types typeUtils;
     private final Elements elementUtils;
+    private final AccessorIndex accessorIndex;
 
     private final TypeMirror typeMirror;
     private final TypeElement typeElement;
@@ -78,20 +115,16 @@ public class Type extends ModelElement implements Comparable<Type> {
 
     private final List<String> enumConstants;
 
-    private List<ExecutableElement> allExecutables = null;
-    private List<ExecutableElement> getters = null;
-    private List<ExecutableElement> setters = null;
-    private List<ExecutableElement> adders = null;
-    private List<ExecutableElement> alternativeTargetAccessors = null;
-
     //CHECKSTYLE:OFF
-    public Type(Types typeUtils, Elements elementUtils, TypeMirror typeMirror, TypeElement typeElement,
+    public Type(Types typeUtils, Elements elementUtils, AccessorIndex accessorIndex, TypeMirror typeMirror,
+                TypeElement typeElement,
                 List<Type> typeParameters, Type implementationType, Type componentType, String packageName, String name,
                 String qualifiedName, boolean isInterface, boolean isEnumType, boolean isIterableType,
                 boolean isCollectionType, boolean isMapType, boolean isImported) {
 
         this.typeUtils = typeUtils;
         this.elementUtils = elementUtils;
+        this.accessorIndex = accessorIndex;
 
         this.typeMirror = typeMirror;
         this.typeElement = typeElement;
@@ -213,6 +246,87 @@ public boolean isArrayType() {
         return componentType != null;
     }
 
+    /**
+     * Whether this type is a collection or map implementation which can be instantiated with an initial capacity, so
+     * growing the instance can be avoided when the number of elements is known upfront.
+     *
+     * @return {@code true} if this type has a constructor taking the initial capacity, {@code false} otherwise
+     */
+    public boolean isInitialCapacitySupported() {
+        return SIZED_CAPACITY_TYPES.contains( qualifiedName ) || isHashedCapacity();
+    }
+
+    /**
+     * Whether the initial capacity of this collection or map implementation refers to the size of a hash table, i.e.
+     * whether it needs to be adjusted to the load factor in order to hold the expected number of elements without
+     * rehashing.
+     *
+     * @return {@code true} if this type is a hash-based collection or map, {@code false} otherwise
+     */
+    public boolean isHashedCapacity() {
+        return HASHED_CAPACITY_TYPES.contains( qualifiedName );
+    }
+
+    /**
+     * Whether this type is a collection or map implementation which can be instantiated as a copy of another collection
+     * or map, so the elements can be taken over in bulk instead of adding them one by one.
+     *
+     * @return {@code true} if this type has a copy constructor, {@code false} otherwise
+     */
+    public boolean isCopyConstructorSupported() {
+        return COPY_CONSTRUCTOR_TYPES.contains( qualifiedName );
+    }
+
+    /**
+     * Whether this type is {@link EnumSet}, which is not created via a constructor but a factory method taking the
+     * element type.
+     *
+     * @return {@code true} if this type is {@code EnumSet}, {@code false} otherwise
+     */
+    public boolean isEnumSetType() {
+        return EnumSet.class.getName().equals( qualifiedName );
+    }
+
+    /**
+     * Whether this type is {@link EnumMap}, whose constructor takes the key type.
+     *
+     * @return {@code true} if this type is {@code EnumMap}, {@code false} otherwise
+     */
+    public boolean isEnumMapType() {
+        return EnumMap.class.getName().equals( qualifiedName );
+    }
+
+    /**
+     * Whether this type is a {@link List}, i.e. its elements can be retrieved by index.
+     *
+     * @return {@code true} if this type is {@code List} or a sub-type of it, {@code false} otherwise
+     */
+    public boolean isListType() {
+        return isErasureAssignableTo( List.class );
+    }
+
+    /**
+     * Whether this type implements {@link RandomAccess}, i.e. retrieving its elements by index is known to be cheap
+     * at compile time.
+     *
+     * @return {@code true} if this type is a sub-type of {@code RandomAccess}, {@code false} otherwise
+     */
+    public boolean isRandomAccess() {
+        return isErasureAssignableTo( RandomAccess.class );
+    }
+
+    private boolean isErasureAssignableTo(Class<?> type) {
+        if ( typeElement == null ) {
+            return false;
+        }
+
+        TypeMirror other = elementUtils.getTypeElement( type.getCanonicalName() ).asType();
+        return typeUtils.isAssignable(
+            SpecificCompilerWorkarounds.erasure( typeUtils, typeMirror ),
+            SpecificCompilerWorkarounds.erasure( typeUtils, other )
+        );
+    }
+
     public String getFullyQualifiedName() {
         return qualifiedName;
     }
@@ -270,6 +384,7 @@ public Type erasure() {
         return new Type(
             typeUtils,
             elementUtils,
+            accessorIndex,
             SpecificCompilerWorkarounds.erasure( typeUtils, typeMirror ),
             typeElement,
             typeParameters,
@@ -310,18 +425,19 @@ public boolean isAssignableTo(Type other) {
      * @return an unmodifiable list of all getters (including 'is' for booleans).
      */
     public List<ExecutableElement> getGetters() {
-        if ( getters == null ) {
-            getters = Collections.unmodifiableList( Filters.getterMethodsIn( getAllExecutables() ) );
-        }
-        return getters;
+        return accessorIndex.getGetters( typeElement );
     }
 
-    private List<ExecutableElement> getAllExecutables() {
-        if ( allExecutables == null ) {
-            allExecutables = Executables.getAllEnclosedExecutableElements( elementUtils, typeElement );
-        }
-
-        return allExecutables;
+    /**
+     * Returns the getters of the given property.
+     *
+     * @param propertyName the property name
+     *
+     * @return an unmodifiable list of the getters of the given property; usually there is only one getter, only for
+     * Boolean there may be two: {@code isFoo()} and {@code getFoo()}
+     */
+    public List<ExecutableElement> getGettersForProperty(String propertyName) {
+        return accessorIndex.getGettersForProperty( typeElement, propertyName );
     }
 
     /**
@@ -353,7 +469,7 @@ public ExecutableElement getAdderForType(Type collectionProperty, String pluralP
                 // now, look for a method that
                 // 1) starts with add,
                 // 2) and has typeArg as one and only arg
-                List<ExecutableElement> adderList = getAdders();
+                List<ExecutableElement> adderList = accessorIndex.getAdders( typeElement );
                 for ( ExecutableElement adder : adderList ) {
                     VariableElement arg = adder.getParameters().get( 0 );
                     if ( arg.asType().equals( typeArg ) ) {
@@ -386,25 +502,7 @@ else if ( candidates.size() == 1 ) {
      * @return an unmodifiable list of all setters
      */
     public List<ExecutableElement> getSetters() {
-        if ( setters == null ) {
-            setters = Collections.unmodifiableList( Filters.setterMethodsIn( getAllExecutables() ) );
-        }
-        return setters;
-    }
-
-    /**
-     * Alternative accessors could be a getter for a collection / map. By means of the
-     * {@link Collection#addAll(Collection) } or {@link Map#putAll(Map)} this getter can still be used as
-     * targetAccessor. JAXB XJC tool generates such constructs. This method can be extended when new cases come along.
-     * getAdders
-     *
-     * @return an unmodifiable list of all adders
-     */
-    private List<ExecutableElement> getAdders() {
-        if ( adders == null ) {
-            adders = Collections.unmodifiableList( Filters.adderMethodsIn( getAllExecutables() ) );
-        }
-        return adders;
+        return accessorIndex.getSetters( typeElement );
     }
 
     /**
@@ -417,58 +515,7 @@ private List<ExecutableElement> getAdders() {
      * @return an unmodifiable list of alternative target accessors.
      */
     public List<ExecutableElement> getAlternativeTargetAccessors() {
-        if ( alternativeTargetAccessors == null ) {
-
-            List<ExecutableElement> result = new ArrayList<ExecutableElement>();
-            List<ExecutableElement> setterMethods = getSetters();
-            List<ExecutableElement> getterMethods = getGetters();
-
-            // there could be a getter method for a list/map that is not present as setter.
-            // a getter could substitute the setter in that case and act as setter.
-            // (assuming it is initialized)
-            for ( ExecutableElement getterMethod : getterMethods ) {
-                if ( isCollectionOrMap( getterMethod ) &&
-                    !correspondingSetterMethodExists( getterMethod, setterMethods ) ) {
-                    result.add( getterMethod );
-                }
-            }
-
-            alternativeTargetAccessors = Collections.unmodifiableList( result );
-        }
-        return alternativeTargetAccessors;
-    }
-
-    private boolean correspondingSetterMethodExists(ExecutableElement getterMethod,
-                                                    List<ExecutableElement> setterMethods) {
-        String getterPropertyName = Executables.getPropertyName( getterMethod );
-
-        for ( ExecutableElement setterMethod : setterMethods ) {
-            String setterPropertyName = Executables.getPropertyName( setterMethod );
-            if ( getterPropertyName.equals( setterPropertyName ) ) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    private boolean isCollectionOrMap(ExecutableElement getterMethod) {
-        return isCollection( getterMethod.getReturnType() ) || isMap( getterMethod.getReturnType() );
-    }
-
-    private boolean isCollection(TypeMirror candidate) {
-        return isSubType( candidate, Collection.class );
-    }
-
-    private boolean isMap(TypeMirror candidate) {
-        return isSubType( candidate, Map.class );
-    }
-
-    private boolean isSubType(TypeMirror candidate, Class<?> clazz) {
-        String className = clazz.getCanonicalName();
-        TypeMirror classType =
-            SpecificCompilerWorkarounds.erasure( typeUtils, elementUtils.getTypeElement( className ).asType() );
-        return SpecificCompilerWorkarounds.isSubType( typeUtils, candidate, classType );
+        return accessorIndex.getAlternativeTargetAccessors( typeElement );
     }
 
     /**
@@ -563,6 +610,7 @@ public int hashCode() {
         int result = 1;
         result = prime * result + ( ( name == null ) ? 0 : name.hashCode() );
         result = prime * result + ( ( packageName == null ) ? 0 : packageName.hashCode() );
+        result = prime * result + typeParameters.hashCode();
         return result;
     }
 
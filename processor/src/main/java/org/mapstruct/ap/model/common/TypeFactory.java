@@ -22,6 +22,9 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -41,6 +44,7 @@
 
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.ArrayType;
@@ -49,6 +53,7 @@
 import javax.lang.model.type.PrimitiveType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.SimpleElementVisitor6;
 import javax.lang.model.util.SimpleTypeVisitor6;
@@ -68,23 +73,67 @@ public class TypeFactory {
 
     private final Elements elementUtils;
     private final Types typeUtils;
+    private final AccessorIndex accessorIndex;
 
     private final TypeMirror iterableType;
     private final TypeMirror collectionType;
     private final TypeMirror mapType;
 
+    /**
+     * {@code EnumSet} and {@code EnumMap}, if these should be used for sets of enum elements and maps with enum keys;
+     * {@code null} otherwise.
+     */
+    private final Type enumSetType;
+    private final Type enumMapType;
+
     private final Map<String, Type> implementationTypes = new HashMap<String, Type>();
+
+    /**
+     * The names of the interfaces for which an implementation type has been configured explicitly.
+     */
+    private final Set<String> configuredInterfaceTypes = new HashSet<String>();
     private final Map<String, String> importedQualifiedTypesBySimpleName = new HashMap<String, String>();
 
-    public TypeFactory(Elements elementUtils, Types typeUtils) {
+    /**
+     * Creates a new type factory using the default implementation types of collection and map interfaces.
+     *
+     * @param elementUtils the element utils
+     * @param typeUtils the type utils
+     * @param accessorIndex the index of accessors to be used by the created types, shared e.g. with the type factories
+     * of other mappers processed in the same round
+     */
+    public TypeFactory(Elements elementUtils, Types typeUtils, AccessorIndex accessorIndex) {
+        this( elementUtils, typeUtils, accessorIndex, Collections.<TypeElement>emptyList(), false );
+    }
+
+    /**
+     * Creates a new type factory.
+     *
+     * @param elementUtils the element utils
+     * @param typeUtils the type utils
+     * @param accessorIndex the index of accessors to be used by the created types, shared e.g. with the type factories
+     * of other mappers processed in the same round
+     * @param configuredImplementationTypes the implementation types to be used instead of the default ones for the
+     * collection and map interfaces they implement, in the order of their precedence; for {@code Iterable} and
+     * {@code Collection}, only {@code List} implementations are considered; types which are no
+     * {@link #isImplementationType(TypeElement) implementation type} are ignored
+     * @param enumSetsAndMaps whether sets of enum elements and maps with enum keys should be created as
+     * {@code EnumSet} and {@code EnumMap}, respectively, unless an implementation type is configured for them
+     */
+    public TypeFactory(Elements elementUtils, Types typeUtils, AccessorIndex accessorIndex,
+                       List<TypeElement> configuredImplementationTypes, boolean enumSetsAndMaps) {
         this.elementUtils = elementUtils;
         this.typeUtils = typeUtils;
+        this.accessorIndex = accessorIndex;
 
         iterableType = erasure( typeUtils, elementUtils.getTypeElement( Iterable.class.getCanonicalName() ).asType() );
         collectionType =
             erasure( typeUtils, elementUtils.getTypeElement( Collection.class.getCanonicalName() ).asType() );
         mapType = erasure( typeUtils, elementUtils.getTypeElement( Map.class.getCanonicalName() ).asType() );
 
+        enumSetType = enumSetsAndMaps ? getType( EnumSet.class ) : null;
+        enumMapType = enumSetsAndMaps ? getType( EnumMap.class ) : null;
+
         implementationTypes.put( Iterable.class.getName(), getType( ArrayList.class ) );
         implementationTypes.put( Collection.class.getName(), getType( ArrayList.class ) );
         implementationTypes.put( List.class.getName(), getType( ArrayList.class ) );
@@ -98,6 +147,29 @@ public TypeFactory(Elements elementUtils, Types typeUtils) {
         implementationTypes.put( NavigableMap.class.getName(), getType( TreeMap.class ) );
         implementationTypes.put( ConcurrentMap.class.getName(), getType( ConcurrentHashMap.class ) );
         implementationTypes.put( ConcurrentNavigableMap.class.getName(), getType( ConcurrentSkipListMap.class ) );
+
+        TypeElement listType = elementUtils.getTypeElement( List.class.getName() );
+
+        for ( Map.Entry<String, Type> interfaceAndImplementation : implementationTypes.entrySet() ) {
+            TypeElement interfaceType = elementUtils.getTypeElement( interfaceAndImplementation.getKey() );
+
+            // Iterable and Collection targets keep list semantics, a configured set would silently drop duplicates
+            if ( isSequenceInterface( interfaceAndImplementation.getKey() ) ) {
+                interfaceType = listType;
+            }
+
+            for ( TypeElement configuredImplementationType : configuredImplementationTypes ) {
+                if ( isImplementationTypeOf( configuredImplementationType, interfaceType ) ) {
+                    interfaceAndImplementation.setValue( getType( configuredImplementationType ) );
+                    configuredInterfaceTypes.add( interfaceAndImplementation.getKey() );
+                    break;
+                }
+            }
+        }
+    }
+
+    private static boolean isSequenceInterface(String interfaceName) {
+        return Iterable.class.getName().equals( interfaceName ) || Collection.class.getName().equals( interfaceName );
     }
 
     public Type getType(Class<?> type) {
@@ -194,7 +266,7 @@ else if ( mirror.getKind() == TypeKind.ARRAY ) {
         }
 
         return new Type(
-            typeUtils, elementUtils,
+            typeUtils, elementUtils, accessorIndex,
             mirror,
             typeElement,
             getTypeParameters( mirror ),
@@ -212,6 +284,28 @@ else if ( mirror.getKind() == TypeKind.ARRAY ) {
         );
     }
 
+    /**
+     * Returns the type representing the given generic class, parameterized with the given type arguments, e.g.
+     * {@code ThreadLocal<SimpleDateFormat>}.
+     *
+     * @param type the generic class
+     * @param typeArguments the type arguments
+     * @return the type representing the parameterized class
+     */
+    public Type getParameterizedType(Class<?> type, Type... typeArguments) {
+        TypeMirror[] typeArgumentMirrors = new TypeMirror[typeArguments.length];
+        for ( int i = 0; i < typeArguments.length; i++ ) {
+            typeArgumentMirrors[i] = typeArguments[i].getTypeMirror();
+        }
+
+        return getType(
+            typeUtils.getDeclaredType(
+                elementUtils.getTypeElement( type.getCanonicalName() ),
+                typeArgumentMirrors
+            )
+        );
+    }
+
     /**
      * Returns the Type that represents the declared Class type of the given type. For primitive types, the boxed class
      * will be used. Examples:
@@ -361,22 +455,73 @@ private TypeMirror getPrimitiveType(Class<?> primitiveType) {
                                         typeUtils.getPrimitiveType( TypeKind.VOID );
     }
 
+    /**
+     * Whether the given type can be used as implementation type of at least one of the collection and map interfaces,
+     * i.e. whether it is a non-abstract class with a public no-args constructor, which implements such interface and
+     * declares the same number of type parameters.
+     *
+     * @param type the type to check
+     *
+     * @return {@code true} if the given type can be used as implementation type, {@code false} otherwise
+     */
+    public boolean isImplementationType(TypeElement type) {
+        for ( String interfaceName : implementationTypes.keySet() ) {
+            if ( isImplementationTypeOf( type, elementUtils.getTypeElement( interfaceName ) ) ) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isImplementationTypeOf(TypeElement type, TypeElement interfaceType) {
+        return type.getKind() == ElementKind.CLASS
+            && !type.getModifiers().contains( Modifier.ABSTRACT )
+            && type.getTypeParameters().size() == interfaceType.getTypeParameters().size()
+            && typeUtils.isAssignable(
+                erasure( typeUtils, type.asType() ),
+                erasure( typeUtils, interfaceType.asType() )
+            )
+            && hasPublicNoArgsConstructor( type );
+    }
+
+    private boolean hasPublicNoArgsConstructor(TypeElement type) {
+        for ( ExecutableElement constructor : ElementFilter.constructorsIn( type.getEnclosedElements() ) ) {
+            if ( constructor.getParameters().isEmpty() && constructor.getModifiers().contains( Modifier.PUBLIC ) ) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     private Type getImplementationType(TypeMirror mirror) {
         if ( mirror.getKind() != TypeKind.DECLARED ) {
             return null;
         }
 
         DeclaredType declaredType = (DeclaredType) mirror;
+        String interfaceName = ( (TypeElement) declaredType.asElement() ).getQualifiedName().toString();
 
-        Type implementationType = implementationTypes.get(
-            ( (TypeElement) declaredType.asElement() ).getQualifiedName()
-                .toString()
-        );
+        Type implementationType = implementationTypes.get( interfaceName );
+
+        // if enabled, sets of enum elements and maps with enum keys are backed by a bit vector or an array,
+        // respectively, unless another implementation type has been configured
+        if ( enumSetType != null && !configuredInterfaceTypes.contains( interfaceName )
+            && hasEnumTypeArgument( declaredType ) ) {
+            if ( interfaceName.equals( Set.class.getName() ) ) {
+                implementationType = enumSetType;
+            }
+            else if ( interfaceName.equals( Map.class.getName() ) ) {
+                implementationType = enumMapType;
+            }
+        }
 
         if ( implementationType != null ) {
             return new Type(
                 typeUtils,
                 elementUtils,
+                accessorIndex,
                 typeUtils.getDeclaredType(
                     implementationType.getTypeElement(),
                     declaredType.getTypeArguments().toArray( new TypeMirror[] { } )
@@ -400,6 +545,20 @@ private Type getImplementationType(TypeMirror mirror) {
         return null;
     }
 
+    /**
+     * Whether the first type argument of the given type, i.e. the element type of a set or the key type of a map, is
+     * an enum type.
+     */
+    private boolean hasEnumTypeArgument(DeclaredType declaredType) {
+        if ( declaredType.getTypeArguments().isEmpty() ) {
+            return false;
+        }
+
+        TypeMirror typeArgument = declaredType.getTypeArguments().get( 0 );
+        return typeArgument.getKind() == TypeKind.DECLARED
+            && ( (DeclaredType) typeArgument ).asElement().getKind() == ElementKind.ENUM;
+    }
+
     private TypeMirror getComponentType(TypeMirror mirror) {
         if ( mirror.getKind() != TypeKind.ARRAY ) {
             return null;
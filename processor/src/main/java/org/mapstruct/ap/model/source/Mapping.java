@@ -253,10 +253,8 @@ public SourceReference getSourceReference() {
     }
 
     private boolean hasPropertyInReverseMethod(String name, SourceMethod method) {
-        for ( ExecutableElement getter : method.getResultType().getGetters() ) {
-            if ( Executables.getPropertyName( getter ).equals( name ) ) {
-                return true;
-            }
+        if ( !method.getResultType().getGettersForProperty( name ).isEmpty() ) {
+            return true;
         }
 
         for ( ExecutableElement getter : method.getResultType().getAlternativeTargetAccessors() ) {
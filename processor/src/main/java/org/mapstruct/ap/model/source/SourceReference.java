@@ -29,7 +29,6 @@
 import org.mapstruct.ap.model.common.Parameter;
 import org.mapstruct.ap.model.common.Type;
 import org.mapstruct.ap.model.common.TypeFactory;
-import org.mapstruct.ap.util.Executables;
 import org.mapstruct.ap.util.Strings;
 
 /**
@@ -176,19 +175,14 @@ private List<PropertyEntry> getSourceEntries(Type type, String[] entryNames) {
             List<PropertyEntry> sourceEntries = new ArrayList<PropertyEntry>();
             Type newType = type;
             for ( String entryName : entryNames ) {
-                boolean matchFound = false;
-                List<ExecutableElement> getters = newType.getGetters();
-                for ( ExecutableElement getter : getters ) {
-                    if ( Executables.getPropertyName( getter ).equals( entryName ) ) {
-                        newType = typeFactory.getType( getter.getReturnType() );
-                        sourceEntries.add( new PropertyEntry( entryName, getter, newType ) );
-                        matchFound = true;
-                        break;
-                    }
-                }
-                if ( !matchFound ) {
+                List<ExecutableElement> getters = newType.getGettersForProperty( entryName );
+                if ( getters.isEmpty() ) {
                     break;
                 }
+
+                ExecutableElement getter = getters.get( 0 );
+                newType = typeFactory.getType( getter.getReturnType() );
+                sourceEntries.add( new PropertyEntry( entryName, getter, newType ) );
             }
             return sourceEntries;
         }
@@ -30,6 +30,7 @@
 import org.mapstruct.ap.model.common.Accessibility;
 import org.mapstruct.ap.model.common.ConversionContext;
 import org.mapstruct.ap.model.common.Parameter;
+import org.mapstruct.ap.model.common.SupportingField;
 import org.mapstruct.ap.model.common.Type;
 import org.mapstruct.ap.model.source.Method;
 import org.mapstruct.ap.util.Strings;
@@ -64,6 +65,17 @@ public Set<Type> getImportTypes() {
         return Collections.<Type>emptySet();
     }
 
+    /**
+     * Returns the fields which need to be added to the generated mapper in order to support this method, e.g. to hold
+     * an object which is expensive to create and can be shared by all invocations of the method. Defaults to the
+     * empty set.
+     *
+     * @return the supporting fields referenced by this method
+     */
+    public Set<SupportingField> getSupportingFields() {
+        return Collections.<SupportingField>emptySet();
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -21,11 +21,10 @@
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.Set;
-import javax.xml.datatype.DatatypeConfigurationException;
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import org.mapstruct.ap.model.common.Parameter;
+import org.mapstruct.ap.model.common.SupportingField;
 import org.mapstruct.ap.model.common.Type;
 import org.mapstruct.ap.model.common.TypeFactory;
 
@@ -39,6 +38,7 @@ public class CalendarToXmlGregorianCalendar extends BuiltInMethod {
     private final Parameter parameter;
     private final Type returnType;
     private final Set<Type> importTypes;
+    private final Set<SupportingField> supportingFields;
 
     public CalendarToXmlGregorianCalendar(TypeFactory typeFactory) {
         this.parameter = new Parameter( "cal ", typeFactory.getType( Calendar.class ) );
@@ -47,10 +47,9 @@ public CalendarToXmlGregorianCalendar(TypeFactory typeFactory) {
         this.importTypes = asSet(
             returnType,
             parameter.getType(),
-            typeFactory.getType( DatatypeFactory.class ),
-            typeFactory.getType( GregorianCalendar.class ),
-            typeFactory.getType( DatatypeConfigurationException.class )
+            typeFactory.getType( GregorianCalendar.class )
         );
+        this.supportingFields = asSet( DatatypeFactoryField.getInstance( typeFactory ) );
     }
 
     @Override
@@ -58,6 +57,11 @@ public Set<Type> getImportTypes() {
         return importTypes;
     }
 
+    @Override
+    public Set<SupportingField> getSupportingFields() {
+        return supportingFields;
+    }
+
     @Override
     public Parameter getParameter() {
         return parameter;
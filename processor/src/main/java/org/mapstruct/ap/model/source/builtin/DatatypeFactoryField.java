@@ -0,0 +1,53 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.model.source.builtin;
+
+import java.util.Collections;
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+
+import org.mapstruct.ap.model.common.SupportingField;
+import org.mapstruct.ap.model.common.TypeFactory;
+
+/**
+ * Provides the field holding the {@link DatatypeFactory} which is shared by all built-in methods creating
+ * {@code XMLGregorianCalendar}s. Obtaining a new factory requires a service lookup, so it should be done only once
+ * per mapper.
+ *
+ * @author agent
+ */
+final class DatatypeFactoryField {
+
+    /**
+     * The name of the field, as referenced from the templates of the built-in methods.
+     */
+    static final String VARIABLE_NAME = "DATATYPE_FACTORY";
+
+    private DatatypeFactoryField() {
+    }
+
+    static SupportingField getInstance(TypeFactory typeFactory) {
+        return new SupportingField(
+            typeFactory.getType( DatatypeFactory.class ),
+            VARIABLE_NAME,
+            "DatatypeFactory.newInstance()",
+            Collections.singletonList( typeFactory.getType( DatatypeConfigurationException.class ) )
+        );
+    }
+}
@@ -22,11 +22,10 @@
 import java.util.GregorianCalendar;
 import java.util.Set;
 
-import javax.xml.datatype.DatatypeConfigurationException;
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import org.mapstruct.ap.model.common.Parameter;
+import org.mapstruct.ap.model.common.SupportingField;
 import org.mapstruct.ap.model.common.Type;
 import org.mapstruct.ap.model.common.TypeFactory;
 
@@ -40,6 +39,7 @@ public class DateToXmlGregorianCalendar extends BuiltInMethod {
     private final Parameter parameter;
     private final Type returnType;
     private final Set<Type> importTypes;
+    private final Set<SupportingField> supportingFields;
 
     public DateToXmlGregorianCalendar(TypeFactory typeFactory) {
         this.parameter = new Parameter( "date", typeFactory.getType( Date.class ) );
@@ -48,10 +48,9 @@ public DateToXmlGregorianCalendar(TypeFactory typeFactory) {
         this.importTypes = asSet(
             returnType,
             parameter.getType(),
-            typeFactory.getType( GregorianCalendar.class ),
-            typeFactory.getType( DatatypeFactory.class ),
-            typeFactory.getType( DatatypeConfigurationException.class )
+            typeFactory.getType( GregorianCalendar.class )
         );
+        this.supportingFields = asSet( DatatypeFactoryField.getInstance( typeFactory ) );
     }
 
     @Override
@@ -59,6 +58,11 @@ public Set<Type> getImportTypes() {
         return importTypes;
     }
 
+    @Override
+    public Set<SupportingField> getSupportingFields() {
+        return supportingFields;
+    }
+
     @Override
     public Parameter getParameter() {
         return parameter;
@@ -23,12 +23,11 @@
 import java.text.SimpleDateFormat;
 import java.util.GregorianCalendar;
 import java.util.Set;
-import javax.xml.datatype.DatatypeConfigurationException;
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import org.mapstruct.ap.model.common.ConversionContext;
 import org.mapstruct.ap.model.common.Parameter;
+import org.mapstruct.ap.model.common.SupportingField;
 import org.mapstruct.ap.model.common.Type;
 import org.mapstruct.ap.model.common.TypeFactory;
 
@@ -42,6 +41,7 @@ public class StringToXmlGregorianCalendar extends BuiltInMethod {
     private final Parameter parameter;
     private final Type returnType;
     private final Set<Type> importTypes;
+    private final Set<SupportingField> supportingFields;
 
 
     public StringToXmlGregorianCalendar(TypeFactory typeFactory) {
@@ -52,10 +52,9 @@ public StringToXmlGregorianCalendar(TypeFactory typeFactory) {
             typeFactory.getType( GregorianCalendar.class ),
             typeFactory.getType( SimpleDateFormat.class ),
             typeFactory.getType( DateFormat.class ),
-            typeFactory.getType( ParseException.class ),
-            typeFactory.getType( DatatypeFactory.class ),
-            typeFactory.getType( DatatypeConfigurationException.class )
+            typeFactory.getType( ParseException.class )
         );
+        this.supportingFields = asSet( DatatypeFactoryField.getInstance( typeFactory ) );
     }
 
     @Override
@@ -63,6 +62,11 @@ public Set<Type> getImportTypes() {
         return importTypes;
     }
 
+    @Override
+    public Set<SupportingField> getSupportingFields() {
+        return supportingFields;
+    }
+
     @Override
     public Parameter getParameter() {
         return parameter;
@@ -75,6 +79,6 @@ public Type getReturnType() {
 
     @Override
     public String getContextParameter(ConversionContext conversionContext) {
-        return conversionContext.getDateFormat() != null ? "\"" + conversionContext.getDateFormat() + "\"" : "null";
+        return conversionContext.getDateFormat() != null ? conversionContext.getDateFormatInstance() : "null";
     }
 }
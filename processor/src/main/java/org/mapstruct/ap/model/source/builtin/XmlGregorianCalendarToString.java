@@ -18,6 +18,7 @@
  */
 package org.mapstruct.ap.model.source.builtin;
 
+import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Set;
@@ -45,7 +46,8 @@ public XmlGregorianCalendarToString(TypeFactory typeFactory) {
         this.importTypes = asSet(
             parameter.getType(),
             typeFactory.getType( Date.class ),
-            typeFactory.getType( SimpleDateFormat.class )
+            typeFactory.getType( SimpleDateFormat.class ),
+            typeFactory.getType( DateFormat.class )
         );
     }
 
@@ -66,6 +68,6 @@ public Type getReturnType() {
 
     @Override
     public String getContextParameter(ConversionContext conversionContext) {
-        return conversionContext.getDateFormat() != null ? "\"" + conversionContext.getDateFormat() + "\"" : "null";
+        return conversionContext.getDateFormat() != null ? conversionContext.getDateFormatInstance() : "null";
     }
 }
@@ -20,7 +20,11 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
@@ -32,17 +36,30 @@
 
 /**
  * Applies all known {@link MethodSelector}s in order.
+ * <p>
+ * The result of the {@link TypeSelector}, which is by far the most expensive one, only depends on the given candidate
+ * methods and the source and target type. It therefore is memoized per candidate list and type pair, so the candidate
+ * methods are matched against a given type pair only once per mapper, no matter how many properties of these types
+ * there are or how often they are looked up when resolving two-step mappings. The other selectors are applied to the
+ * usually small list of methods matching by type for each invocation.
  *
  * @author Sjaak Derksen
  */
 public class MethodSelectors implements MethodSelector {
 
+    private final TypeSelector typeSelector;
     private final List<MethodSelector> selectors;
 
+    /**
+     * The methods matching by type, keyed by the candidate list (by identity) and the pair of source and target type.
+     */
+    private final Map<List<? extends Method>, Map<TypePair, List<? extends Method>>> typeMatchesByCandidates =
+        new IdentityHashMap<List<? extends Method>, Map<TypePair, List<? extends Method>>>();
+
     public MethodSelectors(Types typeUtils, Elements elementUtils, TypeFactory typeFactory) {
+        typeSelector = new TypeSelector( typeFactory );
         selectors =
             Arrays.<MethodSelector>asList(
-                new TypeSelector( typeFactory ),
                 new InheritanceSelector(),
                 new XmlElementDeclSelector( typeUtils ),
                 new QualifierSelector( typeUtils, elementUtils )
@@ -55,7 +72,7 @@ public <T extends Method> List<T> getMatchingMethods(Method mappingMethod, List<
                                                          List<TypeMirror> qualifiers,
                                                          String targetPropertyName) {
 
-        List<T> candidates = new ArrayList<T>( methods );
+        List<T> candidates = getTypeMatches( mappingMethod, methods, parameterType, returnType );
 
         for ( MethodSelector selector : selectors ) {
             candidates = selector.getMatchingMethods(
@@ -70,6 +87,33 @@ public <T extends Method> List<T> getMatchingMethods(Method mappingMethod, List<
         return candidates;
     }
 
+    /**
+     * Returns the given methods matching the given types as per the {@link TypeSelector}. Callers are expected to pass
+     * the same list instance for repeated invocations with the same candidate methods, e.g. all mapping methods of a
+     * mapper, and must not modify it afterwards.
+     */
+    private <T extends Method> List<T> getTypeMatches(Method mappingMethod, List<T> methods, Type parameterType,
+                                                      Type returnType) {
+        Map<TypePair, List<? extends Method>> typeMatches = typeMatchesByCandidates.get( methods );
+        if ( typeMatches == null ) {
+            typeMatches = new HashMap<TypePair, List<? extends Method>>();
+            typeMatchesByCandidates.put( methods, typeMatches );
+        }
+
+        TypePair types = new TypePair( parameterType, returnType );
+
+        @SuppressWarnings("unchecked")
+        List<T> matches = (List<T>) typeMatches.get( types );
+        if ( matches == null ) {
+            matches = Collections.unmodifiableList(
+                typeSelector.getMatchingMethods( mappingMethod, methods, parameterType, returnType, null, null )
+            );
+            typeMatches.put( types, matches );
+        }
+
+        return matches;
+    }
+
     /**
      * @param typeFactory the type factory to use
      * @param parameters the parameters to map the types for
@@ -92,4 +136,33 @@ public static List<Type> getParameterTypes(TypeFactory typeFactory, List<Paramet
 
         return result;
     }
+
+    private static class TypePair {
+
+        private final Type sourceType;
+        private final Type targetType;
+
+        private TypePair(Type sourceType, Type targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * sourceType.hashCode() + targetType.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if ( this == obj ) {
+                return true;
+            }
+            if ( obj == null || getClass() != obj.getClass() ) {
+                return false;
+            }
+
+            TypePair other = (TypePair) obj;
+            return sourceType.equals( other.sourceType ) && targetType.equals( other.targetType );
+        }
+    }
 }
@@ -18,6 +18,7 @@
  */
 package org.mapstruct.ap.option;
 
+import java.util.List;
 
 /**
  * The options passed to the code generator.
@@ -29,12 +30,35 @@ public class Options {
     private final boolean suppressGeneratorTimestamp;
     private final ReportingPolicy unmappedTargetPolicy;
     private final String defaultComponentModel;
+    private final boolean cacheDateFormats;
+    private final boolean indexedLoops;
+    private final List<String> implementationTypes;
+    private final boolean enumSetsAndMaps;
+    private final boolean enumMappingTables;
+    private final String unknownEnumConstant;
+    private final boolean jsr330Singletons;
+    private final boolean constructorInjection;
+    private final int methodSplitThreshold;
 
+    //CHECKSTYLE:OFF
     public Options(boolean suppressGeneratorTimestamp, ReportingPolicy unmappedTargetPolicy,
-                   String defaultComponentModel) {
+                   String defaultComponentModel, boolean cacheDateFormats, boolean indexedLoops,
+                   List<String> implementationTypes, boolean enumSetsAndMaps, boolean enumMappingTables,
+                   String unknownEnumConstant, boolean jsr330Singletons, boolean constructorInjection,
+                   int methodSplitThreshold) {
+        //CHECKSTYLE:ON
         this.suppressGeneratorTimestamp = suppressGeneratorTimestamp;
         this.unmappedTargetPolicy = unmappedTargetPolicy;
         this.defaultComponentModel = defaultComponentModel;
+        this.cacheDateFormats = cacheDateFormats;
+        this.indexedLoops = indexedLoops;
+        this.implementationTypes = implementationTypes;
+        this.enumSetsAndMaps = enumSetsAndMaps;
+        this.enumMappingTables = enumMappingTables;
+        this.unknownEnumConstant = unknownEnumConstant;
+        this.jsr330Singletons = jsr330Singletons;
+        this.constructorInjection = constructorInjection;
+        this.methodSplitThreshold = methodSplitThreshold;
     }
 
     public boolean isSuppressGeneratorTimestamp() {
@@ -48,4 +72,101 @@ public ReportingPolicy getUnmappedTargetPolicy() {
     public String getDefaultComponentModel() {
         return defaultComponentModel;
     }
+
+    /**
+     * Whether generated mappers should keep the {@code SimpleDateFormat}s used for date conversions in thread-local
+     * fields instead of creating a new instance upon each conversion.
+     *
+     * @return {@code true} if date formats should be cached, {@code false} otherwise
+     */
+    public boolean isCacheDateFormats() {
+        return cacheDateFormats;
+    }
+
+    /**
+     * Whether generated mappers should iterate over source lists by index instead of using an iterator. Lists not
+     * known to implement {@code RandomAccess} at compile time are checked at runtime, falling back to an iterator.
+     *
+     * @return {@code true} if lists should be iterated by index, {@code false} otherwise
+     */
+    public boolean isIndexedLoops() {
+        return indexedLoops;
+    }
+
+    /**
+     * Returns the fully-qualified names of the collection and map implementation types to be instantiated for the
+     * interfaces they implement, unless other implementation types are configured via {@code @Mapper} or
+     * {@code @MapperConfig}.
+     *
+     * @return the names of the configured implementation types, in the order of their precedence; may be empty
+     */
+    public List<String> getImplementationTypes() {
+        return implementationTypes;
+    }
+
+    /**
+     * Whether sets of enum elements should be created as {@code EnumSet} and maps with enum keys as {@code EnumMap},
+     * unless other implementation types are configured for {@code Set} or {@code Map}. Both reject {@code null}
+     * elements and keys, which is why they are only used if enabled explicitly.
+     *
+     * @return {@code true} if {@code EnumSet} and {@code EnumMap} should be used, {@code false} otherwise
+     */
+    public boolean isEnumSetsAndMaps() {
+        return enumSetsAndMaps;
+    }
+
+    /**
+     * Whether generated enum mapping methods should look up the target constant in a static array indexed by the
+     * ordinal of the source constant instead of using a {@code switch} statement.
+     *
+     * @return {@code true} if enum constants should be mapped via a table, {@code false} otherwise
+     */
+    public boolean isEnumMappingTables() {
+        return enumMappingTables;
+    }
+
+    /**
+     * Returns how conversions from {@code String} into enum types should handle strings not matching the name of any
+     * constant: {@code "null"} for returning {@code null}, or the name of the constant to be returned for target enums
+     * declaring such constant. If not given, {@code Enum.valueOf()} is invoked, raising an
+     * {@code IllegalArgumentException} for unknown strings.
+     *
+     * @return the handling of unknown strings in {@code String}-to-enum conversions; may be {@code null}
+     */
+    public String getUnknownEnumConstant() {
+        return unknownEnumConstant;
+    }
+
+    /**
+     * Whether mappers generated for the {@code jsr330} component model should be annotated with {@code @Singleton},
+     * so dependency injection containers such as Guice or Dagger create only one instance of each mapper. Enabled
+     * unless the option is set to {@code false}.
+     *
+     * @return {@code true} if JSR 330 mappers should be singletons, {@code false} otherwise
+     */
+    public boolean isJsr330Singletons() {
+        return jsr330Singletons;
+    }
+
+    /**
+     * Whether mappers generated for the {@code spring}, {@code cdi} and {@code jsr330} component models should receive
+     * the mappers they use via an annotated constructor, assigning them to {@code final} fields, instead of having
+     * them injected into annotated fields.
+     *
+     * @return {@code true} if used mappers should be injected via constructor, {@code false} otherwise
+     */
+    public boolean isConstructorInjection() {
+        return constructorInjection;
+    }
+
+    /**
+     * Returns the estimated size in bytes of the byte code of a generated bean mapping method above which its property
+     * mappings are moved into private helper methods. This keeps the methods below the limit of the JIT compiler for
+     * huge methods, e.g. 8000 bytes for HotSpot, which otherwise would be executed by the interpreter only.
+     *
+     * @return the threshold for splitting bean mapping methods; 0 if methods should never be split
+     */
+    public int getMethodSplitThreshold() {
+        return methodSplitThreshold;
+    }
 }
@@ -18,14 +18,17 @@
  */
 package org.mapstruct.ap.processor;
 
+import java.util.List;
 import java.util.ListIterator;
 import javax.lang.model.element.TypeElement;
 
+import org.mapstruct.ap.model.AnnotatedConstructor;
 import org.mapstruct.ap.model.Annotation;
 import org.mapstruct.ap.model.AnnotationMapperReference;
 import org.mapstruct.ap.model.Mapper;
 import org.mapstruct.ap.model.MapperReference;
 import org.mapstruct.ap.model.common.TypeFactory;
+import org.mapstruct.ap.option.Options;
 import org.mapstruct.ap.option.OptionsHelper;
 import org.mapstruct.ap.util.MapperConfig;
 
@@ -40,10 +43,12 @@
 public abstract class AnnotationBasedComponentModelProcessor implements ModelElementProcessor<Mapper, Mapper> {
 
     private TypeFactory typeFactory;
+    private Options options;
 
     @Override
     public Mapper process(ProcessorContext context, TypeElement mapperTypeElement, Mapper mapper) {
         this.typeFactory = context.getTypeFactory();
+        this.options = context.getOptions();
 
         String componentModel = MapperConfig.getInstanceOn( mapperTypeElement ).componentModel();
         String effectiveComponentModel = OptionsHelper.getEffectiveComponentModel(
@@ -55,13 +60,33 @@ public Mapper process(ProcessorContext context, TypeElement mapperTypeElement, M
             return mapper;
         }
 
-        mapper.addAnnotation( getTypeAnnotation() );
+        for ( Annotation typeAnnotation : getTypeAnnotations() ) {
+            mapper.addAnnotation( typeAnnotation );
+        }
+
+        // decorators instantiate the decorated mapper via its no-args constructor, so keep field injection for them
+        boolean constructorInjection = options.isConstructorInjection()
+            && !mapper.getReferencedMappers().isEmpty()
+            && mapper.getDecorator() == null;
 
         ListIterator<MapperReference> iterator = mapper.getReferencedMappers().listIterator();
         while ( iterator.hasNext() ) {
             MapperReference reference = iterator.next();
             iterator.remove();
-            iterator.add( replacementMapperReference( reference ) );
+            iterator.add(
+                constructorInjection ? finalMapperReference( reference ) : replacementMapperReference( reference )
+            );
+        }
+
+        if ( constructorInjection ) {
+            mapper.setConstructor(
+                new AnnotatedConstructor(
+                    mapper.getName(),
+                    getMapperReferenceAnnotation(),
+                    mapper.getReferencedMappers(),
+                    isNoArgsConstructorRequired()
+                )
+            );
         }
 
         return mapper;
@@ -80,15 +105,32 @@ protected MapperReference replacementMapperReference(MapperReference originalRef
         );
     }
 
+    /**
+     * @param originalReference the reference to be replaced
+     *
+     * @return the mapper reference replacing the original one when injecting the referenced mappers via constructor
+     */
+    protected MapperReference finalMapperReference(MapperReference originalReference) {
+        return new AnnotationMapperReference( originalReference.getType(), originalReference.getVariableName() );
+    }
+
+    /**
+     * @return whether a no-args constructor is required besides the one receiving the referenced mappers, e.g. for
+     * creating client proxies
+     */
+    protected boolean isNoArgsConstructorRequired() {
+        return false;
+    }
+
     /**
      * @return the component model identifier
      */
     protected abstract String getComponentModelIdentifier();
 
     /**
-     * @return the annotation of the mapper implementation
+     * @return the annotations of the mapper implementation
      */
-    protected abstract Annotation getTypeAnnotation();
+    protected abstract List<Annotation> getTypeAnnotations();
 
     /**
      * @return the annotation of the field for the mapper reference
@@ -103,4 +145,8 @@ public int getPriority() {
     protected TypeFactory getTypeFactory() {
         return typeFactory;
     }
+
+    protected Options getOptions() {
+        return options;
+    }
 }
@@ -18,6 +18,9 @@
  */
 package org.mapstruct.ap.processor;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.mapstruct.ap.model.Annotation;
 import org.mapstruct.ap.model.Mapper;
 
@@ -36,12 +39,22 @@ protected String getComponentModelIdentifier() {
     }
 
     @Override
-    protected Annotation getTypeAnnotation() {
-        return new Annotation( getTypeFactory().getType( "javax.enterprise.context.ApplicationScoped" ) );
+    protected List<Annotation> getTypeAnnotations() {
+        return Collections.singletonList(
+            new Annotation( getTypeFactory().getType( "javax.enterprise.context.ApplicationScoped" ) )
+        );
     }
 
     @Override
     protected Annotation getMapperReferenceAnnotation() {
         return new Annotation( getTypeFactory().getType( "javax.inject.Inject" ) );
     }
+
+    /**
+     * Normal-scoped beans need a non-private no-args constructor, so the container can create client proxies.
+     */
+    @Override
+    protected boolean isNoArgsConstructorRequired() {
+        return true;
+    }
 }
@@ -18,18 +18,26 @@
  */
 package org.mapstruct.ap.processor;
 
+import java.util.ArrayList;
+import java.util.List;
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic.Kind;
 
+import org.mapstruct.ap.conversion.Conversions;
 import org.mapstruct.ap.model.common.TypeFactory;
 import org.mapstruct.ap.option.Options;
+import org.mapstruct.ap.util.MapperConfig;
 
 /**
  * Default implementation of the processor context.
@@ -42,15 +50,82 @@ public class DefaultModelElementProcessorContext implements ModelElementProcesso
     private final DelegatingMessager messager;
     private final Options options;
     private final TypeFactory typeFactory;
+    private final RoundContext roundContext;
+    private final MapperIndex mapperIndex;
 
-    public DefaultModelElementProcessorContext(ProcessingEnvironment processingEnvironment, Options options) {
+    public DefaultModelElementProcessorContext(ProcessingEnvironment processingEnvironment, Options options,
+                                               RoundContext roundContext, MapperIndex mapperIndex,
+                                               TypeElement mapperTypeElement) {
         this.processingEnvironment = processingEnvironment;
+        this.mapperIndex = mapperIndex;
         this.messager = new DelegatingMessager( processingEnvironment.getMessager() );
+        this.options = options;
+        this.roundContext = roundContext;
         this.typeFactory = new TypeFactory(
             processingEnvironment.getElementUtils(),
-            processingEnvironment.getTypeUtils()
+            processingEnvironment.getTypeUtils(),
+            roundContext.getAccessorIndex(),
+            getImplementationTypes( mapperTypeElement ),
+            options.isEnumSetsAndMaps()
         );
-        this.options = options;
+    }
+
+    /**
+     * Retrieves the collection and map implementation types configured for the given mapper, those given via
+     * {@code @Mapper} or {@code @MapperConfig} preceding those given via the processor option. Types which can't be
+     * used as implementation type are reported.
+     */
+    private List<TypeElement> getImplementationTypes(TypeElement mapperTypeElement) {
+        List<TypeElement> implementationTypes = new ArrayList<TypeElement>();
+        MapperConfig mapperConfig = MapperConfig.getInstanceOn( mapperTypeElement );
+
+        for ( TypeMirror implementationType : mapperConfig.implementationTypes() ) {
+            if ( implementationType.getKind() == TypeKind.DECLARED ) {
+                addImplementationType(
+                    implementationTypes,
+                    (TypeElement) ( (DeclaredType) implementationType ).asElement(),
+                    mapperTypeElement,
+                    mapperConfig.getAnnotationMirror()
+                );
+            }
+        }
+
+        for ( String name : options.getImplementationTypes() ) {
+            TypeElement implementationType = processingEnvironment.getElementUtils().getTypeElement( name );
+
+            if ( implementationType == null ) {
+                messager.printMessage(
+                    Kind.ERROR,
+                    String.format( "Couldn't find implementation type %s given via processor option.", name ),
+                    mapperTypeElement
+                );
+            }
+            else {
+                addImplementationType( implementationTypes, implementationType, mapperTypeElement, null );
+            }
+        }
+
+        return implementationTypes;
+    }
+
+    private void addImplementationType(List<TypeElement> implementationTypes, TypeElement implementationType,
+                                       TypeElement mapperTypeElement, AnnotationMirror annotationMirror) {
+        if ( roundContext.getTypeFactory().isImplementationType( implementationType ) ) {
+            implementationTypes.add( implementationType );
+        }
+        else {
+            messager.printMessage(
+                Kind.ERROR,
+                String.format(
+                    "%s can't be used as implementation type. It must be a non-abstract class with a public no-args "
+                        + "constructor, implementing a collection or map interface and declaring the same type "
+                        + "parameters.",
+                    implementationType.getQualifiedName()
+                ),
+                mapperTypeElement,
+                annotationMirror
+            );
+        }
     }
 
     @Override
@@ -83,6 +158,16 @@ public Options getOptions() {
         return options;
     }
 
+    @Override
+    public Conversions getConversions() {
+        return roundContext.getConversions();
+    }
+
+    @Override
+    public MapperIndex getMapperIndex() {
+        return mapperIndex;
+    }
+
     @Override
     public boolean isErroneous() {
         return messager.isErroneous();
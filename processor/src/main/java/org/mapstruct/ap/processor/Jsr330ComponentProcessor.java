@@ -18,13 +18,19 @@
  */
 package org.mapstruct.ap.processor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.mapstruct.ap.model.Annotation;
 import org.mapstruct.ap.model.Mapper;
 
 /**
  * A {@link ModelElementProcessor} which converts the given {@link Mapper}
  * object into a JSR 330 style bean in case "jsr330" is configured as the
- * target component model for this mapper.
+ * target component model for this mapper. Unless disabled via the
+ * processor option {@code mapstruct.jsr330Singletons}, the mapper is
+ * annotated with {@code @Singleton}, so all injection points share one
+ * instance.
  *
  * @author Gunnar Morling
  * @author Andreas Gudian
@@ -36,8 +42,15 @@ protected String getComponentModelIdentifier() {
     }
 
     @Override
-    protected Annotation getTypeAnnotation() {
-        return new Annotation( getTypeFactory().getType( "javax.inject.Named" ) );
+    protected List<Annotation> getTypeAnnotations() {
+        List<Annotation> typeAnnotations = new ArrayList<Annotation>( 2 );
+        typeAnnotations.add( new Annotation( getTypeFactory().getType( "javax.inject.Named" ) ) );
+
+        if ( getOptions().isJsr330Singletons() ) {
+            typeAnnotations.add( new Annotation( getTypeFactory().getType( "javax.inject.Singleton" ) ) );
+        }
+
+        return typeAnnotations;
     }
 
     @Override
@@ -45,10 +45,13 @@
 import org.mapstruct.ap.model.MapperReference;
 import org.mapstruct.ap.model.MappingBuilderContext;
 import org.mapstruct.ap.model.MappingMethod;
+import org.mapstruct.ap.model.VirtualMappingMethod;
+import org.mapstruct.ap.model.common.SupportingField;
 import org.mapstruct.ap.model.common.Type;
 import org.mapstruct.ap.model.common.TypeFactory;
 import org.mapstruct.ap.model.source.SourceMethod;
 import org.mapstruct.ap.option.Options;
+import org.mapstruct.ap.option.OptionsHelper;
 import org.mapstruct.ap.prism.DecoratedWithPrism;
 import org.mapstruct.ap.prism.InheritConfigurationPrism;
 import org.mapstruct.ap.prism.InheritInverseConfigurationPrism;
@@ -93,6 +96,8 @@ public Mapper process(ProcessorContext context, TypeElement mapperTypeElement, L
                 elementUtils,
                 typeUtils,
                 typeFactory,
+                context.getConversions(),
+                options,
                 sourceModel,
                 mapperReferences
             ),
@@ -130,6 +135,15 @@ private List<MapperReference> initReferencedMappers(TypeElement element) {
         return result;
     }
 
+    private boolean isDefaultComponentModel(TypeElement mapperElement) {
+        String componentModel = OptionsHelper.getEffectiveComponentModel(
+            options,
+            MapperConfig.getInstanceOn( mapperElement ).componentModel()
+        );
+
+        return componentModel == null || "default".equals( componentModel );
+    }
+
     private Mapper getMapper(TypeElement element, List<SourceMethod> methods) {
         List<MapperReference> mapperReferences = mappingContext.getMapperReferences();
         List<MappingMethod> mappingMethods = getMappingMethods( methods );
@@ -140,8 +154,10 @@ private Mapper getMapper(TypeElement element, List<SourceMethod> methods) {
             .element( element )
             .mappingMethods( mappingMethods )
             .mapperReferences( mapperReferences )
+            .supportingFields( getSupportingFields() )
             .suppressGeneratorTimestamp( options.isSuppressGeneratorTimestamp() )
             .decorator( getDecorator( element, methods ) )
+            .sharedInstance( isDefaultComponentModel( element ) )
             .typeFactory( typeFactory )
             .elementUtils( elementUtils )
             .extraImports( getExtraImports( element ) )
@@ -150,6 +166,17 @@ private Mapper getMapper(TypeElement element, List<SourceMethod> methods) {
         return mapper;
     }
 
+    private SortedSet<SupportingField> getSupportingFields() {
+        SortedSet<SupportingField> supportingFields =
+            new TreeSet<SupportingField>( mappingContext.getUsedSupportingFields() );
+
+        for ( VirtualMappingMethod virtualMappingMethod : mappingContext.getUsedVirtualMappings() ) {
+            supportingFields.addAll( virtualMappingMethod.getSupportingFields() );
+        }
+
+        return supportingFields;
+    }
+
     private Decorator getDecorator(TypeElement element, List<SourceMethod> methods) {
         DecoratedWithPrism decoratorPrism = DecoratedWithPrism.getInstanceOn( element );
 
@@ -221,7 +248,8 @@ else if ( constructor.getParameters().size() == 1 ) {
             decoratorPrism,
             mappingMethods,
             hasDelegateConstructor,
-            options.isSuppressGeneratorTimestamp()
+            options.isSuppressGeneratorTimestamp(),
+            isDefaultComponentModel( element )
         );
     }
 
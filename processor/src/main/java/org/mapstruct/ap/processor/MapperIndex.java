@@ -0,0 +1,167 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.util.Elements;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import org.mapstruct.ap.model.MapperRegistry;
+import org.mapstruct.ap.model.common.TypeFactory;
+import org.mapstruct.ap.writer.ModelWriter;
+
+/**
+ * Keeps track of the mappers generated during the whole compilation which can be instantiated by a
+ * {@link MapperRegistry}, i.e. the public top-level mappers using the default component model.
+ * <p>
+ * At the end of each round, a registry class for the mappers generated within that round is written; usually that's
+ * one registry for all the mappers of a module. After the last round, the service registration of all written
+ * registries and an index of all registered mappers are written.
+ *
+ * @author agent
+ */
+public class MapperIndex {
+
+    /**
+     * The resource listing all registered mappers of a module, one line per mapper in the form
+     * {@code <mapper name>=<implementation name>}.
+     */
+    public static final String MAPPERS_RESOURCE = "META-INF/mapstruct/mappers";
+
+    private static final String SERVICE_RESOURCE = "META-INF/services/" + MapperRegistry.REGISTRY_INTERFACE_NAME;
+    private static final String REGISTRY_NAME = "GeneratedMapperRegistry_";
+
+    private final SortedMap<String, String> roundImplementationNames = new TreeMap<String, String>();
+    private final SortedMap<String, String> implementationNames = new TreeMap<String, String>();
+    private final List<String> registryNames = new ArrayList<String>();
+
+    /**
+     * Registers a generated mapper.
+     *
+     * @param mapperName the fully qualified name of the mapper type
+     * @param implementationName the fully qualified name of the generated implementation type
+     */
+    public void addMapper(String mapperName, String implementationName) {
+        roundImplementationNames.put( mapperName, implementationName );
+    }
+
+    /**
+     * Writes the registry of the mappers added within the current round, if any.
+     *
+     * @param filer the filer
+     * @param elementUtils the element utils, used to check the availability of the registry interface
+     * @param typeFactory the type factory
+     * @param suppressGeneratorTimestamp whether to omit the timestamp from the {@code @Generated} annotation
+     */
+    public void writeRegistry(Filer filer, Elements elementUtils, TypeFactory typeFactory,
+                              boolean suppressGeneratorTimestamp) {
+        if ( roundImplementationNames.isEmpty() ) {
+            return;
+        }
+
+        // the registry interface is missing if an outdated MapStruct API is on the class path
+        if ( elementUtils.getTypeElement( MapperRegistry.REGISTRY_INTERFACE_NAME ) == null ) {
+            roundImplementationNames.clear();
+            return;
+        }
+
+        // derive the name from the registered mappers, so different modules using the same package get distinct
+        // registries
+        String firstMapperName = roundImplementationNames.firstKey();
+        String packageName = firstMapperName.substring( 0, firstMapperName.lastIndexOf( '.' ) );
+        String name = REGISTRY_NAME + Integer.toHexString( roundImplementationNames.keySet().hashCode() );
+
+        MapperRegistry registry = new MapperRegistry(
+            typeFactory,
+            packageName,
+            name,
+            roundImplementationNames,
+            suppressGeneratorTimestamp
+        );
+
+        JavaFileObject sourceFile;
+        try {
+            sourceFile = filer.createSourceFile( packageName + "." + name );
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+
+        new ModelWriter().writeModel( sourceFile, registry );
+
+        registryNames.add( packageName + "." + name );
+        implementationNames.putAll( roundImplementationNames );
+        roundImplementationNames.clear();
+    }
+
+    /**
+     * Writes the service registration of all registries written during the compilation and the index of all
+     * registered mappers, unless no registry has been written at all.
+     *
+     * @param filer the filer
+     */
+    public void writeResources(Filer filer) {
+        if ( registryNames.isEmpty() ) {
+            return;
+        }
+
+        StringBuilder registries = new StringBuilder();
+        for ( String registryName : registryNames ) {
+            registries.append( registryName ).append( '\n' );
+        }
+
+        StringBuilder mappers = new StringBuilder();
+        for ( Entry<String, String> implementationName : implementationNames.entrySet() ) {
+            mappers.append( implementationName.getKey() )
+                .append( '=' )
+                .append( implementationName.getValue() )
+                .append( '\n' );
+        }
+
+        writeResource( filer, SERVICE_RESOURCE, registries );
+        writeResource( filer, MAPPERS_RESOURCE, mappers );
+    }
+
+    private void writeResource(Filer filer, String name, CharSequence content) {
+        try {
+            FileObject resource = filer.createResource( StandardLocation.CLASS_OUTPUT, "", name );
+            Writer writer = resource.openWriter();
+
+            try {
+                writer.append( content );
+            }
+            finally {
+                writer.close();
+            }
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+    }
+}
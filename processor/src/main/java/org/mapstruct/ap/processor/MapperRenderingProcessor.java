@@ -20,16 +20,22 @@
 
 import java.io.IOException;
 import javax.annotation.processing.Filer;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
 import javax.tools.JavaFileObject;
 
 import org.mapstruct.ap.model.GeneratedType;
 import org.mapstruct.ap.model.Mapper;
+import org.mapstruct.ap.option.OptionsHelper;
+import org.mapstruct.ap.util.MapperConfig;
 import org.mapstruct.ap.writer.ModelWriter;
 
 /**
  * A {@link ModelElementProcessor} which creates a Java source file representing
  * the given {@link Mapper} object, unless the given mapper type is erroneous.
+ * Mappers which can be instantiated by a mapper registry are added to the {@link MapperIndex}.
  *
  * @author Gunnar Morling
  */
@@ -39,11 +45,39 @@ public class MapperRenderingProcessor implements ModelElementProcessor<Mapper, V
     public Void process(ProcessorContext context, TypeElement mapperTypeElement, Mapper mapper) {
         if ( !context.isErroneous() ) {
             writeToSourceFile( context.getFiler(), mapper );
+
+            if ( isRegistrable( context, mapperTypeElement ) ) {
+                GeneratedType implementation = mapper.getDecorator() != null ? mapper.getDecorator() : mapper;
+
+                context.getMapperIndex().addMapper(
+                    mapperTypeElement.getQualifiedName().toString(),
+                    implementation.getPackageName() + "." + implementation.getName()
+                );
+            }
         }
 
         return null;
     }
 
+    /**
+     * Whether the given mapper can be instantiated by a registry in another package, retrieving it via the
+     * {@code Mappers} factory.
+     */
+    private boolean isRegistrable(ProcessorContext context, TypeElement mapperTypeElement) {
+        if ( !mapperTypeElement.getModifiers().contains( Modifier.PUBLIC )
+            || mapperTypeElement.getEnclosingElement().getKind() != ElementKind.PACKAGE
+            || ( (PackageElement) mapperTypeElement.getEnclosingElement() ).isUnnamed() ) {
+            return false;
+        }
+
+        String componentModel = OptionsHelper.getEffectiveComponentModel(
+            context.getOptions(),
+            MapperConfig.getInstanceOn( mapperTypeElement ).componentModel()
+        );
+
+        return componentModel == null || "default".equals( componentModel );
+    }
+
     private void writeToSourceFile(Filer filer, Mapper model) {
         ModelWriter modelWriter = new ModelWriter();
 
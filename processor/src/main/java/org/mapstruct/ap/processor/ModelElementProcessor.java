@@ -25,6 +25,7 @@
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic.Kind;
 
+import org.mapstruct.ap.conversion.Conversions;
 import org.mapstruct.ap.model.common.TypeFactory;
 import org.mapstruct.ap.option.Options;
 
@@ -62,6 +63,22 @@ public interface ProcessorContext {
 
         Options getOptions();
 
+        /**
+         * Returns the registry of built-in conversions, which is shared by all mappers processed within the current
+         * round.
+         *
+         * @return The conversions registry.
+         */
+        Conversions getConversions();
+
+        /**
+         * Returns the index of the mappers generated during the whole compilation, to which the generated mappers
+         * are to be added which can be instantiated by the generated mapper registries.
+         *
+         * @return The mapper index.
+         */
+        MapperIndex getMapperIndex();
+
         /**
          * Whether the currently processed mapper type is erroneous which is the
          * case if at least one diagnostic with {@link Kind#ERROR} is reported
@@ -0,0 +1,98 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+
+import org.mapstruct.ap.conversion.Conversions;
+import org.mapstruct.ap.model.common.AccessorIndex;
+import org.mapstruct.ap.model.common.TypeFactory;
+
+/**
+ * Holds the state shared by all mappers processed within one round of annotation processing, e.g. the registry of
+ * built-in conversions and the accessors of the mapped types. This avoids re-creating that state for each single
+ * mapper. State specific to one generated source file, most notably the imported types, is kept by the
+ * {@link ModelElementProcessor.ProcessorContext} created per mapper instead.
+ * <p>
+ * A new instance is to be created for each round, as elements and types obtained in one round must not be used in
+ * subsequent rounds.
+ *
+ * @author agent
+ */
+public class RoundContext {
+
+    private final ProcessingEnvironment processingEnvironment;
+    private final AccessorIndex accessorIndex;
+
+    /**
+     * Used for types which are not referenced from generated source files, so the imports of each file are not
+     * affected by them.
+     */
+    private TypeFactory typeFactory;
+    private Conversions conversions;
+
+    public RoundContext(ProcessingEnvironment processingEnvironment) {
+        this.processingEnvironment = processingEnvironment;
+        this.accessorIndex = new AccessorIndex(
+            processingEnvironment.getElementUtils(),
+            processingEnvironment.getTypeUtils()
+        );
+    }
+
+    /**
+     * Returns the index of the accessors of all types processed within the current round, to be used by the type
+     * factories of all mappers.
+     *
+     * @return the accessor index
+     */
+    public AccessorIndex getAccessorIndex() {
+        return accessorIndex;
+    }
+
+    /**
+     * Returns the registry of built-in conversions; its types are only used for looking up conversions and never
+     * rendered into generated source files.
+     *
+     * @return the conversions registry, created upon first retrieval within the current round
+     */
+    public Conversions getConversions() {
+        if ( conversions == null ) {
+            conversions = new Conversions( processingEnvironment.getElementUtils(), getTypeFactory() );
+        }
+
+        return conversions;
+    }
+
+    /**
+     * Returns a type factory using the default implementation types of collection and map interfaces.
+     *
+     * @return the type factory, created upon first retrieval within the current round
+     */
+    public TypeFactory getTypeFactory() {
+        if ( typeFactory == null ) {
+            typeFactory = new TypeFactory(
+                processingEnvironment.getElementUtils(),
+                processingEnvironment.getTypeUtils(),
+                accessorIndex
+            );
+        }
+
+        return typeFactory;
+    }
+}
@@ -18,6 +18,9 @@
  */
 package org.mapstruct.ap.processor;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.mapstruct.ap.model.Annotation;
 import org.mapstruct.ap.model.Mapper;
 
@@ -36,8 +39,10 @@ protected String getComponentModelIdentifier() {
     }
 
     @Override
-    protected Annotation getTypeAnnotation() {
-        return new Annotation( getTypeFactory().getType( "org.springframework.stereotype.Component" ) );
+    protected List<Annotation> getTypeAnnotations() {
+        return Collections.singletonList(
+            new Annotation( getTypeFactory().getType( "org.springframework.stereotype.Component" ) )
+        );
     }
 
     @Override
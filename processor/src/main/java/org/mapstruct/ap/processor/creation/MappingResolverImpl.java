@@ -38,6 +38,9 @@
 import org.mapstruct.ap.model.assignment.Assignment;
 import org.mapstruct.ap.model.common.ConversionContext;
 import org.mapstruct.ap.model.common.DefaultConversionContext;
+import org.mapstruct.ap.model.common.SupportingField;
+import org.mapstruct.ap.model.common.SupportingField.Entry;
+import org.mapstruct.ap.model.common.SupportingFields;
 import org.mapstruct.ap.model.common.Type;
 import org.mapstruct.ap.model.common.TypeFactory;
 import org.mapstruct.ap.model.source.Method;
@@ -45,6 +48,7 @@
 import org.mapstruct.ap.model.source.builtin.BuiltInMappingMethods;
 import org.mapstruct.ap.model.source.builtin.BuiltInMethod;
 import org.mapstruct.ap.model.source.selector.MethodSelectors;
+import org.mapstruct.ap.option.Options;
 import org.mapstruct.ap.util.Strings;
 
 /**
@@ -59,10 +63,16 @@ public class MappingResolverImpl implements MappingResolver {
     private final Messager messager;
     private final Types typeUtils;
     private final TypeFactory typeFactory;
+    private final Options options;
 
-    private final List<SourceMethod> sourceModel;
     private final List<MapperReference> mapperReferences;
 
+    /**
+     * The methods from the source model which can be used for mapping properties; the same list instance is used for
+     * all resolving attempts, as the method selectors memoize their matches per candidate list.
+     */
+    private final List<SourceMethod> candidateMethods;
+
     private final Conversions conversions;
     private final BuiltInMappingMethods builtInMethods;
     private final MethodSelectors methodSelectors;
@@ -73,16 +83,23 @@ public class MappingResolverImpl implements MappingResolver {
      */
     private final Set<VirtualMappingMethod> usedVirtualMappings = new HashSet<VirtualMappingMethod>();
 
+    /**
+     * Fields which are added to the generated mapper on behalf of conversions, e.g. to hold date formats.
+     */
+    private final SupportingFields supportingFields = new SupportingFields();
+
     public MappingResolverImpl(Messager messager, Elements elementUtils, Types typeUtils, TypeFactory typeFactory,
-                               List<SourceMethod> sourceModel, List<MapperReference> mapperReferences) {
+                               Conversions conversions, Options options, List<SourceMethod> sourceModel,
+                               List<MapperReference> mapperReferences) {
         this.messager = messager;
         this.typeUtils = typeUtils;
         this.typeFactory = typeFactory;
+        this.options = options;
 
-        this.sourceModel = sourceModel;
         this.mapperReferences = mapperReferences;
+        this.candidateMethods = filterPossibleCandidateMethods( sourceModel );
 
-        this.conversions = new Conversions( elementUtils, typeFactory );
+        this.conversions = conversions;
         this.builtInMethods = new BuiltInMappingMethods( typeFactory );
         this.methodSelectors = new MethodSelectors(
             typeUtils,
@@ -123,7 +140,7 @@ public Assignment getTargetAssignment(
         String sourceReference) {
 
         ResolvingAttempt attempt = new ResolvingAttempt(
-            sourceModel,
+            candidateMethods,
             mappingMethod,
             mappedElement,
             targetPropertyName,
@@ -135,11 +152,38 @@ public Assignment getTargetAssignment(
         return attempt.getTargetAssignment( sourceType, targetType );
     }
 
+    private List<SourceMethod> filterPossibleCandidateMethods(List<SourceMethod> sourceMethods) {
+        List<SourceMethod> result = new ArrayList<SourceMethod>( sourceMethods.size() );
+        for ( SourceMethod candidate : sourceMethods ) {
+            if ( isCandidateForMapping( candidate ) ) {
+                result.add( candidate );
+            }
+        }
+
+        return result;
+    }
+
+    private boolean isCandidateForMapping(Method methodCandidate) {
+        return methodCandidate.getSourceParameters().size() == 1 && !methodCandidate.getReturnType().isVoid()
+            && methodCandidate.getTargetParameter() == null; // @MappingTarget is not yet supported for property
+                                                             // mappings
+    }
+
     @Override
     public Set<VirtualMappingMethod> getUsedVirtualMappings() {
         return usedVirtualMappings;
     }
 
+    @Override
+    public Set<SupportingField> getUsedSupportingFields() {
+        return supportingFields.getFields();
+    }
+
+    @Override
+    public SupportingField getArrayField(Type type, String name, String initializer, List<Entry> entries) {
+        return supportingFields.getField( type, name, initializer, entries );
+    }
+
     private class ResolvingAttempt {
 
         private final Method mappingMethod;
@@ -155,7 +199,7 @@ private class ResolvingAttempt {
         // so this set must be cleared.
         private final Set<VirtualMappingMethod> virtualMethodCandidates;
 
-        private ResolvingAttempt(List<SourceMethod> sourceModel,
+        private ResolvingAttempt(List<SourceMethod> candidateMethods,
                                  Method mappingMethod,
                                  String mappedElement,
                                  String targetPropertyName,
@@ -164,7 +208,7 @@ private ResolvingAttempt(List<SourceMethod> sourceModel,
                                  String sourceReference) {
             this.mappingMethod = mappingMethod;
             this.mappedElement = mappedElement;
-            this.methods = filterPossibleCandidateMethods( sourceModel );
+            this.methods = candidateMethods;
             this.targetPropertyName = targetPropertyName;
             this.dateFormat = dateFormat;
             this.qualifiers = qualifiers;
@@ -172,17 +216,6 @@ private ResolvingAttempt(List<SourceMethod> sourceModel,
             this.virtualMethodCandidates = new HashSet<VirtualMappingMethod>();
         }
 
-        private <T extends Method> List<T> filterPossibleCandidateMethods(List<T> candidateMethods) {
-            List<T> result = new ArrayList<T>( candidateMethods.size() );
-            for ( T candidate : candidateMethods ) {
-                if ( isCandidateForMapping( candidate ) ) {
-                    result.add( candidate );
-                }
-            }
-
-            return result;
-        }
-
         private Assignment getTargetAssignment(Type sourceType, Type targetType) {
 
             // first simple mapping method
@@ -245,8 +278,15 @@ private Assignment resolveViaConversion(Type sourceType, Type targetType) {
                 return null;
             }
 
-            ConversionContext ctx =
-                new DefaultConversionContext( typeFactory, messager, sourceType, targetType, dateFormat );
+            ConversionContext ctx = new DefaultConversionContext(
+                typeFactory,
+                messager,
+                sourceType,
+                targetType,
+                dateFormat,
+                supportingFields,
+                options
+            );
             return conversionProvider.to( ctx );
         }
 
@@ -278,7 +318,8 @@ private Assignment resolveViaBuiltInMethod(Type sourceType, Type targetType) {
                 virtualMethodCandidates.add( new VirtualMappingMethod( matchingBuiltInMethod ) );
                 ConversionContext ctx = new DefaultConversionContext( typeFactory, messager,
                                                                       sourceType,
-                                                                      targetType, dateFormat );
+                                                                      targetType, dateFormat,
+                                                                      supportingFields, options );
                 Assignment methodReference = AssignmentFactory.createMethodReference( matchingBuiltInMethod, ctx );
                 methodReference.setAssignment( AssignmentFactory.createDirect( sourceReference ) );
                 return methodReference;
@@ -408,12 +449,6 @@ private Assignment resolveViaMethodAndConversion(Type sourceType, Type targetTyp
             return conversionYRef;
         }
 
-        private boolean isCandidateForMapping(Method methodCandidate) {
-            return methodCandidate.getSourceParameters().size() == 1 && !methodCandidate.getReturnType().isVoid()
-                && methodCandidate.getTargetParameter() == null; // @MappingTarget is not yet supported for property
-                                                                 // mappings
-        }
-
         private <T extends Method> T getBestMatch(List<T> methods, Type sourceType, Type returnType) {
 
             List<T> candidates = methodSelectors.getMatchingMethods(
@@ -38,5 +38,7 @@ private JodaTimeConstants() {
 
     public static final String DATE_TIME_FORMAT_FQN = "org.joda.time.format.DateTimeFormat";
 
+    public static final String DATE_TIME_FORMATTER_FQN = "org.joda.time.format.DateTimeFormatter";
+
     public static final String DATE_TIME_FORMAT = "LL";
 }
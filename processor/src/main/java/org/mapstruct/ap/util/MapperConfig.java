@@ -80,6 +80,20 @@ public List<TypeMirror> uses() {
         return new ArrayList<TypeMirror>( uses );
     }
 
+    /**
+     * Returns the configured collection and map implementation types, those given via {@link org.mapstruct.Mapper}
+     * preceding those given via {@link org.mapstruct.MapperConfig}.
+     *
+     * @return the configured implementation types in the order of their precedence
+     */
+    public List<TypeMirror> implementationTypes() {
+        List<TypeMirror> implementationTypes = new ArrayList<TypeMirror>( mapperPrism.implementationTypes() );
+        if ( mapperConfigPrism != null ) {
+            implementationTypes.addAll( mapperConfigPrism.implementationTypes() );
+        }
+        return implementationTypes;
+    }
+
     public List<TypeMirror> imports() {
         return mapperPrism.imports();
     }
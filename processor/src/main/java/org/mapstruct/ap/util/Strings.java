@@ -20,7 +20,6 @@
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 
 import static org.mapstruct.ap.util.Collections.asSet;
@@ -152,14 +151,70 @@ public static String getSaveVariableName(String name, String... existingVariable
     public static String getSaveVariableName(String name, Collection<String> existingVariableNames) {
         name = decapitalize( name );
 
-        Set<String> conflictingNames = new HashSet<String>( KEYWORDS );
-        conflictingNames.addAll( existingVariableNames );
-
-        while ( conflictingNames.contains( name ) ) {
+        while ( KEYWORDS.contains( name ) || existingVariableNames.contains( name ) ) {
             name = name + "_";
         }
 
         return name;
     }
 
+    /**
+     * Returns a name for a constant based on the given string, e.g. a date pattern. All characters other than letters
+     * and digits are replaced by underscores and the result is converted to upper case.
+     *
+     * @param prefix the prefix of the constant name, e.g. {@code DATE_FORMAT}
+     * @param string the string to derive the constant name from, may be {@code null}
+     *
+     * @return a name for a constant, starting with the given prefix
+     */
+    public static String getConstantName(String prefix, String string) {
+        StringBuilder sb = new StringBuilder( prefix );
+
+        if ( string != null ) {
+            sb.append( '_' );
+
+            for ( char c : string.toCharArray() ) {
+                if ( isAsciiLetterOrDigit( c ) ) {
+                    sb.append( Character.toUpperCase( c ) );
+                }
+                else if ( sb.charAt( sb.length() - 1 ) != '_' ) {
+                    sb.append( '_' );
+                }
+            }
+        }
+
+        while ( sb.charAt( sb.length() - 1 ) == '_' ) {
+            sb.deleteCharAt( sb.length() - 1 );
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Returns a name for a constant based on the given camel-case name, e.g. a type name. Words are separated by
+     * underscores, e.g. {@code ORDER_STATUS} is returned for {@code OrderStatus}.
+     *
+     * @param name the camel-case name to derive the constant name from
+     *
+     * @return a name for a constant
+     */
+    public static String getConstantName(String name) {
+        StringBuilder sb = new StringBuilder();
+        char previous = '_';
+
+        for ( char c : name.toCharArray() ) {
+            if ( Character.isUpperCase( c ) && Character.isLowerCase( previous ) ) {
+                sb.append( '_' );
+            }
+            sb.append( Character.isLetterOrDigit( c ) ? Character.toUpperCase( c ) : '_' );
+            previous = c;
+        }
+
+        return sb.toString();
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' ) || ( c >= '0' && c <= '9' );
+    }
+
 }
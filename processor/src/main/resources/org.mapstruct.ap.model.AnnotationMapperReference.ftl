@@ -18,5 +18,7 @@
      limitations under the License.
 
 -->
+<#if annotation??>
 <#nt><@includeModel object=annotation/>
-private <@includeModel object=type/> ${variableName};
\ No newline at end of file
+</#if>
+private <#if fieldFinal>final </#if><@includeModel object=type/> ${variableName};
\ No newline at end of file
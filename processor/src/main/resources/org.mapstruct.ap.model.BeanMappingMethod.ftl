@@ -29,26 +29,27 @@
     <#if !existingInstanceMapping><@includeModel object=resultType/> ${resultName} = <#if factoryMethod??><@includeModel object=factoryMethod targetType=resultType raw=true/><#else>new <@includeModel object=resultType/>()</#if>;</#if>
     <#if (sourceParameters?size > 1)>
         <#list sourceParametersExcludingPrimitives as sourceParam>
-            <#if (propertyMappingsByParameter[sourceParam.name]?size > 0)>
+            <#if (propertyMappingsByParameter[sourceParam.name]?size > 0 || helperMethodsByParameter[sourceParam.name]?size > 0)>
                 if ( ${sourceParam.name} != null ) {
                     <#list propertyMappingsByParameter[sourceParam.name] as propertyMapping>
                         <@includeModel object=propertyMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping/>
                     </#list>
+                    <@helperMethodCalls sourceParam=sourceParam/><#t>
                 }
             </#if>
         </#list>
         <#list sourcePrimitiveParameters as sourceParam>
-            <#if (propertyMappingsByParameter[sourceParam.name]?size > 0)>
-                <#list propertyMappingsByParameter[sourceParam.name] as propertyMapping>
-                    <@includeModel object=propertyMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping/>
-                </#list>
-            </#if>
+            <#list propertyMappingsByParameter[sourceParam.name] as propertyMapping>
+                <@includeModel object=propertyMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping/>
+            </#list>
+            <@helperMethodCalls sourceParam=sourceParam/><#t>
         </#list>
     <#else>
         <#if mapNullToDefault>if ( ${sourceParameters[0].name} != null ) {</#if>
         <#list propertyMappingsByParameter[sourceParameters[0].name] as propertyMapping>
             <@includeModel object=propertyMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping/>
         </#list>
+        <@helperMethodCalls sourceParam=sourceParameters[0]/><#t>
         <#if mapNullToDefault>}</#if>
     </#if>
     <#list constantMappings as constantMapping>
@@ -59,6 +60,19 @@
     return ${resultName};
     </#if>
 }
+<#list helperMethods as helperMethod>
+
+private void ${helperMethod.name}(<#list parameters as param><@includeModel object=param/><#if param_has_next || !existingInstanceMapping>, </#if></#list><#if !existingInstanceMapping><@includeModel object=resultType/> ${resultName}</#if>)<@throws/> {
+    <#list helperMethod.propertyMappings as propertyMapping>
+        <@includeModel object=propertyMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping/>
+    </#list>
+}
+</#list>
+<#macro helperMethodCalls sourceParam>
+    <#list helperMethodsByParameter[sourceParam.name] as helperMethod>
+        ${helperMethod.name}( <#list parameters as param>${param.name}<#if param_has_next || !existingInstanceMapping>, </#if></#list><#if !existingInstanceMapping>${resultName}</#if> );
+    </#list>
+</#macro>
 <#macro throws>
     <@compress single_line=true>
         <#if (thrownTypes?size > 0)> throws </#if>
@@ -19,7 +19,7 @@
 
 -->
 public ${name}() {
-    this( new ${delegateName}() );
+    this( <#if sharedDelegate>${delegateName}.${sharedInstanceAccessorName}()<#else>new ${delegateName}()</#if> );
 }
 
 private ${name}(${delegateName} delegate) {
@@ -18,4 +18,4 @@
      limitations under the License.
 
 -->
-${sourceReference}
\ No newline at end of file
+<#if sourceLocalVarName??>${sourceLocalVarName}<#else>${sourceReference}</#if>
\ No newline at end of file
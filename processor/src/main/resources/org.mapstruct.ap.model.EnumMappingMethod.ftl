@@ -24,6 +24,13 @@ public <@includeModel object=returnType/> ${name}(<@includeModel object=sourcePa
         return  null;
     }
 
+    <#if mappingTable??>
+    <@includeModel object=resultType/> ${resultName} = ${mappingTable.variableName}[${sourceParameter.name}.ordinal()];
+
+    if ( ${resultName} == null ) {
+        throw new IllegalArgumentException( "Unexpected enum constant: " + ${sourceParameter.name} );
+    }
+    <#else>
     <@includeModel object=resultType/> ${resultName};
 
     switch ( ${sourceParameter.name} ) {
@@ -33,6 +40,7 @@ public <@includeModel object=returnType/> ${name}(<@includeModel object=sourcePa
     </#list>
     default: throw new IllegalArgumentException( "Unexpected enum constant: " + ${sourceParameter.name} );
     }
+    </#if>
 
     return ${resultName};
 }
\ No newline at end of file
@@ -40,26 +40,37 @@
                     ${resultName}.clear();
                     return<#if returnType.name != "void"> ${resultName}</#if>;
                 <#else>
-                    return <@iterableCreation/>;
+                    return <@iterableCreation sized=false/>;
                 </#if>
             </#if>
         </#if>
     }
 
-    <#if resultType.arrayType>
+    <#if resultType.arrayType && elementCopy>
+        <#if existingInstanceMapping>
+        System.arraycopy( ${sourceParameter.name}, 0, ${resultName}, 0, Math.min( ${sourceParameter.name}.length, ${resultName}.length ) );
+        <#elseif sourceParameter.type.arrayType>
+        <@includeModel object=resultElementType/>[] ${resultName} = Arrays.copyOf( ${sourceParameter.name}, ${sourceParameter.name}.length<#if !elementTypeRetained>, <@includeModel object=resultElementType/>[].class</#if> );
+        <#else>
+        <@includeModel object=resultElementType/>[] ${resultName} = ${sourceParameter.name}.toArray( new <@includeModel object=resultElementType/>[${sourceParameter.name}.size()] );
+        </#if>
+    <#elseif resultType.arrayType>
         <#if !existingInstanceMapping>
             <@includeModel object=resultElementType/>[] ${resultName} = new <@includeModel object=resultElementType/>[<@iterableSize/>];
         </#if>
-        int ${index1Name} = 0;
-        for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
-            <#if existingInstanceMapping>
-            if ( ( ${index1Name} >= ${resultName}.length ) || ( ${index1Name} >= <@iterableSize/> ) ) {
-                break;
-            }
-            </#if>
-            <@includeModel object=elementAssignment targetAccessorName=resultName+"[${index1Name}]" targetType=resultElementType isTargetDefined=true/>
-            ${index1Name}++;
+        <#if sourceParameter.type.arrayType || indexedLoop && randomAccessSource>
+        <#-- a single index for source and result array allows the JIT to eliminate range checks -->
+        <@indexArrayLoop/>
+        <#elseif indexedLoop>
+        if ( ${sourceParameter.name} instanceof RandomAccess ) {
+            <@indexArrayLoop/>
+        }
+        else {
+            <@forEachArrayLoop/>
         }
+        <#else>
+        <@forEachArrayLoop/>
+        </#if>
     <#else>
         <#if existingInstanceMapping>
             ${resultName}.clear();
@@ -67,10 +78,26 @@
             <#-- Use the interface type on the left side, except it is java.lang.Iterable; use the implementation type - if present - on the right side -->
             <@iterableLocalVarDef/> ${resultName} = <@iterableCreation/>;
         </#if>
+        <#if elementCopy>
+            <#if !copyConstructorUsed>
+
+        ${resultName}.addAll( <@bulkSource/> );
+            </#if>
+        <#elseif indexedLoop && !randomAccessSource>
 
-        for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
-            <@includeModel object=elementAssignment targetBeanName=resultName targetAccessorName="add" targetType=resultElementType/>
+        if ( ${sourceParameter.name} instanceof RandomAccess ) {
+            <@indexLoop><@addElement/></@indexLoop>
         }
+        else {
+            <@forEachLoop><@addElement/></@forEachLoop>
+        }
+        <#elseif indexedLoop>
+
+        <@indexLoop><@addElement/></@indexLoop>
+        <#else>
+
+        <@forEachLoop><@addElement/></@forEachLoop>
+        </#if>
     </#if>
 
     <#if returnType.name != "void">
@@ -104,17 +131,71 @@
         </#if>
     </@compress>
 </#macro>
-<#macro iterableCreation>
+<#macro iterableCreation sized=true>
     <@compress single_line=true>
         <#if factoryMethod??>
             <@includeModel object=factoryMethod targetType=resultType raw=true/>
         <#else>
-            new
-            <#if resultType.implementationType??>
-                <@includeModel object=resultType.implementationType/>
+            <#local creationType = resultType.implementationType!resultType/>
+            <#if creationType.enumSetType>
+                <#-- EnumSet has no public constructor, the element type determines the size of its bit vector -->
+                <@includeModel object=creationType raw=true/>.noneOf( <@includeModel object=resultElementType/>.class )
             <#else>
-                <@includeModel object=resultType/>
-            </#if>()
+                <#if sized && copyConstructorUsed>
+                    <#-- take over all source elements at once -->
+                    <#local argument><@bulkSource/></#local>
+                <#elseif sized && creationType.initialCapacitySupported && ( sourceParameter.type.collectionType || sourceParameter.type.arrayType )>
+                    <#-- size the result upfront if the number of source elements is known -->
+                    <#local size><@iterableSize/></#local>
+                    <#local argument><#if creationType.hashedCapacity>Math.max( (int) ( ${size} / .75f ) + 1, 16 )<#else>${size}</#if></#local>
+                </#if>
+                new <@includeModel object=creationType/>(<#if argument??> ${argument} </#if>)
+            </#if>
         </#if>
     </@compress>
-</#macro>
\ No newline at end of file
+</#macro>
+<#macro bulkSource>
+    <@compress single_line=true>
+        <#if sourceParameter.type.arrayType>
+            Arrays.asList( ${sourceParameter.name} )
+        <#else>
+            ${sourceParameter.name}
+        </#if>
+    </@compress>
+</#macro>
+<#macro forEachLoop>
+    for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
+        <#nested>
+    }
+</#macro>
+<#-- iterates over a source array or list by index, avoiding the allocation of an iterator for lists -->
+<#macro indexLoop condition="">
+    for ( int ${index1Name} = 0; ${index1Name} < <@iterableSize/>${condition}; ${index1Name}++ ) {
+        <@includeModel object=sourceElementType/> ${loopVariableName} = <#if sourceParameter.type.arrayType>${sourceParameter.name}[${index1Name}]<#else>${sourceParameter.name}.get( ${index1Name} )</#if>;
+        <#nested>
+    }
+</#macro>
+<#macro addElement>
+    <@includeModel object=elementAssignment targetBeanName=resultName targetAccessorName="add" targetType=resultElementType/>
+</#macro>
+<#macro arrayElement>
+    <@includeModel object=elementAssignment targetAccessorName=resultName+"[${index1Name}]" targetType=resultElementType isTargetDefined=true/>
+</#macro>
+<#macro forEachArrayLoop>
+    int ${index1Name} = 0;
+    <@forEachLoop>
+        <#if existingInstanceMapping>
+        if ( ( ${index1Name} >= ${resultName}.length ) || ( ${index1Name} >= <@iterableSize/> ) ) {
+            break;
+        }
+        </#if>
+        <@arrayElement/>
+        ${index1Name}++;
+    </@forEachLoop>
+</#macro>
+<#macro indexArrayLoop>
+    <#if existingInstanceMapping>
+        <#local condition = " && " + index1Name + " < " + resultName + ".length"/>
+    </#if>
+    <@indexLoop condition=condition!""><@arrayElement/></@indexLoop>
+</#macro>
@@ -28,7 +28,7 @@
                  ${resultName}.clear();
                  return<#if returnType.name != "void"> ${resultName} </#if>;
             <#else>
-                 return <@returnObjectCreation/>;
+                 return <@returnObjectCreation sized=false/>;
             </#if>
         </#if>
     }
@@ -38,6 +38,12 @@
     <#else>
         <@includeModel object=resultType /> ${resultName} = <@returnObjectCreation/>;
     </#if>
+    <#if entryCopy>
+        <#if !copyConstructorUsed>
+
+    ${resultName}.putAll( ${sourceParameter.name} );
+        </#if>
+    <#else>
 
     <#-- Once #148 has been addressed, the simple name of Map.Entry can be used -->
     for ( java.util.Map.Entry<<#list sourceParameter.type.typeParameters as typeParameter><@includeModel object=typeParameter /><#if typeParameter_has_next>, </#if></#list>> ${entryVariableName} : ${sourceParameter.name}.entrySet() ) {
@@ -51,6 +57,7 @@
                    targetType=resultType.typeParameters[1]/>
         ${resultName}.put( ${keyVariableName}, ${valueVariableName} );
     }
+    </#if>
     <#if returnType.name != "void">
 
         return ${resultName};
@@ -65,17 +72,23 @@
         </#list>
     </@compress>
 </#macro>
-<#macro returnObjectCreation>
+<#macro returnObjectCreation sized=true>
     <@compress single_line=true>
         <#if factoryMethod??>
              <@includeModel object=factoryMethod targetType=resultType raw=true/>
         <#else>
-             new
-             <#if resultType.implementationType??>
-                  <@includeModel object=resultType.implementationType />
-             <#else>
-                  <@includeModel object=resultType />
-             </#if>()
+             <#local creationType = resultType.implementationType!resultType/>
+             <#if creationType.enumMapType>
+                 <#-- the key type is required for allocating the array holding the values -->
+                 <#local argument><@includeModel object=creationType.typeParameters[0]/>.class</#local>
+             <#elseif sized && copyConstructorUsed>
+                 <#-- take over all source entries at once -->
+                 <#local argument = sourceParameter.name/>
+             <#elseif sized && creationType.initialCapacitySupported>
+                 <#-- size the result upfront for the number of source entries -->
+                 <#local argument><#if creationType.hashedCapacity>Math.max( (int) ( ${sourceParameter.name}.size() / .75f ) + 1, 16 )<#else>${sourceParameter.name}.size()</#if></#local>
+             </#if>
+             new <@includeModel object=creationType />(<#if argument??> ${argument} </#if>)
         </#if>
     </@compress>
-</#macro>
\ No newline at end of file
+</#macro>
@@ -0,0 +1,59 @@
+<#--
+
+     Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+     and/or other contributors as indicated by the @authors tag. See the
+     copyright.txt file in the distribution for a full listing of all
+     contributors.
+
+     Licensed under the Apache License, Version 2.0 (the "License");
+     you may not use this file except in compliance with the License.
+     You may obtain a copy of the License at
+
+         http://www.apache.org/licenses/LICENSE-2.0
+
+     Unless required by applicable law or agreed to in writing, software
+     distributed under the License is distributed on an "AS IS" BASIS,
+     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+     See the License for the specific language governing permissions and
+     limitations under the License.
+
+-->
+package ${packageName};
+
+<#list importTypes as importedType>
+import ${importedType.importName};
+</#list>
+
+@Generated(
+    value = "org.mapstruct.ap.MappingProcessor"<#if suppressGeneratorTimestamp == false>,
+    date = "${.now?string("yyyy-MM-dd'T'HH:mm:ssZ")}"</#if>
+)
+${accessibility.keyword} class ${name} implements ${interfaceName} {
+
+    @Override
+    public Object getMapper(String mapperName) {
+    <#if lookupMethods?size == 1>
+        return getMapper0( mapperName, mapperName.hashCode() );
+    <#else>
+        int hashCode = mapperName.hashCode();
+
+        switch ( ( hashCode & 0x7fffffff ) % ${lookupMethods?size} ) {
+        <#list lookupMethods as lookupMethod>
+            case ${lookupMethod_index}: return getMapper${lookupMethod_index}( mapperName, hashCode );
+        </#list>
+            default: return null;
+        }
+    </#if>
+    }
+<#list lookupMethods as lookupMethod>
+
+    private Object getMapper${lookupMethod_index}(String mapperName, int hashCode) {
+        switch ( hashCode ) {
+        <#list lookupMethod as lookup>
+            case ${lookup.nameHashCode?c}: return <#list lookup.entries as entry>"${entry.mapperName}".equals( mapperName ) ? ${entry.implementationName}.${sharedInstanceAccessorName}() : </#list>null;
+        </#list>
+            default: return null;
+        }
+    }
+</#list>
+}
@@ -19,28 +19,53 @@
 
 -->
 <#if (exceptionTypes?size == 0) >
-    for ( <@includeModel object=sourceType/> ${iteratorReference} : ${sourceReference} ) {
-        ${ext.targetBeanName}.${ext.targetAccessorName}( <@includeModel object=assignment
-                targetBeanName=ext.targetBeanName
-                raw=ext.raw
-                existingInstanceMapping=ext.existingInstanceMapping
-                targetAccessorName=ext.targetAccessorName
-                targetType=ext.targetType/> );
-    }
+    <@loops/>
 <#else>
     try {
-        for ( <@includeModel object=sourceType/> ${iteratorReference} : ${sourceReference} ) {
-            ${ext.targetBeanName}.${ext.targetAccessorName}( <@includeModel object=assignment
-                    targetBeanName=ext.targetBeanName
-                    raw=ext.raw
-                    existingInstanceMapping=ext.existingInstanceMapping
-                    targetAccessorName=ext.targetAccessorName
-                    targetType=ext.targetType/> );
-        }
+        <@loops/>
     }
     <#list exceptionTypes as exceptionType>
     catch ( <@includeModel object=exceptionType/> e ) {
         throw new RuntimeException( e );
     }
     </#list>
-</#if>
\ No newline at end of file
+</#if>
+<#macro loops>
+    <#if indexedLoop>
+        <#if listVariableName != sourceReference>
+    <@includeModel object=listType/> ${listVariableName} = ${sourceReference};
+        </#if>
+        <#if listType.randomAccess>
+    <@indexLoop/>
+        <#else>
+    if ( ${listVariableName} instanceof RandomAccess ) {
+        <@indexLoop/>
+    }
+    else {
+        <@forEachLoop iterable=listVariableName/>
+    }
+        </#if>
+    <#else>
+    <@forEachLoop iterable=sourceReference/>
+    </#if>
+</#macro>
+<#macro forEachLoop iterable>
+    for ( <@includeModel object=sourceType/> ${iteratorReference} : ${iterable} ) {
+        <@add/>
+    }
+</#macro>
+<#-- iterates over the source list by index, avoiding the allocation of an iterator -->
+<#macro indexLoop>
+    for ( int ${indexVariableName} = 0; ${indexVariableName} < ${listVariableName}.size(); ${indexVariableName}++ ) {
+        <@includeModel object=sourceType/> ${iteratorReference} = ${listVariableName}.get( ${indexVariableName} );
+        <@add/>
+    }
+</#macro>
+<#macro add>
+    ${ext.targetBeanName}.${ext.targetAccessorName}( <@includeModel object=assignment
+            targetBeanName=ext.targetBeanName
+            raw=ext.raw
+            existingInstanceMapping=ext.existingInstanceMapping
+            targetAccessorName=ext.targetAccessorName
+            targetType=ext.targetType/> );
+</#macro>
@@ -19,11 +19,15 @@
 
 -->
 <#if (exceptionTypes?size == 0) >
+    <#if !sourceLocalVarName??>
     <@includeModel object=ext.targetType/> ${localVarName} = <@_assignment/>;
+    </#if>
     ${ext.targetBeanName}.${ext.targetAccessorName}( Arrays.copyOf( ${localVarName}, ${localVarName}.length ) );
 <#else>
     try {
+        <#if !sourceLocalVarName??>
         <@includeModel object=ext.targetType/> ${localVarName} = <@_assignment/>;
+        </#if>
         ${ext.targetBeanName}.${ext.targetAccessorName}( Arrays.copyOf( ${localVarName}, ${localVarName}.length ) );
     }
     <#list exceptionTypes as exceptionType>
@@ -18,11 +18,20 @@
      limitations under the License.
 
 -->
+<#assign source><@includeModel object=assignment targetBeanName=ext.targetBeanName targetAccessorName=ext.targetAccessorName targetType=ext.targetType raw=ext.raw/></#assign>
 <@compress single_line=true>
+<#if ext.targetType.implementationType?? && ext.targetType.implementationType.enumSetType>
+    <#-- EnumSet.copyOf() can't determine the element type of an empty collection unless that's an EnumSet -->
+    ${source}.isEmpty() ? <@includeModel object=ext.targetType.implementationType raw=true/>.noneOf( <@includeModel object=ext.targetType.typeParameters[0]/>.class ) : <@includeModel object=ext.targetType.implementationType raw=true/>.copyOf( ${source} )
+<#elseif ext.targetType.implementationType?? && ext.targetType.implementationType.enumMapType>
+    <#-- the EnumMap copy constructor can't determine the key type of an empty map unless that's an EnumMap -->
+    ${source}.isEmpty() ? new <@includeModel object=ext.targetType.implementationType/>( <@includeModel object=ext.targetType.typeParameters[0]/>.class ) : new <@includeModel object=ext.targetType.implementationType/>( ${source} )
+<#else>
 new <#if ext.targetType.implementationType??>
     <@includeModel object=ext.targetType.implementationType/>
 <#else>
     <@includeModel object=ext.targetType/>
 </#if>
-( <@includeModel object=assignment targetBeanName=ext.targetBeanName targetAccessorName=ext.targetAccessorName targetType=ext.targetType raw=ext.raw/> )
+( ${source} )
+</#if>
 </@compress>
\ No newline at end of file
@@ -18,7 +18,12 @@
      limitations under the License.
 
 -->
+<#if sourceLocalVarAssignment??>
+<@includeModel object=sourceLocalVarAssignment targetType=sourceType targetAccessorName=sourceLocalVarName raw=ext.raw/>
+if ( ${sourceLocalVarName} != null ) {
+<#else>
 if ( ${sourceReference} != null ) {
+</#if>
     <@includeModel object=assignment
                 targetBeanName=ext.targetBeanName
                 raw=ext.raw
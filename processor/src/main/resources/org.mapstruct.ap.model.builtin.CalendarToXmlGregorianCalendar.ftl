@@ -23,12 +23,7 @@ private XMLGregorianCalendar ${name}( Calendar cal ) {
         return null;
     }
 
-    try {
-        GregorianCalendar gcal = new GregorianCalendar();
-        gcal.setTimeInMillis( cal.getTimeInMillis() );
-        return DatatypeFactory.newInstance().newXMLGregorianCalendar( gcal );
-    }
-    catch ( DatatypeConfigurationException ex ) {
-        throw new RuntimeException( ex );
-    }
+    GregorianCalendar gcal = new GregorianCalendar();
+    gcal.setTimeInMillis( cal.getTimeInMillis() );
+    return DATATYPE_FACTORY.newXMLGregorianCalendar( gcal );
 }
\ No newline at end of file
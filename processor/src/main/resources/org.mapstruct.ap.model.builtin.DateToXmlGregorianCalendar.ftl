@@ -23,12 +23,7 @@ private XMLGregorianCalendar ${name}( Date date ) {
         return null;
     }
 
-    try {
-        GregorianCalendar c = new GregorianCalendar();
-        c.setTime( date );
-        return DatatypeFactory.newInstance().newXMLGregorianCalendar( c );
-    }
-    catch ( DatatypeConfigurationException ex ) {
-        throw new RuntimeException( ex );
-    }
+    GregorianCalendar c = new GregorianCalendar();
+    c.setTime( date );
+    return DATATYPE_FACTORY.newXMLGregorianCalendar( c );
 }
\ No newline at end of file
@@ -18,19 +18,16 @@
      limitations under the License.
 
 -->
-private XMLGregorianCalendar ${name}( String date, String dateFormat ) {
+private XMLGregorianCalendar ${name}( String date, DateFormat dateFormat ) {
     if ( date == null ) {
         return null;
     }
 
     try {
-        DateFormat df = dateFormat != null ? new SimpleDateFormat( dateFormat ) : SimpleDateFormat.getInstance();
+        DateFormat df = dateFormat != null ? dateFormat : SimpleDateFormat.getInstance();
         GregorianCalendar c = new GregorianCalendar();
         c.setTime( df.parse( date ) );
-        return DatatypeFactory.newInstance().newXMLGregorianCalendar( c );
-    }
-    catch ( DatatypeConfigurationException ex ) {
-        throw new RuntimeException( ex );
+        return DATATYPE_FACTORY.newXMLGregorianCalendar( c );
     }
     catch ( ParseException ex ) {
         throw new RuntimeException( ex );
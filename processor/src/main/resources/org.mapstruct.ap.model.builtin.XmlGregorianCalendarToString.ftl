@@ -18,7 +18,7 @@
      limitations under the License.
 
 -->
-private String ${name}( XMLGregorianCalendar xcal, String dateFormat ) {
+private String ${name}( XMLGregorianCalendar xcal, DateFormat dateFormat ) {
     if ( xcal == null ) {
         return null;
     }
@@ -28,7 +28,6 @@ private String ${name}( XMLGregorianCalendar xcal, String dateFormat ) {
     }
     else {
         Date d = xcal.toGregorianCalendar().getTime();
-        SimpleDateFormat sdf = new SimpleDateFormat( dateFormat );
-        return sdf.format( d );
+        return dateFormat.format( d );
     }
 }
\ No newline at end of file
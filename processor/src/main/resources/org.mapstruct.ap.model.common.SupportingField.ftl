@@ -0,0 +1,52 @@
+<#--
+
+     Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+     and/or other contributors as indicated by the @authors tag. See the
+     copyright.txt file in the distribution for a full listing of all
+     contributors.
+
+     Licensed under the Apache License, Version 2.0 (the "License");
+     you may not use this file except in compliance with the License.
+     You may obtain a copy of the License at
+
+         http://www.apache.org/licenses/LICENSE-2.0
+
+     Unless required by applicable law or agreed to in writing, software
+     distributed under the License is distributed on an "AS IS" BASIS,
+     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+     See the License for the specific language governing permissions and
+     limitations under the License.
+
+-->
+<#if thrownTypes?has_content>
+private static final <@includeModel object=type/> ${variableName};
+
+static {
+    try {
+        ${variableName} = ${initializer};
+    }
+    <#list thrownTypes as thrownType>
+    catch ( <@includeModel object=thrownType/> ex ) {
+        throw new RuntimeException( ex );
+    }
+    </#list>
+}<#rt>
+<#elseif entries?has_content>
+private static final <@includeModel object=type/> ${variableName} = ${initializer};
+
+static {
+    <#list entries as entry>
+    <#if type.arrayType>${variableName}[${entry.key}] = ${entry.value};<#else>${variableName}.put( ${entry.key}, ${entry.value} );</#if>
+    </#list>
+}<#rt>
+<#if lookupDefault??>
+
+
+private static <@includeModel object=type.typeParameters[1]/> ${lookupMethodName}(<@includeModel object=type.typeParameters[0]/> key) {
+    <@includeModel object=type.typeParameters[1]/> value = ${variableName}.get( key );
+    return value != null ? value : ${lookupDefault};
+}<#rt>
+</#if>
+<#else>
+private static final <@includeModel object=type/> ${variableName} = ${initializer};<#rt>
+</#if>
@@ -164,6 +164,7 @@ private void assertValidDateFormat(Type sourceType, Type targetType) {
 
     private Type typeWithFQN(String fullQualifiedName) {
         return new Type(
+                        null,
                         null,
                         null,
                         voidTypeMirror,
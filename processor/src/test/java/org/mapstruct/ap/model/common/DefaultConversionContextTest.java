@@ -76,7 +76,7 @@ public void testInvalidDateFormatValidation() {
         Type type = typeWithFQN( JavaTimeConstants.ZONED_DATE_TIME_FQN );
         StatefulMessagerMock statefulMessagerMock = new StatefulMessagerMock();
         new DefaultConversionContext(
-                        null, statefulMessagerMock, type, type, "qwertz" );
+                        null, statefulMessagerMock, type, type, "qwertz", null, null );
         assertThat( statefulMessagerMock.getLastKindPrinted() ).isEqualTo( Diagnostic.Kind.ERROR );
     }
 
@@ -85,7 +85,7 @@ public void testNullDateFormatValidation() {
         Type type = typeWithFQN( JavaTimeConstants.ZONED_DATE_TIME_FQN );
         StatefulMessagerMock statefulMessagerMock = new StatefulMessagerMock();
         new DefaultConversionContext(
-                        null, statefulMessagerMock, type, type, null );
+                        null, statefulMessagerMock, type, type, null, null, null );
         assertThat( statefulMessagerMock.getLastKindPrinted() ).isNull();
     }
 
@@ -94,12 +94,13 @@ public void testUnsupportedType() {
         Type type = typeWithFQN( "java.lang.String" );
         StatefulMessagerMock statefulMessagerMock = new StatefulMessagerMock();
         new DefaultConversionContext(
-                        null, statefulMessagerMock, type, type, "qwertz" );
+                        null, statefulMessagerMock, type, type, "qwertz", null, null );
         assertThat( statefulMessagerMock.getLastKindPrinted() ).isNull();
     }
 
     private Type typeWithFQN(String fullQualifiedName) {
         return new Type(
+                        null,
                         null,
                         null,
                         voidTypeMirror,
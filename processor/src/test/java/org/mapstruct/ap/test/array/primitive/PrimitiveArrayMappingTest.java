@@ -0,0 +1,81 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.array.primitive;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests mappings from and to arrays of primitives, which are to be mapped element-wise without boxing the primitive
+ * side.
+ *
+ * @author agent
+ */
+@WithClasses(PrimitiveArrayMapper.class)
+@RunWith(AnnotationProcessorTestRunner.class)
+public class PrimitiveArrayMappingTest {
+
+    private final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Rule
+    public GeneratedSource getGeneratedSource() {
+        return generatedSource;
+    }
+
+    @Test
+    public void shouldMapPrimitiveArrays() {
+        assertThat( PrimitiveArrayMapper.INSTANCE.intsToLongs( new int[] { 1, 2 } ) ).containsOnly( 1L, 2L );
+        assertThat( PrimitiveArrayMapper.INSTANCE.longsToInts( new long[] { 1L, 2L } ) ).containsOnly( 1, 2 );
+        assertThat( PrimitiveArrayMapper.INSTANCE.integersToInts( Arrays.asList( 1, 2 ) ) ).containsOnly( 1, 2 );
+        assertThat( PrimitiveArrayMapper.INSTANCE.doublesToList( new double[] { 1.0, 2.0 } ) )
+            .containsExactly( 1.0, 2.0 );
+        assertThat( PrimitiveArrayMapper.INSTANCE.intsToLongList( new int[] { 1, 2 } ) ).containsExactly( 1L, 2L );
+    }
+
+    @Test
+    public void shouldMapPrimitiveArrayIntoExistingArrayUpToShorterLength() {
+        long[] target = new long[] { 7L, 8L, 9L };
+        PrimitiveArrayMapper.INSTANCE.intsIntoLongs( new int[] { 1, 2 }, target );
+        assertThat( target ).containsOnly( 1L, 2L, 9L );
+
+        target = new long[1];
+        PrimitiveArrayMapper.INSTANCE.intsIntoLongs( new int[] { 1, 2 }, target );
+        assertThat( target ).containsOnly( 1L );
+    }
+
+    @Test
+    public void shouldIterateOverArraysByIndexWithoutBoxing() {
+        generatedSource.forMapper( PrimitiveArrayMapper.class ).content()
+            .contains( "for ( int i = 0; i < ints.length; i++ ) {" )
+            .contains( "int int_ = ints[i];" )
+            .contains( "longTmp[i] = int_;" )
+            .contains( "for ( int i = 0; i < ints.length && i < target.length; i++ ) {" )
+            .contains( "intTmp[i] = (int) long_;" )
+            .contains( "for ( double double_ : doubles ) {" )
+            .doesNotContain( "valueOf" );
+    }
+}
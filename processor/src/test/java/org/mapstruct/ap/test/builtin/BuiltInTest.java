@@ -40,6 +40,7 @@
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mapstruct.ap.test.builtin._target.IterableTarget;
@@ -56,6 +57,7 @@
 import org.mapstruct.ap.test.builtin.mapper.CalendarToDateMapper;
 import org.mapstruct.ap.test.builtin.mapper.CalendarToStringMapper;
 import org.mapstruct.ap.test.builtin.mapper.CalendarToXmlGregCalMapper;
+import org.mapstruct.ap.test.builtin.mapper.DateAndCalendarToXmlGregCalMapper;
 import org.mapstruct.ap.test.builtin.mapper.DateToCalendarMapper;
 import org.mapstruct.ap.test.builtin.mapper.DateToXmlGregCalMapper;
 import org.mapstruct.ap.test.builtin.mapper.IterableSourceTargetMapper;
@@ -76,7 +78,9 @@
 import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
 import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
 import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
 import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
 
 import static org.fest.assertions.Assertions.assertThat;
 
@@ -90,6 +94,13 @@ public class BuiltInTest {
 
     private static TimeZone originalTimeZone;
 
+    private final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Rule
+    public GeneratedSource getGeneratedSource() {
+        return generatedSource;
+    }
+
     @BeforeClass
     public static void setDefaultTimeZoneToCet() {
         originalTimeZone = TimeZone.getDefault();
@@ -138,6 +149,32 @@ public void shouldApplyBuiltInOnDateToXmlGregCal() throws ParseException, Dataty
         assertThat( target.getProp().toString() ).isEqualTo( "1982-08-31T10:20:56.000+02:00" );
     }
 
+    @Test
+    @WithClasses({
+        DateProperty.class,
+        CalendarProperty.class,
+        XmlGregorianCalendarProperty.class,
+        DateAndCalendarToXmlGregCalMapper.class
+    })
+    public void shouldShareDatatypeFactoryBetweenBuiltInMethods() throws ParseException {
+
+        DateProperty dateSource = new DateProperty();
+        dateSource.setProp( createDate( "31-08-1982 10:20:56" ) );
+
+        XmlGregorianCalendarProperty target = DateAndCalendarToXmlGregCalMapper.INSTANCE.map( dateSource );
+        assertThat( target.getProp().toString() ).isEqualTo( "1982-08-31T10:20:56.000+02:00" );
+
+        CalendarProperty calendarSource = new CalendarProperty();
+        calendarSource.setProp( createCalendar( "02.03.1999" ) );
+
+        target = DateAndCalendarToXmlGregCalMapper.INSTANCE.map( calendarSource );
+        assertThat( target.getProp().toString() ).isEqualTo( "1999-03-02T00:00:00.000+01:00" );
+
+        generatedSource.forMapper( DateAndCalendarToXmlGregCalMapper.class ).content()
+            .contains( "private static final DatatypeFactory DATATYPE_FACTORY;" )
+            .doesNotMatch( "(?s).*DatatypeFactory\\.newInstance\\(\\).*DatatypeFactory\\.newInstance\\(\\).*" );
+    }
+
     @Test
     @WithClasses({ DateProperty.class, XmlGregorianCalendarProperty.class, XmlGregCalToDateMapper.class })
     public void shouldApplyBuiltInOnXmlGregCalToDate() throws ParseException, DatatypeConfigurationException {
@@ -194,6 +231,25 @@ public void shouldApplyBuiltInXmlGregCalToString() throws ParseException, Dataty
 
     }
 
+    @Test
+    @WithClasses({ StringProperty.class, XmlGregorianCalendarProperty.class, XmlGregCalToStringMapper.class })
+    @ProcessorOption(name = "mapstruct.cacheDateFormats", value = "true")
+    public void shouldApplyBuiltInXmlGregCalToStringWithCachedDateFormat() throws DatatypeConfigurationException {
+
+        XmlGregorianCalendarProperty source = new XmlGregorianCalendarProperty();
+        source.setProp( createXmlCal( 1999, 3, 2, 60 ) );
+
+        StringProperty target = XmlGregCalToStringMapper.INSTANCE.mapAndFormat( source );
+        assertThat( target.getProp() ).isEqualTo( "02.03.1999" );
+
+        target = XmlGregCalToStringMapper.INSTANCE.map( source );
+        assertThat( target.getProp() ).isEqualTo( "1999-03-02+01:00" );
+
+        generatedSource.forMapper( XmlGregCalToStringMapper.class ).content()
+            .contains( "private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT_DD_MM_YYYY" )
+            .contains( "xmlGregorianCalendarToString( source.getProp() , DATE_FORMAT_DD_MM_YYYY.get() )" );
+    }
+
     @Test
     @WithClasses({ CalendarProperty.class, XmlGregorianCalendarProperty.class, CalendarToXmlGregCalMapper.class })
     public void shouldApplyBuiltInOnCalendarToXmlGregCal() throws ParseException, DatatypeConfigurationException {
@@ -0,0 +1,58 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.builtin.jsr330;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests that used mappers are injected into {@code jsr330} mappers which also declare supporting fields for built-in
+ * methods.
+ *
+ * @author agent
+ */
+@WithClasses({
+    Appointment.class,
+    AppointmentDto.class,
+    AppointmentMapper.class,
+    TitleMapper.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class Jsr330SupportingFieldTest {
+
+    private final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Rule
+    public GeneratedSource getGeneratedSource() {
+        return generatedSource;
+    }
+
+    @Test
+    public void shouldInjectUsedMapperAlongsideSupportingField() {
+        generatedSource.forMapper( AppointmentMapper.class ).content()
+            .contains( "private static final DatatypeFactory DATATYPE_FACTORY" )
+            .contains( "    @Inject\n    private TitleMapper titleMapper;" )
+            .doesNotContain( "new TitleMapper()" )
+            .doesNotContain( "Mappers.getMapper( TitleMapper.class )" );
+    }
+}
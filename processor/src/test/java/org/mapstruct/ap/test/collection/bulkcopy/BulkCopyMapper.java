@@ -0,0 +1,63 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.collection.bulkcopy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface BulkCopyMapper {
+
+    BulkCopyMapper INSTANCE = Mappers.getMapper( BulkCopyMapper.class );
+
+    Set<String> listToSet(List<String> strings);
+
+    SortedSet<String> listToSortedSet(List<String> strings);
+
+    List<Object> widenList(List<String> strings);
+
+    void listIntoExisting(List<String> strings, @MappingTarget List<String> target);
+
+    List<String> arrayToList(String[] strings);
+
+    String[] listToArray(List<String> strings);
+
+    String[] copyArray(String[] strings);
+
+    Object[] widenArray(String[] strings);
+
+    int[] copyIntArray(int[] ints);
+
+    List<Integer> intArrayToList(int[] ints);
+
+    void arrayIntoExisting(String[] strings, @MappingTarget String[] target);
+
+    Map<String, Long> copyMap(Map<String, Long> map);
+
+    SortedMap<String, Long> mapToSortedMap(Map<String, Long> map);
+
+    void mapIntoExisting(Map<String, Long> map, @MappingTarget Map<String, Long> target);
+}
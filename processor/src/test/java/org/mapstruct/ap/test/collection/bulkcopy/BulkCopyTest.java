@@ -0,0 +1,132 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.collection.bulkcopy;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests that collections, arrays and maps whose elements are taken over as they are get copied in bulk instead of
+ * element by element.
+ *
+ * @author agent
+ */
+@WithClasses(BulkCopyMapper.class)
+@RunWith(AnnotationProcessorTestRunner.class)
+public class BulkCopyTest {
+
+    private final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Rule
+    public GeneratedSource getGeneratedSource() {
+        return generatedSource;
+    }
+
+    @Test
+    public void shouldCopyCollections() {
+        List<String> strings = Arrays.asList( "b", "a", "b" );
+
+        assertThat( BulkCopyMapper.INSTANCE.listToSet( strings ) ).containsOnly( "a", "b" );
+        assertThat( new ArrayList<String>( BulkCopyMapper.INSTANCE.listToSortedSet( strings ) ) )
+            .containsExactly( "a", "b" );
+        assertThat( BulkCopyMapper.INSTANCE.widenList( strings ) ).containsExactly( "b", "a", "b" );
+
+        List<String> target = new ArrayList<String>( Arrays.asList( "c" ) );
+        BulkCopyMapper.INSTANCE.listIntoExisting( strings, target );
+        assertThat( target ).containsExactly( "b", "a", "b" );
+    }
+
+    @Test
+    public void shouldCopyArrays() {
+        String[] strings = new String[] { "b", "a" };
+
+        assertThat( BulkCopyMapper.INSTANCE.arrayToList( strings ) ).containsExactly( "b", "a" );
+        assertThat( BulkCopyMapper.INSTANCE.listToArray( Arrays.asList( strings ) ) ).containsOnly( "b", "a" );
+
+        String[] copy = BulkCopyMapper.INSTANCE.copyArray( strings );
+        assertThat( copy ).containsOnly( "b", "a" );
+        assertThat( copy ).isNotSameAs( strings );
+
+        Object[] widened = BulkCopyMapper.INSTANCE.widenArray( strings );
+        assertThat( widened.getClass() ).isEqualTo( Object[].class );
+        assertThat( widened ).containsOnly( "b", "a" );
+
+        assertThat( BulkCopyMapper.INSTANCE.copyIntArray( new int[] { 1, 2 } ) ).containsOnly( 1, 2 );
+        assertThat( BulkCopyMapper.INSTANCE.intArrayToList( new int[] { 1, 2 } ) ).containsExactly( 1, 2 );
+    }
+
+    @Test
+    public void shouldCopyArrayIntoExistingArrayUpToShorterLength() {
+        String[] target = new String[] { "x", "y", "z" };
+        BulkCopyMapper.INSTANCE.arrayIntoExisting( new String[] { "a", "b" }, target );
+        assertThat( target ).containsOnly( "a", "b", "z" );
+
+        target = new String[] { "x" };
+        BulkCopyMapper.INSTANCE.arrayIntoExisting( new String[] { "a", "b" }, target );
+        assertThat( target ).containsOnly( "a" );
+    }
+
+    @Test
+    public void shouldCopyMaps() {
+        Map<String, Long> map = new HashMap<String, Long>();
+        map.put( "b", 2L );
+        map.put( "a", 1L );
+
+        Map<String, Long> copy = BulkCopyMapper.INSTANCE.copyMap( map );
+        assertThat( copy ).isEqualTo( map );
+        assertThat( copy ).isNotSameAs( map );
+        assertThat( new ArrayList<String>( BulkCopyMapper.INSTANCE.mapToSortedMap( map ).keySet() ) )
+            .containsExactly( "a", "b" );
+
+        Map<String, Long> target = new HashMap<String, Long>();
+        target.put( "c", 3L );
+        BulkCopyMapper.INSTANCE.mapIntoExisting( map, target );
+        assertThat( target ).isEqualTo( map );
+    }
+
+    @Test
+    public void shouldGenerateBulkOperations() {
+        generatedSource.forMapper( BulkCopyMapper.class ).content()
+            .contains( "new HashSet<String>( strings )" )
+            .contains( "sortedSet.addAll( strings );" )
+            .contains( "target.addAll( strings );" )
+            .contains( "new ArrayList<String>( Arrays.asList( strings ) )" )
+            .contains( "strings.toArray( new String[strings.size()] )" )
+            .contains( "Arrays.copyOf( strings, strings.length )" )
+            .contains( "Arrays.copyOf( strings, strings.length, Object[].class )" )
+            .contains( "Arrays.copyOf( ints, ints.length )" )
+            .contains( "System.arraycopy( strings, 0, target, 0, Math.min( strings.length, target.length ) );" )
+            .contains( "new HashMap<String, Long>( map )" )
+            .contains( "sortedMap.putAll( map );" )
+            .contains( "target.putAll( map );" )
+            .doesNotContain( "for ( String" );
+    }
+}
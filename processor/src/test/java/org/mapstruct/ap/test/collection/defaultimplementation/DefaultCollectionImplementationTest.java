@@ -36,11 +36,13 @@
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentNavigableMap;
 
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mapstruct.ap.testutil.IssueKey;
 import org.mapstruct.ap.testutil.WithClasses;
 import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
 
 @WithClasses({
     Source.class,
@@ -52,6 +54,24 @@
 @RunWith(AnnotationProcessorTestRunner.class)
 public class DefaultCollectionImplementationTest {
 
+    private final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Rule
+    public GeneratedSource getGeneratedSource() {
+        return generatedSource;
+    }
+
+    @Test
+    public void shouldCreateResultWithInitialCapacityForSourceSize() {
+        generatedSource.forMapper( SourceTargetMapper.class ).content()
+            .contains( "new ArrayList<TargetFoo>( foos.size() )" )
+            .contains( "new HashSet<TargetFoo>( Math.max( (int) ( foos.size() / .75f ) + 1, 16 ) )" )
+            .contains( "new HashMap<String, TargetFoo>( Math.max( (int) ( foos.size() / .75f ) + 1, 16 ) )" )
+            .contains( "new ConcurrentHashMap<String, TargetFoo>( foos.size() )" )
+            .contains( "new TreeSet<TargetFoo>()" )
+            .contains( "new TreeMap<String, TargetFoo>()" );
+    }
+
     @Test
     @IssueKey("6")
     public void shouldUseDefaultImplementationForConcurrentMap() {
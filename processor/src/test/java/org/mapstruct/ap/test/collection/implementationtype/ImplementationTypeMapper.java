@@ -0,0 +1,47 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.collection.implementationtype;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(config = ImplementationTypeConfig.class, implementationTypes = { LinkedList.class, LinkedHashMap.class })
+public interface ImplementationTypeMapper {
+
+    ImplementationTypeMapper INSTANCE = Mappers.getMapper( ImplementationTypeMapper.class );
+
+    List<String> toList(Set<String> strings);
+
+    Set<String> toSet(List<String> strings);
+
+    SortedSet<String> toSortedSet(List<String> strings);
+
+    Map<String, Long> toMap(Map<Long, String> numbers);
+
+    Set<Size> toSizeSet(List<Size> sizes);
+
+    Map<Size, Long> toSizeMap(Map<String, Long> sizes);
+}
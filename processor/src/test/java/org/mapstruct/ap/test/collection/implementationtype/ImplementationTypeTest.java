@@ -0,0 +1,233 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.collection.implementationtype;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests the configuration of the implementation types instantiated for collection and map interfaces, and the opt-in
+ * usage of {@link EnumSet} and {@link EnumMap} for sets of enum elements and maps with enum keys.
+ *
+ * @author agent
+ */
+@WithClasses(Size.class)
+@RunWith(AnnotationProcessorTestRunner.class)
+public class ImplementationTypeTest {
+
+    private final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Rule
+    public GeneratedSource getGeneratedSource() {
+        return generatedSource;
+    }
+
+    @Test
+    @WithClasses({ ImplementationTypeConfig.class, ImplementationTypeMapper.class })
+    public void shouldUseImplementationTypesGivenViaMapperAndMapperConfig() {
+        ImplementationTypeMapper mapper = ImplementationTypeMapper.INSTANCE;
+
+        assertThat( mapper.toList( new HashSet<String>( Arrays.asList( "a" ) ) ).getClass() )
+            .isEqualTo( LinkedList.class );
+        assertThat( mapper.toSet( Arrays.asList( "b", "a" ) ).getClass() ).isEqualTo( LinkedHashSet.class );
+        assertThat( new ArrayList<String>( mapper.toSet( Arrays.asList( "b", "a" ) ) ) ).containsExactly( "b", "a" );
+        assertThat( mapper.toSortedSet( Arrays.asList( "b", "a" ) ).getClass() ).isEqualTo( TreeSet.class );
+
+        Map<Long, String> numbers = new HashMap<Long, String>();
+        numbers.put( 1L, "2" );
+        Map<String, Long> map = mapper.toMap( numbers );
+        assertThat( map.getClass() ).isEqualTo( LinkedHashMap.class );
+        assertThat( map.get( "1" ) ).isEqualTo( 2L );
+
+        // the configured implementation types take precedence over EnumSet and EnumMap
+        assertThat( mapper.toSizeSet( Arrays.asList( Size.SMALL ) ).getClass() ).isEqualTo( LinkedHashSet.class );
+        assertThat( mapper.toSizeMap( new HashMap<String, Long>() ).getClass() ).isEqualTo( LinkedHashMap.class );
+    }
+
+    @Test
+    @WithClasses(OptionMapper.class)
+    @ProcessorOption(name = "mapstruct.implementationTypes", value = "java.util.LinkedHashMap, java.util.LinkedList")
+    public void shouldUseImplementationTypesGivenViaProcessorOption() {
+        assertThat( OptionMapper.INSTANCE.toList( new String[] { "a" } ).getClass() ).isEqualTo( LinkedList.class );
+        assertThat( OptionMapper.INSTANCE.toMap( new HashMap<Long, String>() ).getClass() )
+            .isEqualTo( LinkedHashMap.class );
+    }
+
+    @Test
+    @WithClasses(SetImplementationTypeMapper.class)
+    public void shouldNotUseSetImplementationTypeForCollectionAndIterable() {
+        SetImplementationTypeMapper mapper = SetImplementationTypeMapper.INSTANCE;
+
+        Collection<String> collection = mapper.toCollection( Arrays.asList( "a", "b", "a" ) );
+        assertThat( collection.getClass() ).isEqualTo( ArrayList.class );
+        assertThat( new ArrayList<String>( collection ) ).containsExactly( "a", "b", "a" );
+
+        Iterable<String> iterable = mapper.toIterable( new String[] { "a", "a" } );
+        assertThat( iterable.getClass() ).isEqualTo( ArrayList.class );
+        assertThat( new ArrayList<String>( (Collection<String>) iterable ) ).containsExactly( "a", "a" );
+
+        assertThat( mapper.toSet( Arrays.asList( "a", "a" ) ).getClass() ).isEqualTo( LinkedHashSet.class );
+    }
+
+    @Test
+    @WithClasses(SetImplementationTypeMapper.class)
+    @ProcessorOption(name = "mapstruct.implementationTypes", value = "java.util.LinkedList")
+    public void shouldUseListImplementationTypeForCollectionAndIterable() {
+        SetImplementationTypeMapper mapper = SetImplementationTypeMapper.INSTANCE;
+
+        Collection<String> collection = mapper.toCollection( Arrays.asList( "a", "b", "a" ) );
+        assertThat( collection.getClass() ).isEqualTo( LinkedList.class );
+        assertThat( new ArrayList<String>( collection ) ).containsExactly( "a", "b", "a" );
+
+        assertThat( mapper.toIterable( new String[] { "a" } ).getClass() ).isEqualTo( LinkedList.class );
+        assertThat( mapper.toSet( Arrays.asList( "a", "a" ) ).getClass() ).isEqualTo( LinkedHashSet.class );
+    }
+
+    @Test
+    @WithClasses({ Source.class, Target.class, EnumCollectionMapper.class })
+    public void shouldAcceptNullElementsByDefault() {
+        Set<Size> sizes = EnumCollectionMapper.INSTANCE.toSizeSet( Arrays.asList( Size.LARGE, null ) );
+        assertThat( sizes.getClass() ).isEqualTo( HashSet.class );
+        assertThat( sizes ).containsOnly( Size.LARGE, null );
+
+        generatedSource.forMapper( EnumCollectionMapper.class )
+            .content()
+            .doesNotContain( "EnumSet" )
+            .doesNotContain( "EnumMap" );
+    }
+
+    @Test
+    @WithClasses({ Source.class, Target.class, EnumCollectionMapper.class })
+    @ProcessorOption(name = "mapstruct.unknownEnumConstant", value = "null")
+    public void shouldAcceptNullElementsAndKeysFromUnknownStrings() {
+        Set<Size> sizes = EnumCollectionMapper.INSTANCE.toSizeSet( new String[] { "MEDIUM", "XL" } );
+        assertThat( sizes ).containsOnly( Size.MEDIUM, null );
+
+        Map<String, Long> counts = new HashMap<String, Long>();
+        counts.put( "SMALL", 1L );
+        counts.put( "XL", 2L );
+        Map<Size, Long> sizeCounts = EnumCollectionMapper.INSTANCE.toSizeMap( counts );
+        assertThat( sizeCounts.get( Size.SMALL ) ).isEqualTo( 1L );
+        assertThat( sizeCounts.getClass() ).isEqualTo( HashMap.class );
+        assertThat( sizeCounts.get( null ) ).isEqualTo( 2L );
+    }
+
+    @Test
+    @WithClasses({ Source.class, Target.class, EnumCollectionMapper.class })
+    @ProcessorOption(name = "mapstruct.enumSetsAndMaps", value = "true")
+    public void shouldUseEnumSetAndEnumMapForEnumElementsAndKeys() {
+        Set<Size> sizes = EnumCollectionMapper.INSTANCE.toSizeSet( Arrays.asList( Size.LARGE, Size.SMALL ) );
+        assertThat( (Object) sizes ).isInstanceOf( EnumSet.class );
+        assertThat( new ArrayList<Size>( sizes ) ).containsExactly( Size.SMALL, Size.LARGE );
+
+        sizes = EnumCollectionMapper.INSTANCE.toSizeSet( new String[] { "MEDIUM" } );
+        assertThat( (Object) sizes ).isInstanceOf( EnumSet.class );
+        assertThat( sizes ).containsOnly( Size.MEDIUM );
+
+        Map<String, Long> counts = new HashMap<String, Long>();
+        counts.put( "LARGE", 1L );
+        Map<Size, Long> sizeCounts = EnumCollectionMapper.INSTANCE.toSizeMap( counts );
+        assertThat( (Object) sizeCounts ).isInstanceOf( EnumMap.class );
+        assertThat( sizeCounts.get( Size.LARGE ) ).isEqualTo( 1L );
+
+        generatedSource.forMapper( EnumCollectionMapper.class )
+            .content()
+            .contains( "Set<Size> set = EnumSet.noneOf( Size.class );" )
+            .contains( "Map<Size, Long> map = new EnumMap<Size, Long>( Size.class );" );
+    }
+
+    @Test
+    @WithClasses({ Source.class, Target.class, EnumCollectionMapper.class })
+    @ProcessorOption(name = "mapstruct.enumSetsAndMaps", value = "true")
+    public void shouldCopyEnumSetAndEnumMapProperties() {
+        Source source = new Source();
+        source.setSizes( new HashSet<Size>( Arrays.asList( Size.MEDIUM ) ) );
+        Map<Size, String> labels = new HashMap<Size, String>();
+        labels.put( Size.SMALL, "S" );
+        source.setLabels( labels );
+
+        Target target = EnumCollectionMapper.INSTANCE.sourceToTarget( source );
+
+        assertThat( (Object) target.getSizes() ).isInstanceOf( EnumSet.class );
+        assertThat( target.getSizes() ).containsOnly( Size.MEDIUM );
+        assertThat( (Object) target.getLabels() ).isInstanceOf( EnumMap.class );
+        assertThat( target.getLabels().get( Size.SMALL ) ).isEqualTo( "S" );
+
+        // empty sources other than EnumSet and EnumMap don't reveal the element or key type
+        source.setSizes( new HashSet<Size>() );
+        source.setLabels( new HashMap<Size, String>() );
+
+        target = EnumCollectionMapper.INSTANCE.sourceToTarget( source );
+
+        assertThat( (Object) target.getSizes() ).isInstanceOf( EnumSet.class );
+        assertThat( target.getSizes() ).isEmpty();
+        assertThat( (Object) target.getLabels() ).isInstanceOf( EnumMap.class );
+        assertThat( target.getLabels() ).isEmpty();
+    }
+
+    @Test
+    @WithClasses(ErroneousImplementationTypeMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousImplementationTypeMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 26,
+                messageRegExp = "java.util.AbstractList can't be used as implementation type\\..*")
+        })
+    public void shouldReportTypeWhichCantBeUsedAsImplementationType() {
+    }
+
+    @Test
+    @WithClasses(OptionMapper.class)
+    @ProcessorOption(name = "mapstruct.implementationTypes", value = "com.example.NonExistingList")
+    @ExpectedCompilationOutcome(value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = OptionMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 28,
+                messageRegExp = "Couldn't find implementation type com.example.NonExistingList given via processor "
+                    + "option\\.")
+        })
+    public void shouldReportUnknownImplementationTypeGivenViaProcessorOption() {
+    }
+}
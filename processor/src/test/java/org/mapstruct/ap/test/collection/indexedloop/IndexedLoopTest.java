@@ -0,0 +1,104 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.collection.indexedloop;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests iterating over source lists by index via the processor option {@code mapstruct.indexedLoops}.
+ *
+ * @author agent
+ */
+@WithClasses({
+    Source.class,
+    Target.class,
+    IndexedLoopMapper.class
+})
+@ProcessorOption(name = "mapstruct.indexedLoops", value = "true")
+@RunWith(AnnotationProcessorTestRunner.class)
+public class IndexedLoopTest {
+
+    private final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Rule
+    public GeneratedSource getGeneratedSource() {
+        return generatedSource;
+    }
+
+    @Test
+    public void shouldMapRandomAccessAndSequentialLists() {
+        List<String> arrayList = new ArrayList<String>( Arrays.asList( "1", "2", "3" ) );
+        List<String> linkedList = new LinkedList<String>( arrayList );
+
+        assertThat( IndexedLoopMapper.INSTANCE.listToList( arrayList ) ).containsExactly( 1L, 2L, 3L );
+        assertThat( IndexedLoopMapper.INSTANCE.listToList( linkedList ) ).containsExactly( 1L, 2L, 3L );
+        assertThat( IndexedLoopMapper.INSTANCE.arrayListToList( new ArrayList<String>( arrayList ) ) )
+            .containsExactly( 1L, 2L, 3L );
+        assertThat( IndexedLoopMapper.INSTANCE.collectionToSet( linkedList ) ).containsOnly( 1L, 2L, 3L );
+        assertThat( IndexedLoopMapper.INSTANCE.listToArray( arrayList ) ).containsOnly( 1L, 2L, 3L );
+        assertThat( IndexedLoopMapper.INSTANCE.listToArray( linkedList ) ).containsOnly( 1L, 2L, 3L );
+    }
+
+    @Test
+    public void shouldMapListIntoExistingArrayUpToShorterLength() {
+        Long[] target = new Long[2];
+        IndexedLoopMapper.INSTANCE.listIntoExistingArray( Arrays.asList( "1", "2", "3" ), target );
+        assertThat( target ).containsOnly( 1L, 2L );
+
+        target = new Long[2];
+        IndexedLoopMapper.INSTANCE.listIntoExistingArray( new LinkedList<String>( Arrays.asList( "1", "2", "3" ) ),
+            target );
+        assertThat( target ).containsOnly( 1L, 2L );
+    }
+
+    @Test
+    public void shouldInvokeAdderForEachListElement() {
+        Source source = new Source();
+        source.setValues( Arrays.asList( "1", "2" ) );
+        assertThat( IndexedLoopMapper.INSTANCE.sourceToTarget( source ).getValues() ).containsExactly( 1L, 2L );
+
+        source.setValues( new LinkedList<String>( Arrays.asList( "1", "2" ) ) );
+        assertThat( IndexedLoopMapper.INSTANCE.sourceToTarget( source ).getValues() ).containsExactly( 1L, 2L );
+    }
+
+    @Test
+    public void shouldCheckForRandomAccessUnlessKnownStatically() {
+        generatedSource.forMapper( IndexedLoopMapper.class ).content()
+            .contains( "if ( strings instanceof RandomAccess ) {" )
+            .contains( "for ( int i = 0; i < strings.size(); i++ ) {" )
+            .contains( "String string = strings.get( i );" )
+            .contains( "for ( int i = 0; i < strings.size() && i < target.length; i++ ) {" )
+            .contains( "List<String> values = source.getValues();" )
+            .contains( "if ( values instanceof RandomAccess ) {" )
+            .contains( "String value = values.get( i );" );
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.conversion.date;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests the conversions between strings and dates when caching date formats via the processor option
+ * {@code mapstruct.cacheDateFormats}.
+ *
+ * @author agent
+ */
+@WithClasses({
+    Source.class,
+    Target.class,
+    SourceTargetMapper.class
+})
+@ProcessorOption(name = "mapstruct.cacheDateFormats", value = "true")
+@RunWith(AnnotationProcessorTestRunner.class)
+public class CachedDateFormatConversionTest {
+
+    private final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Rule
+    public GeneratedSource getGeneratedSource() {
+        return generatedSource;
+    }
+
+    @Before
+    public void setDefaultLocale() {
+        Locale.setDefault( Locale.GERMAN );
+    }
+
+    @Test
+    public void shouldApplyCachedDateFormatForConversions() {
+        Source source = new Source();
+        source.setDate( new GregorianCalendar( 2013, 6, 6 ).getTime() );
+        source.setAnotherDate( new GregorianCalendar( 2013, 1, 14 ).getTime() );
+
+        Target target = SourceTargetMapper.INSTANCE.sourceToTarget( source );
+
+        assertThat( target ).isNotNull();
+        assertThat( target.getDate() ).isEqualTo( "06.07.2013" );
+        assertThat( target.getAnotherDate() ).isEqualTo( "14.02.13 00:00" );
+
+        source = SourceTargetMapper.INSTANCE.targetToSource( target );
+
+        assertThat( source.getDate() ).isEqualTo( new GregorianCalendar( 2013, 6, 6 ).getTime() );
+        assertThat( source.getAnotherDate() ).isEqualTo( new GregorianCalendar( 2013, 1, 14 ).getTime() );
+    }
+
+    @Test
+    public void shouldApplyCachedDateFormatForIterableMethods() {
+        List<Date> dates = Arrays.asList(
+            new GregorianCalendar( 2013, 6, 6 ).getTime(),
+            new GregorianCalendar( 2013, 1, 14 ).getTime()
+        );
+
+        List<String> stringDates = SourceTargetMapper.INSTANCE.stringListToDateList( dates );
+        assertThat( stringDates ).containsExactly( "06.07.2013", "14.02.2013" );
+
+        assertThat( SourceTargetMapper.INSTANCE.dateListToStringList( stringDates ) ).isEqualTo( dates );
+    }
+
+    @Test
+    public void shouldShareOneThreadLocalDateFormatPerPattern() {
+        generatedSource.forMapper( SourceTargetMapper.class ).content()
+            .contains( "private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT_DD_MM_YYYY" )
+            .contains( "private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT " )
+            .contains( "DATE_FORMAT_DD_MM_YYYY.get().format( date )" )
+            .doesNotContain( "new SimpleDateFormat( \"dd.MM.yyyy\" ).format" );
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.conversion.enumstring;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests the handling of unknown strings in conversions into enum types as controlled via the processor option
+ * {@code mapstruct.unknownEnumConstant}.
+ *
+ * @author agent
+ */
+@WithClasses({
+    Genre.class,
+    Medium.class,
+    Source.class,
+    Target.class,
+    SourceTargetMapper.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class UnknownEnumConstantTest {
+
+    private final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Rule
+    public GeneratedSource getGeneratedSource() {
+        return generatedSource;
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRaiseExceptionForUnknownStringByDefault() {
+        generatedSource.forMapper( SourceTargetMapper.class ).content()
+            .contains( "Enum.valueOf( Genre.class, genre )" )
+            .doesNotContain( "GENRE_BY_NAME" );
+
+        assertThat( SourceTargetMapper.INSTANCE.sourceToTarget( getSource( "JAZZ", "CD" ) ).getGenre() )
+            .isEqualTo( Genre.JAZZ );
+
+        SourceTargetMapper.INSTANCE.sourceToTarget( getSource( "Jazz", "CD" ) );
+    }
+
+    @Test
+    @ProcessorOption(name = "mapstruct.unknownEnumConstant", value = "null")
+    public void shouldReturnNullForUnknownString() {
+        generatedSource.forMapper( SourceTargetMapper.class ).content()
+            .contains( "private static final HashMap<String, Genre> GENRE_BY_NAME = new HashMap<String, Genre>( 6 );" )
+            .contains( "GENRE_BY_NAME.put( \"JAZZ\", Genre.JAZZ );" )
+            .contains( "GENRE_BY_NAME.get( genre )" )
+            .contains( "MEDIUM_BY_NAME.get( medium )" )
+            .doesNotContain( "Enum.valueOf" );
+
+        Target target = SourceTargetMapper.INSTANCE.sourceToTarget( getSource( "ROCK", "VINYL" ) );
+        assertThat( target.getGenre() ).isEqualTo( Genre.ROCK );
+        assertThat( target.getMedium() ).isEqualTo( Medium.VINYL );
+        assertThat( target.getGenres() ).containsExactly( Genre.ROCK, Genre.CLASSICAL );
+
+        target = SourceTargetMapper.INSTANCE.sourceToTarget( getSource( "Rock", "Cassette" ) );
+        assertThat( target.getGenre() ).isNull();
+        assertThat( target.getMedium() ).isNull();
+
+        assertThat( SourceTargetMapper.INSTANCE.stringsToGenres( Arrays.asList( "JAZZ", "Polka" ) ) )
+            .containsExactly( Genre.JAZZ, null );
+    }
+
+    @Test
+    @ProcessorOption(name = "mapstruct.unknownEnumConstant", value = "UNKNOWN")
+    public void shouldReturnDefaultConstantForUnknownString() {
+        generatedSource.forMapper( SourceTargetMapper.class ).content()
+            .contains( "private static final HashMap<String, Genre> GENRE_BY_NAME = new HashMap<String, Genre>( 6 );" )
+            .contains( "lookupGenreByName( genre )" )
+            .contains( "private static Genre lookupGenreByName(String key) {" )
+            .doesNotContain( "@Override\n    public Genre get(" )
+            .contains( "Enum.valueOf( Medium.class, medium )" );
+
+        Target target = SourceTargetMapper.INSTANCE.sourceToTarget( getSource( "Rock", "VINYL" ) );
+        assertThat( target.getGenre() ).isEqualTo( Genre.UNKNOWN );
+        assertThat( target.getMedium() ).isEqualTo( Medium.VINYL );
+
+        assertThat( SourceTargetMapper.INSTANCE.stringsToGenres( Arrays.asList( "CLASSICAL", "Polka" ) ) )
+            .containsExactly( Genre.CLASSICAL, Genre.UNKNOWN );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @ProcessorOption(name = "mapstruct.unknownEnumConstant", value = "UNKNOWN")
+    public void shouldRaiseExceptionForUnknownStringIfTargetTypeLacksDefaultConstant() {
+        SourceTargetMapper.INSTANCE.sourceToTarget( getSource( "ROCK", "Cassette" ) );
+    }
+
+    private Source getSource(String genre, String medium) {
+        Source source = new Source();
+        source.setGenre( genre );
+        source.setMedium( medium );
+        source.setGenres( Arrays.asList( genre, "CLASSICAL" ) );
+        return source;
+    }
+}
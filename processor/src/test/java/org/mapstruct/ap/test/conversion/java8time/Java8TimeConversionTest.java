@@ -26,11 +26,13 @@
 import java.util.Calendar;
 import java.util.TimeZone;
 
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mapstruct.ap.testutil.IssueKey;
 import org.mapstruct.ap.testutil.WithClasses;
 import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
 
 import static org.fest.assertions.Assertions.assertThat;
 
@@ -42,6 +44,24 @@
 @IssueKey("121")
 public class Java8TimeConversionTest {
 
+    private final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Rule
+    public GeneratedSource getGeneratedSource() {
+        return generatedSource;
+    }
+
+    @Test
+    public void shouldKeepOneFormatterPerPatternInStaticField() {
+        generatedSource.forMapper( SourceTargetMapper.class ).content()
+            .contains(
+                "private static final DateTimeFormatter DATE_TIME_FORMATTER_DD_MM_YYYY_HH_MM = "
+                    + "DateTimeFormatter.ofPattern( \"dd.MM.yyyy HH:mm\" );"
+            )
+            .contains( "DATE_TIME_FORMATTER_DD_MM_YYYY_HH_MM.format( localDateTime )" )
+            .doesNotContain( "ofPattern( \"dd.MM.yyyy HH:mm\" ).format" );
+    }
+
     @Test
     public void testDateTimeToString() {
         Source src = new Source();
@@ -0,0 +1,74 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.conversion.java8time.mixed;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.joda.time.LocalDate;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+
+/**
+ * Tests a mapper converting Joda-Time and Java 8 date types with the same date format, so the formatter types of both
+ * libraries, which have the same simple name, are used within one generated mapper.
+ *
+ * @author agent
+ */
+@WithClasses({ Source.class, Target.class, SourceTargetMapper.class })
+@RunWith(AnnotationProcessorTestRunner.class)
+public class JodaAndJava8TimeConversionTest {
+
+    @Test
+    public void shouldFormatJodaAndJava8DatesWithSameDateFormat() {
+        Source source = new Source();
+        source.setJodaDate( new LocalDate( 2015, 3, 14 ) );
+        source.setJavaDate( java.time.LocalDate.of( 2015, 4, 15 ) );
+
+        Target target = SourceTargetMapper.INSTANCE.sourceToTarget( source );
+
+        assertThat( target.getJodaDate() ).isEqualTo( "14.03.2015" );
+        assertThat( target.getJavaDate() ).isEqualTo( "15.04.2015" );
+    }
+
+    @Test
+    public void shouldParseJodaAndJava8DatesWithSameDateFormat() {
+        Target target = new Target();
+        target.setJodaDate( "14.03.2015" );
+        target.setJavaDate( "15.04.2015" );
+
+        Source source = SourceTargetMapper.INSTANCE.targetToSource( target );
+
+        assertThat( source.getJodaDate() ).isEqualTo( new LocalDate( 2015, 3, 14 ) );
+        assertThat( source.getJavaDate() ).isEqualTo( java.time.LocalDate.of( 2015, 4, 15 ) );
+    }
+
+    @Test
+    public void shouldFormatJava8DateWithDefaultFormatNextToJodaDate() {
+        Source source = new Source();
+        source.setJodaDate( new LocalDate( 2015, 3, 14 ) );
+        source.setJavaDate( java.time.LocalDate.of( 2015, 4, 15 ) );
+
+        Target target = SourceTargetMapper.INSTANCE.sourceToTargetWithDefaultJavaTimeFormat( source );
+
+        assertThat( target.getJodaDate() ).isEqualTo( "14.03.2015" );
+        assertThat( target.getJavaDate() ).isEqualTo( "2015-04-15" );
+    }
+}
@@ -26,11 +26,13 @@
 import org.joda.time.LocalDate;
 import org.joda.time.LocalDateTime;
 import org.joda.time.LocalTime;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mapstruct.ap.testutil.IssueKey;
 import org.mapstruct.ap.testutil.WithClasses;
 import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
 
 import static org.fest.assertions.Assertions.assertThat;
 
@@ -44,6 +46,24 @@
 @IssueKey("75")
 public class JodaConversionTest {
 
+    private final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Rule
+    public GeneratedSource getGeneratedSource() {
+        return generatedSource;
+    }
+
+    @Test
+    public void shouldKeepOneFormatterPerPatternInStaticField() {
+        generatedSource.forMapper( SourceTargetMapper.class ).content()
+            .contains(
+                "private static final DateTimeFormatter DATE_TIME_FORMATTER_DD_MM_YYYY_HH_MM = "
+                    + "DateTimeFormat.forPattern( \"dd.MM.yyyy HH:mm\" );"
+            )
+            .contains( "DATE_TIME_FORMATTER_DD_MM_YYYY_HH_MM.print( localDateTime )" )
+            .doesNotContain( "forPattern( \"dd.MM.yyyy HH:mm\" ).print" );
+    }
+
     @Test
     public void testDateTimeToString() {
         Source src = new Source();
@@ -0,0 +1,80 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.enums;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Test for enum mapping methods looking up the target constant in a table indexed by the ordinal of the source
+ * constant.
+ *
+ * @author agent
+ */
+@WithClasses({ OrderMapper.class, OrderEntity.class, OrderType.class, OrderDto.class, ExternalOrderType.class })
+@ProcessorOption(name = "mapstruct.enumMappingTables", value = "true")
+@RunWith(AnnotationProcessorTestRunner.class)
+public class EnumMappingTableTest {
+
+    private final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Rule
+    public GeneratedSource getGeneratedSource() {
+        return generatedSource;
+    }
+
+    @Test
+    public void shouldMapEnumConstantsViaTable() {
+        assertThat( OrderMapper.INSTANCE.orderTypeToExternalOrderType( OrderType.B2B ) )
+            .isEqualTo( ExternalOrderType.B2B );
+        assertThat( OrderMapper.INSTANCE.orderTypeToExternalOrderType( OrderType.RETAIL ) )
+            .isEqualTo( ExternalOrderType.RETAIL );
+        assertThat( OrderMapper.INSTANCE.orderTypeToExternalOrderType( OrderType.EXTRA ) )
+            .isEqualTo( ExternalOrderType.SPECIAL );
+        assertThat( OrderMapper.INSTANCE.orderTypeToExternalOrderType( OrderType.STANDARD ) )
+            .isEqualTo( ExternalOrderType.DEFAULT );
+        assertThat( OrderMapper.INSTANCE.orderTypeToExternalOrderType( OrderType.NORMAL ) )
+            .isEqualTo( ExternalOrderType.DEFAULT );
+        assertThat( OrderMapper.INSTANCE.orderTypeToExternalOrderType( null ) ).isNull();
+
+        OrderEntity order = new OrderEntity();
+        order.setOrderType( OrderType.EXTRA );
+        assertThat( OrderMapper.INSTANCE.orderEntityToDto( order ).getOrderType() )
+            .isEqualTo( ExternalOrderType.SPECIAL );
+
+        generatedSource.forMapper( OrderMapper.class )
+            .content()
+            .contains(
+                "private static final ExternalOrderType[] EXTERNAL_ORDER_TYPE_BY_ORDER_TYPE = "
+                    + "new ExternalOrderType[OrderType.values().length];"
+            )
+            .contains( "EXTERNAL_ORDER_TYPE_BY_ORDER_TYPE[OrderType.EXTRA.ordinal()] = ExternalOrderType.SPECIAL;" )
+            .contains(
+                "ExternalOrderType externalOrderType = EXTERNAL_ORDER_TYPE_BY_ORDER_TYPE[orderType.ordinal()];"
+            )
+            .doesNotContain( "switch" );
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.jsr330;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests the injection of used mappers into mappers generated for the {@code jsr330} component model.
+ *
+ * @author agent
+ */
+@WithClasses({
+    Source.class,
+    Target.class,
+    NameMapper.class,
+    ReferencingMapper.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class Jsr330MapperReferenceTest {
+
+    private final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Rule
+    public GeneratedSource getGeneratedSource() {
+        return generatedSource;
+    }
+
+    @Test
+    public void shouldInjectUsedMapperIntoFieldByDefault() {
+        generatedSource.forMapper( ReferencingMapper.class ).content()
+            .contains( "    @Inject\n    private NameMapper nameMapper;" )
+            .doesNotContain( "new NameMapper()" )
+            .doesNotContain( "public ReferencingMapperImpl(" );
+    }
+
+    @Test
+    @ProcessorOption(name = "mapstruct.constructorInjection", value = "true")
+    public void shouldInjectUsedMapperViaConstructorIfEnabled() throws Exception {
+        generatedSource.forMapper( ReferencingMapper.class ).content()
+            .contains( "    private final NameMapper nameMapper;" )
+            .contains(
+                "    @Inject\n"
+                    + "    public ReferencingMapperImpl(NameMapper nameMapper) {\n"
+                    + "        this.nameMapper = nameMapper;\n"
+                    + "    }"
+            )
+            .doesNotContain( "ReferencingMapperImpl() {" );
+
+        ReferencingMapper mapper = (ReferencingMapper) Class.forName( ReferencingMapper.class.getName() + "Impl" )
+            .getConstructor( NameMapper.class )
+            .newInstance( new NameMapper() );
+
+        Source source = new Source();
+        source.setName( " Bob " );
+
+        assertThat( mapper.sourceToTarget( source ).getName() ).isEqualTo( "Bob" );
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.jsr330;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests the scope of mappers generated for the {@code jsr330} component model.
+ *
+ * @author agent
+ */
+@WithClasses({
+    Source.class,
+    Target.class,
+    SourceTargetMapper.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class Jsr330SingletonTest {
+
+    private final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Rule
+    public GeneratedSource getGeneratedSource() {
+        return generatedSource;
+    }
+
+    @Test
+    public void shouldAnnotateMapperAsSingletonByDefault() {
+        generatedSource.forMapper( SourceTargetMapper.class ).content()
+            .contains( "import javax.inject.Singleton;" )
+            .contains( "@Named\n@Singleton\npublic class SourceTargetMapperImpl" );
+    }
+
+    @Test
+    @ProcessorOption(name = "mapstruct.jsr330Singletons", value = "false")
+    public void shouldNotAnnotateMapperAsSingletonIfDisabled() {
+        generatedSource.forMapper( SourceTargetMapper.class ).content()
+            .contains( "@Named\npublic class SourceTargetMapperImpl" )
+            .doesNotContain( "Singleton" );
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.methodsplit;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.Mappings;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface CustomerMapper {
+
+    CustomerMapper INSTANCE = Mappers.getMapper( CustomerMapper.class );
+
+    @Mappings({
+        @Mapping(target = "street", source = "address.street"),
+        @Mapping(target = "city", source = "address.city"),
+        @Mapping(target = "origin", constant = "customer"),
+        @Mapping(target = "orderNumber", ignore = true),
+        @Mapping(target = "amount", ignore = true)
+    })
+    CustomerDto map(Customer customer);
+
+    @Mappings({
+        @Mapping(target = "street", source = "address.street"),
+        @Mapping(target = "city", source = "address.city"),
+        @Mapping(target = "origin", constant = "customer"),
+        @Mapping(target = "orderNumber", ignore = true),
+        @Mapping(target = "amount", ignore = true)
+    })
+    void map(Customer customer, @MappingTarget CustomerDto customerDto);
+
+    @Mappings({
+        @Mapping(target = "street", source = "customer.address.street"),
+        @Mapping(target = "city", source = "customer.address.city"),
+        @Mapping(target = "origin", constant = "order")
+    })
+    CustomerDto customerAndOrderToDto(Customer customer, Order order);
+}
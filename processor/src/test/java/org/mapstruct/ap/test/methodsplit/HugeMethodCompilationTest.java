@@ -0,0 +1,240 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.methodsplit;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.mapstruct.ap.MappingProcessor;
+
+/**
+ * Runs a mapper with a huge mapping method with {@code -XX:+PrintCompilation} and checks whether HotSpot JIT-compiles
+ * it. Methods larger than 8000 bytes of byte code are never compiled, so the mapping method must be split into helper
+ * methods. The mapper is generated on the fly as the beans involved have several hundred properties.
+ *
+ * @author agent
+ */
+public class HugeMethodCompilationTest {
+
+    private static final int PROPERTY_COUNT = 400;
+    private static final String PACKAGE_NAME = "huge";
+    private static final List<String> LIBRARIES = Arrays.asList( "mapstruct.jar", "joda-time.jar" );
+
+    @Before
+    public void assumeHotSpot() {
+        String vmName = System.getProperty( "java.vm.name" );
+        Assume.assumeTrue( vmName.contains( "HotSpot" ) || vmName.contains( "OpenJDK" ) );
+    }
+
+    @Test
+    public void shouldCompileSplitMappingMethod() throws Exception {
+        File classes = compileMapper( "split", null );
+        List<String> compiledMethods = getCompiledMethods( classes );
+
+        assertThat( compiledMethods ).contains( "huge.HugeMapperImpl::map", "huge.HugeMapperImpl::mapProperties0" );
+    }
+
+    @Test
+    public void shouldNotCompileHugeMappingMethod() throws Exception {
+        File classes = compileMapper( "unsplit", "0" );
+        List<String> compiledMethods = getCompiledMethods( classes );
+
+        assertThat( compiledMethods ).excludes( "huge.HugeMapperImpl::map" );
+    }
+
+    private File compileMapper(String name, String splitThreshold) throws IOException {
+        File baseDir = new File( getBasePath(), "target/method-split-tests/" + name );
+        File sourceDir = new File( baseDir, "src" );
+        File generatedSourceDir = new File( baseDir, "generated-sources" );
+        File classDir = new File( baseDir, "classes" );
+
+        List<File> sourceFiles = Arrays.asList(
+            writeBean( sourceDir, "Source", "Integer" ),
+            writeBean( sourceDir, "Target", "Long" ),
+            writeSource(
+                sourceDir,
+                "HugeMapper",
+                "@org.mapstruct.Mapper\npublic interface HugeMapper {\n\n    Target map(Source source);\n}\n"
+            ),
+            writeSource(
+                sourceDir,
+                "Main",
+                "public class Main {\n\n"
+                    + "    public static void main(String[] args) {\n"
+                    + "        HugeMapper mapper = new HugeMapperImpl();\n"
+                    + "        Source source = new Source();\n"
+                    + "        source.setP0( 42 );\n"
+                    + "        long sum = 0;\n"
+                    + "        for ( int i = 0; i < 100000; i++ ) {\n"
+                    + "            sum += mapper.map( source ).getP0();\n"
+                    + "        }\n"
+                    + "        System.out.println( sum );\n"
+                    + "    }\n"
+                    + "}\n"
+            )
+        );
+
+        generatedSourceDir.mkdirs();
+        classDir.mkdirs();
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, null );
+        fileManager.setLocation( StandardLocation.CLASS_PATH, getLibraries() );
+        fileManager.setLocation( StandardLocation.CLASS_OUTPUT, Arrays.asList( classDir ) );
+        fileManager.setLocation( StandardLocation.SOURCE_OUTPUT, Arrays.asList( generatedSourceDir ) );
+
+        List<String> options = new ArrayList<String>();
+        if ( splitThreshold != null ) {
+            options.add( "-Amapstruct.methodSplitThreshold=" + splitThreshold );
+        }
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+        CompilationTask task = compiler.getTask(
+            null,
+            fileManager,
+            diagnostics,
+            options,
+            null,
+            fileManager.getJavaFileObjectsFromFiles( sourceFiles )
+        );
+        task.setProcessors( Arrays.asList( new MappingProcessor() ) );
+
+        assertThat( task.call() ).describedAs( diagnostics.getDiagnostics().toString() ).isTrue();
+        assertThat( hasSplitNote( diagnostics ) ).isEqualTo( splitThreshold == null );
+
+        fileManager.close();
+        return classDir;
+    }
+
+    private boolean hasSplitNote(DiagnosticCollector<JavaFileObject> diagnostics) {
+        for ( Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics() ) {
+            if ( diagnostic.getKind() == Diagnostic.Kind.NOTE
+                && diagnostic.getMessage( null ).startsWith( "Split mapping method" ) ) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Runs the generated mapper in a new VM and returns the methods of the mapper implementation listed by
+     * {@code -XX:+PrintCompilation}, e.g. {@code huge.HugeMapperImpl::map}.
+     */
+    private List<String> getCompiledMethods(File classDir) throws Exception {
+        Process process = new ProcessBuilder(
+            new File( System.getProperty( "java.home" ), "bin/java" ).getPath(),
+            "-XX:+PrintCompilation",
+            "-cp",
+            classDir.getPath() + File.pathSeparator + getLibraries().get( 0 ).getPath(),
+            PACKAGE_NAME + ".Main"
+        )
+            .redirectErrorStream( true )
+            .start();
+
+        List<String> compiledMethods = new ArrayList<String>();
+        BufferedReader reader = new BufferedReader( new InputStreamReader( process.getInputStream(), "UTF-8" ) );
+        try {
+            String line;
+            while ( ( line = reader.readLine() ) != null ) {
+                for ( String token : line.trim().split( "\\s+" ) ) {
+                    if ( token.startsWith( PACKAGE_NAME + ".HugeMapperImpl::" ) ) {
+                        compiledMethods.add( token );
+                    }
+                }
+            }
+        }
+        finally {
+            reader.close();
+        }
+
+        assertThat( process.waitFor() ).isEqualTo( 0 );
+        return compiledMethods;
+    }
+
+    private File writeBean(File sourceDir, String name, String propertyType) throws IOException {
+        StringBuilder source = new StringBuilder( "public class " ).append( name ).append( " {\n" );
+
+        for ( int i = 0; i < PROPERTY_COUNT; i++ ) {
+            source.append( "\n    private " ).append( propertyType ).append( " p" ).append( i ).append( ";\n" )
+                .append( "\n    public " ).append( propertyType ).append( " getP" ).append( i ).append( "() {\n" )
+                .append( "        return p" ).append( i ).append( ";\n    }\n" )
+                .append( "\n    public void setP" ).append( i ).append( "(" ).append( propertyType )
+                .append( " p" ).append( i ).append( ") {\n" )
+                .append( "        this.p" ).append( i ).append( " = p" ).append( i ).append( ";\n    }\n" );
+        }
+
+        return writeSource( sourceDir, name, source.append( "}\n" ).toString() );
+    }
+
+    private File writeSource(File sourceDir, String name, String body) throws IOException {
+        File packageDir = new File( sourceDir, PACKAGE_NAME );
+        packageDir.mkdirs();
+
+        File sourceFile = new File( packageDir, name + ".java" );
+        Writer writer = new OutputStreamWriter( new FileOutputStream( sourceFile ), "UTF-8" );
+        try {
+            writer.write( "package " + PACKAGE_NAME + ";\n\n" + body );
+        }
+        finally {
+            writer.close();
+        }
+
+        return sourceFile;
+    }
+
+    private List<File> getLibraries() {
+        List<File> libraries = new ArrayList<File>();
+        for ( String library : LIBRARIES ) {
+            libraries.add( new File( getBasePath(), "target/test-dependencies/" + library ) );
+        }
+
+        return libraries;
+    }
+
+    private static String getBasePath() {
+        try {
+            return new File( "." ).getCanonicalPath();
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.methodsplit;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests the splitting of mapping methods exceeding the configured size threshold into helper methods.
+ *
+ * @author agent
+ */
+@WithClasses({ Address.class, Customer.class, CustomerDto.class, CustomerMapper.class, Order.class })
+@ProcessorOption(name = "mapstruct.methodSplitThreshold", value = "20")
+@RunWith(AnnotationProcessorTestRunner.class)
+public class MethodSplitTest {
+
+    private final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Rule
+    public GeneratedSource getGeneratedSource() {
+        return generatedSource;
+    }
+
+    @Test
+    public void shouldMoveMappingsIntoHelperMethods() {
+        generatedSource.forMapper( CustomerMapper.class ).content()
+            .contains( "private void mapProperties0(Customer customer, CustomerDto customerDto) {" )
+            .contains( "mapProperties0( customer, customerDto );" )
+            .contains( "private void mapProperties3(Customer customer, CustomerDto customerDto) {" )
+            .contains( "mapProperties3( customer, customerDto );" )
+            .contains( "private void customerAndOrderToDtoProperties0(Customer customer, Order order, "
+                + "CustomerDto customerDto) {" )
+            .contains( "customerAndOrderToDtoProperties0( customer, order, customerDto );" );
+    }
+
+    @Test
+    public void shouldKeepMappingsOfSharedSourcePathsInMappingMethod() {
+        generatedSource.forMapper( CustomerMapper.class ).content()
+            .contains( "Address address = customerAddress( customer );\n"
+                + "        customerDto.setCity( addressCity( address ) );\n"
+                + "        customerDto.setStreet( addressStreet( address ) );\n"
+                + "        mapProperties0( customer, customerDto );" );
+    }
+
+    @Test
+    @ProcessorOption(name = "mapstruct.methodSplitThreshold", value = "0")
+    public void shouldNotSplitMappingMethodsIfDisabled() {
+        generatedSource.forMapper( CustomerMapper.class ).content()
+            .excludes( "Properties0" );
+
+        assertCustomerProperties( CustomerMapper.INSTANCE.map( createCustomer() ) );
+    }
+
+    @Test
+    public void shouldMapPropertiesInHelperMethods() {
+        CustomerDto dto = CustomerMapper.INSTANCE.map( createCustomer() );
+
+        assertCustomerProperties( dto );
+        assertThat( dto.getOrigin() ).isEqualTo( "customer" );
+    }
+
+    @Test
+    public void shouldMapPropertiesInHelperMethodsOntoExistingInstance() {
+        CustomerDto dto = new CustomerDto();
+        CustomerMapper.INSTANCE.map( createCustomer(), dto );
+
+        assertCustomerProperties( dto );
+        assertThat( dto.getOrigin() ).isEqualTo( "customer" );
+    }
+
+    @Test
+    public void shouldMapPropertiesOfSeveralSourcesInHelperMethods() {
+        Order order = new Order();
+        order.setOrderNumber( "42-A" );
+        order.setAmount( 3 );
+
+        CustomerDto dto = CustomerMapper.INSTANCE.customerAndOrderToDto( createCustomer(), order );
+
+        assertCustomerProperties( dto );
+        assertThat( dto.getOrderNumber() ).isEqualTo( "42-A" );
+        assertThat( dto.getAmount() ).isEqualTo( 3L );
+        assertThat( dto.getOrigin() ).isEqualTo( "order" );
+
+        dto = CustomerMapper.INSTANCE.customerAndOrderToDto( null, order );
+
+        assertThat( dto.getName() ).isNull();
+        assertThat( dto.getOrderNumber() ).isEqualTo( "42-A" );
+    }
+
+    private Customer createCustomer() {
+        Address address = new Address();
+        address.setStreet( "Main Street" );
+        address.setCity( "Springfield" );
+
+        Customer customer = new Customer();
+        customer.setName( "Simpson" );
+        customer.setFirstName( "Homer" );
+        customer.setEmail( "homer@example.com" );
+        customer.setAge( 39 );
+        customer.setAddress( address );
+
+        return customer;
+    }
+
+    private void assertCustomerProperties(CustomerDto dto) {
+        assertThat( dto.getName() ).isEqualTo( "Simpson" );
+        assertThat( dto.getFirstName() ).isEqualTo( "Homer" );
+        assertThat( dto.getEmail() ).isEqualTo( "homer@example.com" );
+        assertThat( dto.getAge() ).isEqualTo( 39L );
+        assertThat( dto.getStreet() ).isEqualTo( "Main Street" );
+        assertThat( dto.getCity() ).isEqualTo( "Springfield" );
+    }
+}
@@ -20,6 +20,7 @@
 
 import java.util.Arrays;
 
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mapstruct.ap.test.nestedsourceproperties._target.AdderUsageObserver;
@@ -33,6 +34,7 @@
 import org.mapstruct.ap.testutil.IssueKey;
 import org.mapstruct.ap.testutil.WithClasses;
 import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
 
 import static org.fest.assertions.Assertions.assertThat;
 
@@ -51,6 +53,13 @@
 @RunWith(AnnotationProcessorTestRunner.class)
 public class NestedSourcePropertiesTest {
 
+    private final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Rule
+    public GeneratedSource getGeneratedSource() {
+        return generatedSource;
+    }
+
     @Test
     @WithClasses({ ArtistToChartEntry.class })
     public void shouldGenerateImplementationForPropertyNamesOnly() {
@@ -117,6 +126,33 @@ public void shouldGenerateImplementationForMultipleParam() {
         assertThat( chartEntry.getSongTitle() ).isEqualTo( "A Hard Day's Night" );
     }
 
+    @Test
+    @WithClasses({ ArtistToChartEntry.class })
+    public void shouldReadSharedNestedSourcePathsOnce() {
+        generatedSource.forMapper( ArtistToChartEntry.class ).content()
+            .contains( "Artist artist = songArtist( song );" )
+            .contains( "Studio artistLabelStudio = artistLabelStudio( artist );" )
+            .contains( "chartEntry.setCity( artistLabelStudioCity( artistLabelStudio ) );" )
+            .contains( "chartEntry.setRecordedAt( artistLabelStudioName( artistLabelStudio ) );" )
+            .contains( "chartEntry.setArtistName( artistName( artist ) );" );
+    }
+
+    @Test
+    @WithClasses({ ArtistToChartEntry.class })
+    public void shouldMapNullForNestedPropertiesOfNullSharedSourcePath() {
+
+        Song song = new Song();
+        song.setTitle( "A Hard Day's Night" );
+
+        ChartEntry chartEntry = ArtistToChartEntry.MAPPER.map( song );
+
+        assertThat( chartEntry ).isNotNull();
+        assertThat( chartEntry.getSongTitle() ).isEqualTo( "A Hard Day's Night" );
+        assertThat( chartEntry.getArtistName() ).isNull();
+        assertThat( chartEntry.getCity() ).isNull();
+        assertThat( chartEntry.getRecordedAt() ).isNull();
+    }
+
     @Test
     @WithClasses({ ArtistToChartEntry.class })
     public void shouldPickPropertyNameOverParameterName() {
@@ -0,0 +1,42 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.nullcheck.localvariable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Base class for beans counting the invocations of their getters.
+ *
+ * @author agent
+ */
+public abstract class InvocationCounting {
+
+    private final Map<String, Integer> invocations = new HashMap<String, Integer>();
+
+    protected void invoked(String getterName) {
+        Integer count = invocations.get( getterName );
+        invocations.put( getterName, count == null ? 1 : count + 1 );
+    }
+
+    public int invocationCount(String getterName) {
+        Integer count = invocations.get( getterName );
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.nullcheck.localvariable;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests that null-checked source properties are read into a local variable once instead of invoking the getter for
+ * the null check and again for the assignment.
+ *
+ * @author agent
+ */
+@WithClasses({
+    InvocationCounting.class,
+    Address.class,
+    Source.class,
+    Target.class,
+    SourceTargetMapper.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class NullCheckLocalVariableTest {
+
+    private final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Rule
+    public GeneratedSource getGeneratedSource() {
+        return generatedSource;
+    }
+
+    @Test
+    public void shouldInvokeEachGetterOnlyOnce() {
+        Address address = new Address();
+        address.setZipCode( "12345" );
+
+        Source source = new Source();
+        source.setNumber( "42" );
+        source.setTags( Arrays.asList( "a", "b" ) );
+        String[] codes = new String[] { "x", "y" };
+        source.setCodes( codes );
+        source.setAddress( address );
+
+        Target target = SourceTargetMapper.INSTANCE.sourceToTarget( source );
+
+        assertThat( target.getNumber() ).isEqualTo( 42 );
+        assertThat( target.getNumberAsLong() ).isEqualTo( 42L );
+        assertThat( target.getTags() ).containsExactly( "a", "b" );
+        assertThat( target.getCodes() ).containsOnly( "x", "y" );
+        assertThat( target.getCodes() ).isNotSameAs( codes );
+        assertThat( target.getZipCode() ).isEqualTo( 12345 );
+
+        // mapped to two target properties, hence read twice
+        assertThat( source.invocationCount( "getNumber" ) ).isEqualTo( 2 );
+        assertThat( source.invocationCount( "getTags" ) ).isEqualTo( 1 );
+        assertThat( source.invocationCount( "getCodes" ) ).isEqualTo( 1 );
+        assertThat( source.invocationCount( "getAddress" ) ).isEqualTo( 1 );
+        assertThat( address.invocationCount( "getZipCode" ) ).isEqualTo( 1 );
+    }
+
+    @Test
+    public void shouldNotMapNullValues() {
+        Target target = SourceTargetMapper.INSTANCE.sourceToTarget( new Source() );
+
+        assertThat( target.getNumber() ).isNull();
+        assertThat( target.getNumberAsLong() ).isNull();
+        assertThat( target.getTags() ).isNull();
+        assertThat( target.getCodes() ).isNull();
+        assertThat( target.getZipCode() ).isNull();
+    }
+
+    @Test
+    public void shouldDeclareUniqueLocalVariables() {
+        generatedSource.forMapper( SourceTargetMapper.class ).content()
+            .contains( "String number = source.getNumber();" )
+            .contains( "String number_ = source.getNumber();" )
+            .contains( "String addressZipCode = sourceAddressZipCode( source );" )
+            .contains( "if ( addressZipCode != null ) {" );
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.nullcheck.localvariable;
+
+import java.util.List;
+
+/**
+ * @author agent
+ */
+public class Source extends InvocationCounting {
+
+    private String number;
+    private List<String> tags;
+    private String[] codes;
+    private Address address;
+
+    public String getNumber() {
+        invoked( "getNumber" );
+        return number;
+    }
+
+    public void setNumber(String number) {
+        this.number = number;
+    }
+
+    public List<String> getTags() {
+        invoked( "getTags" );
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public String[] getCodes() {
+        invoked( "getCodes" );
+        return codes;
+    }
+
+    public void setCodes(String[] codes) {
+        this.codes = codes;
+    }
+
+    public Address getAddress() {
+        invoked( "getAddress" );
+        return address;
+    }
+
+    public void setAddress(Address address) {
+        this.address = address;
+    }
+}
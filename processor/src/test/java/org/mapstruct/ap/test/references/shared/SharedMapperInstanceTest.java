@@ -0,0 +1,107 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.references.shared;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.lang.reflect.Field;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Tests that {@link Mappers} and thus references to mappers of the default component model obtain the shared instance
+ * of the referenced mapper and that decorators obtain the shared instance of the decorated mapper.
+ *
+ * @author agent
+ */
+@WithClasses({
+    Address.class,
+    AddressDto.class,
+    Customer.class,
+    CustomerDto.class,
+    AddressMapper.class,
+    AddressMapperDecorator.class,
+    CustomerMapper.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class SharedMapperInstanceTest {
+
+    private final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Rule
+    public GeneratedSource getGeneratedSource() {
+        return generatedSource;
+    }
+
+    @Test
+    public void shouldReferenceSharedInstanceOfUsedMapper() throws Exception {
+        generatedSource.forMapper( CustomerMapper.class ).content()
+            .contains( "private final AddressMapper addressMapper = Mappers.getMapper( AddressMapper.class );" )
+            .contains( "public static CustomerMapperImpl getSharedInstance()" );
+
+        Object mapper = newInstance( CustomerMapper.class, "Impl" );
+        Object anotherMapper = newInstance( CustomerMapper.class, "Impl" );
+
+        assertThat( getField( anotherMapper, "addressMapper" ) ).isSameAs( getField( mapper, "addressMapper" ) );
+        assertThat( getField( mapper, "addressMapper" ) ).isSameAs( getSharedInstance( AddressMapper.class, "Impl" ) );
+        assertThat( Mappers.getMapper( CustomerMapper.class ) )
+            .isSameAs( getSharedInstance( CustomerMapper.class, "Impl" ) );
+    }
+
+    @Test
+    public void shouldDecorateSharedInstanceOfDecoratedMapper() throws Exception {
+        Object mapper = newInstance( AddressMapper.class, "Impl" );
+        Object anotherMapper = newInstance( AddressMapper.class, "Impl" );
+
+        assertThat( getField( anotherMapper, "delegate" ) ).isSameAs( getField( mapper, "delegate" ) );
+        assertThat( getField( mapper, "delegate" ) ).isSameAs( getSharedInstance( AddressMapper.class, "Impl_" ) );
+    }
+
+    @Test
+    public void shouldApplyDecoratorOfSharedInstance() {
+        Address address = new Address();
+        address.setStreet( "Ocean View Drive" );
+        Customer customer = new Customer();
+        customer.setAddress( address );
+
+        CustomerDto dto = Mappers.getMapper( CustomerMapper.class ).customerToDto( customer );
+
+        assertThat( dto.getAddress().getStreet() ).isEqualTo( "OCEAN VIEW DRIVE" );
+    }
+
+    private Object getField(Object mapper, String name) throws Exception {
+        Field field = mapper.getClass().getDeclaredField( name );
+        field.setAccessible( true );
+        return field.get( mapper );
+    }
+
+    private Object newInstance(Class<?> mapperType, String suffix) throws Exception {
+        return Class.forName( mapperType.getName() + suffix ).newInstance();
+    }
+
+    private Object getSharedInstance(Class<?> mapperType, String suffix) throws Exception {
+        return Class.forName( mapperType.getName() + suffix ).getMethod( "getSharedInstance" ).invoke( null );
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ *  Copyright 2012-2015 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.registry;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.factory.MapperRegistry;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Tests the generation of the registry obtaining the generated mappers without reflection.
+ *
+ * @author agent
+ */
+@WithClasses({
+    Car.class,
+    CarDto.class,
+    CarMapper.class,
+    DecoratedCarMapper.class,
+    DecoratedCarMapperDecorator.class,
+    HiddenCarMapper.class,
+    Jsr330CarMapper.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class MapperRegistryTest {
+
+    @Test
+    public void shouldListPublicMappersOfDefaultComponentModel() throws Exception {
+        InputStream mappers = Thread.currentThread().getContextClassLoader()
+            .getResourceAsStream( "META-INF/mapstruct/mappers" );
+        assertThat( mappers ).isNotNull();
+
+        List<String> lines = new ArrayList<String>();
+        BufferedReader reader = new BufferedReader( new InputStreamReader( mappers, "UTF-8" ) );
+        try {
+            String line;
+            while ( ( line = reader.readLine() ) != null ) {
+                lines.add( line );
+            }
+        }
+        finally {
+            reader.close();
+        }
+
+        assertThat( lines ).containsExactly(
+            CarMapper.class.getName() + "=" + CarMapper.class.getName() + "Impl",
+            DecoratedCarMapper.class.getName() + "=" + DecoratedCarMapper.class.getName() + "Impl"
+        );
+    }
+
+    @Test
+    public void shouldReturnSharedInstancesOfRegisteredMappers() {
+        MapperRegistry registry = getRegistry();
+
+        assertThat( registry.getMapper( CarMapper.class.getName() ) ).isInstanceOf( CarMapper.class );
+        assertThat( registry.getMapper( DecoratedCarMapper.class.getName() ) )
+            .isInstanceOf( DecoratedCarMapperDecorator.class );
+        assertThat( registry.getMapper( CarMapper.class.getName() ) )
+            .isSameAs( registry.getMapper( CarMapper.class.getName() ) );
+        assertThat( registry.getMapper( CarMapper.class.getName() ) ).isSameAs( Mappers.getMapper( CarMapper.class ) );
+    }
+
+    @Test
+    public void shouldNotRegisterOtherMappers() {
+        MapperRegistry registry = getRegistry();
+
+        assertThat( registry.getMapper( HiddenCarMapper.class.getName() ) ).isNull();
+        assertThat( registry.getMapper( Jsr330CarMapper.class.getName() ) ).isNull();
+        assertThat( registry.getMapper( Car.class.getName() ) ).isNull();
+    }
+
+    @Test
+    public void shouldObtainMappersViaRegistry() {
+        Car car = new Car();
+        car.setMake( "Morris" );
+
+        assertThat( Mappers.getMapper( DecoratedCarMapper.class ).carToDto( car ).getMake() ).isEqualTo( "MORRIS" );
+        assertThat( Mappers.getMapper( CarMapper.class ).carToDto( car ).getMake() ).isEqualTo( "Morris" );
+    }
+
+    private MapperRegistry getRegistry() {
+        Iterator<MapperRegistry> registries = ServiceLoader.load(
+            MapperRegistry.class,
+            Thread.currentThread().getContextClassLoader()
+        )
+            .iterator();
+
+        assertThat( registries.hasNext() ).isTrue();
+        MapperRegistry registry = registries.next();
+        assertThat( registries.hasNext() ).isFalse();
+
+        return registry;
+    }
+}